@@ -0,0 +1,61 @@
+package com.group16.benchmarks;
+
+import com.group16.model.area.IslandMapGenerator;
+import com.group16.model.area.MapTextParser;
+import org.openjdk.jmh.annotations.*;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares {@link IslandMapGenerator#loadTableFromFile}, which splits every line into strings,
+ * with the byte-level {@link MapTextParser} on generated square maps.
+ * The largest size is above the parser's parallel threshold.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class MapParsingBenchmark {
+
+    /** Side of the generated map in tiles */
+    @Param({"64", "512", "2048"})
+    public int size;
+
+    private Path file;
+
+    @Setup
+    public void writeMap() throws IOException {
+        Random random = new Random(16);
+        StringBuilder text = new StringBuilder(size * size * 2);
+        for (int y = 0; y < size; y++) {
+            for (int x = 0; x < size; x++) {
+                if (x > 0) text.append(' ');
+                text.append(random.nextInt(3));
+            }
+            text.append('\n');
+        }
+        file = Files.createTempFile("map", ".txt");
+        Files.writeString(file, text);
+    }
+
+    @TearDown
+    public void deleteMap() throws IOException {
+        Files.deleteIfExists(file);
+    }
+
+    @Benchmark
+    public int[][] splitLines() throws IOException {
+        return IslandMapGenerator.loadTableFromFile(file.toString());
+    }
+
+    @Benchmark
+    public MapTextParser.ParsedMap byteParser() throws IOException {
+        return MapTextParser.parse(file);
+    }
+}
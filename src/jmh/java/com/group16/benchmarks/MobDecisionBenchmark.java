@@ -0,0 +1,76 @@
+package com.group16.benchmarks;
+
+import com.group16.controller.config.GameConfig;
+import com.group16.model.area.Island;
+import com.group16.model.area.tiles.TileGrid;
+import com.group16.model.area.tiles.TileType;
+import com.group16.model.entity.actors.Mobs;
+import com.group16.model.entity.actors.Player;
+import com.group16.model.utils.maths.Vector;
+import org.openjdk.jmh.annotations.*;
+
+import java.io.IOException;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures island updates with many mobs, with their decisions computed one after another or on the
+ * island's fork-join pool, to place {@link GameConfig#PARALLEL_MOB_THRESHOLD}.
+ * The player stands on a rock cut off by water, so the mobs wander around it forever instead of
+ * killing it and stopping.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class MobDecisionBenchmark {
+
+    /** Side of the island in tiles, as large as the active chunks around the player */
+    private static final int SIZE = 224;
+
+    /** Number of mobs on the island; about one in eight acts on each update */
+    @Param({"64", "512", "4096"})
+    public int mobs;
+
+    /** True to decide on the pool whatever the number of acting mobs, false to never use it */
+    @Param({"false", "true"})
+    public boolean parallel;
+
+    private Island island;
+
+    @Setup
+    public void populate() throws IOException {
+        TileGrid grid = new TileGrid(SIZE, SIZE);
+        int center = SIZE / 2;
+        for (int y = 0; y < SIZE; y++) {
+            for (int x = 0; x < SIZE; x++) {
+                int distance = Math.max(Math.abs(x - center), Math.abs(y - center));
+                if (distance != 1) grid.setType(grid.index(x, y), TileType.SAND);
+            }
+        }
+        island = new Island(grid);
+        Player player = new Player(island, new Vector(center, center));
+        island.addPlayer(player);
+
+        Random random = new Random(16);
+        for (int placed = 0; placed < mobs; ) {
+            int x = random.nextInt(SIZE);
+            int y = random.nextInt(SIZE);
+            if (Math.max(Math.abs(x - center), Math.abs(y - center)) <= 1 || !island.isWalkable(x, y)) continue;
+            Mobs mob = new Mobs(island, new Vector(x, y), player);
+            island.placeEntity(x, y, mob);
+            island.addEntity(mob);
+            placed++;
+        }
+        island.flushEntityCommands();
+        island.setParallelMobThreshold(parallel ? 0 : Integer.MAX_VALUE);
+    }
+
+    @Benchmark
+    public long update() {
+        island.update(GameConfig.SIMULATION_STEP_NS);
+        return island.getTick();
+    }
+}
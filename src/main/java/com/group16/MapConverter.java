@@ -0,0 +1,37 @@
+package com.group16;
+
+import com.group16.model.area.IslandMapGenerator;
+import com.group16.model.area.MapFile;
+
+import java.io.IOException;
+import java.nio.file.Path;
+
+/**
+ * Command-line tool converting text map designs into binary map files.
+ * <p>
+ * Each argument is a text map such as {@code src/main/resources/MapDesign1.txt}; the binary map is written
+ * next to it with the {@value MapFile#EXTENSION} extension, border and hills already computed.
+ */
+public class MapConverter {
+
+    /**
+     * Converts the given text maps.
+     *
+     * @param args paths of the text maps to convert
+     * @throws IOException if a map cannot be read or written
+     */
+    public static void main(String[] args) throws IOException {
+        if (args.length == 0) {
+            System.err.println("Usage: MapConverter <map.txt>...");
+            return;
+        }
+
+        for (String fileName : args) {
+            String base = fileName.endsWith(".txt") ? fileName.substring(0, fileName.length() - 4) : fileName;
+            Path target = Path.of(base + MapFile.EXTENSION);
+
+            new IslandMapGenerator(fileName).save(target);
+            System.out.println(fileName + " -> " + target);
+        }
+    }
+}
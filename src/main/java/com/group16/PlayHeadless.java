@@ -0,0 +1,38 @@
+package com.group16;
+
+import com.group16.controller.HeadlessGame;
+
+import java.io.IOException;
+
+/**
+ * Entry point running JavIsland without a window, e.g. on a server or for soak tests.
+ * <p>
+ * Runs the game on the given map at the simulation rate, or as fast as possible with {@code --fast},
+ * until the given number of ticks ran or the player died.
+ */
+public class PlayHeadless {
+
+    /**
+     * Runs a headless game.
+     *
+     * @param args the map to load, the number of ticks to run, then optionally {@code --fast}
+     * @throws IOException if the map cannot be read
+     */
+    public static void main(String[] args) throws IOException {
+        if (args.length < 2) {
+            System.err.println("Usage: PlayHeadless <map> <ticks> [--fast]");
+            return;
+        }
+
+        HeadlessGame game = new HeadlessGame(args[0]);
+        long maxTicks = Long.parseLong(args[1]);
+        boolean fast = args.length > 2 && args[2].equals("--fast");
+
+        long start = System.nanoTime();
+        long ticks = fast ? game.runAsFastAsPossible(maxTicks) : game.runAtFixedRate(maxTicks);
+        long millis = (System.nanoTime() - start) / 1_000_000;
+
+        System.out.println(ticks + " ticks in " + millis + " ms, wave " + game.getGameLogic().getWaveNumber()
+                + (game.getGameLogic().isGameOver() ? ", game over" : ""));
+    }
+}
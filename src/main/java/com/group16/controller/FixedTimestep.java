@@ -0,0 +1,81 @@
+package com.group16.controller;
+
+/**
+ * Accumulator turning the irregular time between two rendered frames into a whole number of
+ * fixed-length simulation steps. Time is kept in {@code long} nanoseconds, so nothing drifts however long
+ * the game runs, and every step advances the simulation by exactly the same amount whatever the frame rate.
+ * <p>
+ * After a stall (a slow step, the window being dragged, a breakpoint) at most a given number of steps are run
+ * to catch up; the time beyond is dropped, so the game slows down instead of freezing while it replays
+ * every missed step.
+ */
+public class FixedTimestep {
+
+    private final long stepNanos;
+    private final int maxStepsPerFrame;
+
+    /** Time elapsed but not yet simulated, less than one step between calls to {@link #advance} */
+    private long accumulator;
+
+    /** Total time dropped by the catch-up cap */
+    private long droppedNanos;
+
+    /**
+     * Constructs a timestep.
+     *
+     * @param stepNanos        simulated time per step, in nanoseconds
+     * @param maxStepsPerFrame most steps run for one frame
+     */
+    public FixedTimestep(long stepNanos, int maxStepsPerFrame) {
+        if (stepNanos <= 0 || maxStepsPerFrame <= 0) {
+            throw new IllegalArgumentException("Step and catch-up cap must be positive");
+        }
+        this.stepNanos = stepNanos;
+        this.maxStepsPerFrame = maxStepsPerFrame;
+    }
+
+    /**
+     * Adds the real time elapsed since the last frame.
+     *
+     * @param elapsedNanos time since the previous call, in nanoseconds
+     * @return the number of simulation steps to run now
+     */
+    public int advance(long elapsedNanos) {
+        accumulator += Math.max(0, elapsedNanos);
+
+        long steps = accumulator / stepNanos;
+        if (steps > maxStepsPerFrame) {
+            // Keep the fraction of a step, drop the whole steps beyond the cap
+            long dropped = (steps - maxStepsPerFrame) * stepNanos;
+            droppedNanos += dropped;
+            accumulator -= dropped;
+            steps = maxStepsPerFrame;
+        }
+        accumulator -= steps * stepNanos;
+        return (int) steps;
+    }
+
+    /**
+     * Returns how far the real time is between the last simulated step and the next one, to draw entities
+     * in between their last two simulated positions.
+     *
+     * @return a value from 0 (just stepped) to 1 (about to step)
+     */
+    public float getAlpha() {
+        return (float) accumulator / stepNanos;
+    }
+
+    /**
+     * @return simulated time per step, in nanoseconds
+     */
+    public long getStepNanos() {
+        return stepNanos;
+    }
+
+    /**
+     * @return the total time dropped because the simulation could not keep up, in nanoseconds
+     */
+    public long getDroppedNanos() {
+        return droppedNanos;
+    }
+}
@@ -0,0 +1,202 @@
+package com.group16.controller;
+
+import com.group16.controller.config.GameConfig;
+
+import java.util.concurrent.locks.LockSupport;
+import java.util.function.LongSupplier;
+
+/**
+ * Paces a loop to one frame every given number of nanoseconds. Frames are scheduled against absolute
+ * deadlines, so the error of one wait is not carried over to the next ones.
+ * <p>
+ * A wait parks the thread until shortly before the deadline, then spins for the last microseconds:
+ * parking is cheap but wakes up late by the OS timer granularity, spinning is exact but burns a core.
+ * <p>
+ * A frame that takes longer than a frame duration and ends after its deadline is an overrun. What happens to
+ * the frames it overlapped depends on the {@link OverrunPolicy}. How late the on-time frames actually started
+ * is kept in {@link Stats}.
+ */
+public class FramePacer {
+
+    /**
+     * What to do with the frames a slow frame ran into.
+     */
+    public enum OverrunPolicy {
+        /** Skip the missed frames and start again on the next deadline of the schedule */
+        DROP,
+        /** Run the missed frames back to back, up to a given number, to keep the number of frames per second */
+        CATCH_UP
+    }
+
+    /**
+     * Statistics of the frames paced so far. Lateness is how long after its deadline an on-time frame
+     * actually started; jitter is the standard deviation of that lateness.
+     * <p>
+     * Every frame is on time, an overrun or caught up. A frame run back to back after an overrun under
+     * {@link OverrunPolicy#CATCH_UP} ends after its own deadline without being slow itself: it is counted
+     * as caught up, and only as an overrun if it also took longer than a frame.
+     *
+     * @param frames             number of frames paced
+     * @param overruns           number of frames that took longer than a frame and ended after their deadline
+     * @param caughtUpFrames     number of frames that ended after their deadline only because they started late
+     * @param droppedFrames      number of frames skipped because of overruns
+     * @param meanLatenessNanos  mean lateness of the on-time frames, in nanoseconds
+     * @param maxLatenessNanos   worst lateness of an on-time frame, in nanoseconds
+     * @param jitterNanos        standard deviation of the lateness, in nanoseconds
+     */
+    public record Stats(long frames, long overruns, long caughtUpFrames, long droppedFrames,
+                        double meanLatenessNanos, long maxLatenessNanos, double jitterNanos) {
+    }
+
+    private final long frameNanos;
+    private final long spinNanos;
+    private final OverrunPolicy policy;
+    private final int maxFramesBehind;
+    private final LongSupplier clock;
+
+    /** Time the current frame must end */
+    private long deadline;
+
+    /** Time the current frame started, when the previous one ended */
+    private long frameStart;
+
+    // Running statistics, written by the paced thread once per frame and read by getStats, under the pacer's lock
+    private long frames;
+    private long overruns;
+    private long caughtUpFrames;
+    private long droppedFrames;
+    private long onTimeFrames;
+    private double meanLateness;
+    private double latenessSquares;
+    private long maxLateness;
+
+    /**
+     * Constructs a pacer on the system clock, with the spin time and catch-up limit of {@link GameConfig}.
+     *
+     * @param frameNanos duration of a frame, in nanoseconds
+     * @param policy     what to do after an overrun
+     */
+    public FramePacer(long frameNanos, OverrunPolicy policy) {
+        this(frameNanos, GameConfig.FRAME_SPIN_NS, policy, GameConfig.MAX_CATCH_UP_STEPS, System::nanoTime);
+    }
+
+    /**
+     * Constructs a pacer.
+     *
+     * @param frameNanos      duration of a frame, in nanoseconds
+     * @param spinNanos       time before a deadline from which the pacer spins instead of parking
+     * @param policy          what to do after an overrun
+     * @param maxFramesBehind most missed frames run back to back by {@link OverrunPolicy#CATCH_UP};
+     *                        the ones beyond are dropped
+     * @param clock           source of the current time, in nanoseconds
+     */
+    public FramePacer(long frameNanos, long spinNanos, OverrunPolicy policy, int maxFramesBehind, LongSupplier clock) {
+        if (frameNanos <= 0 || spinNanos < 0 || maxFramesBehind < 0) {
+            throw new IllegalArgumentException("Frame duration must be positive, spin time and catch-up limit not negative");
+        }
+        this.frameNanos = frameNanos;
+        this.spinNanos = spinNanos;
+        this.policy = policy;
+        this.maxFramesBehind = maxFramesBehind;
+        this.clock = clock;
+        this.frameStart = clock.getAsLong();
+        this.deadline = frameStart + frameNanos;
+    }
+
+    /**
+     * Ends the current frame: waits for its deadline if there is time left, otherwise records the overrun
+     * and applies the policy. Returns early if the thread is interrupted.
+     */
+    public void awaitFrameEnd() {
+        long now = clock.getAsLong();
+        boolean onTime = now <= deadline;
+        if (onTime) {
+            now = waitUntil(deadline);
+        }
+        endFrame(now, onTime);
+        frameStart = now;
+    }
+
+    /**
+     * Records how the current frame ended and moves the deadline to the end of the next one.
+     * The lock only guards the statistics against {@link #getStats()}: the paced thread never waits for it
+     * in practice, and no statistics object is allocated per frame.
+     *
+     * @param now    the time the frame ended, after waiting if it was on time
+     * @param onTime whether the frame ended before its deadline
+     */
+    private synchronized void endFrame(long now, boolean onTime) {
+        if (onTime) {
+            recordLateness(Math.max(0, now - deadline));
+        } else {
+            if (now - frameStart > frameNanos) {
+                overruns++;
+            } else {
+                caughtUpFrames++;
+            }
+
+            // Frames whose whole duration went by since this one was due
+            long missed = (now - deadline) / frameNanos;
+            long skipped = policy == OverrunPolicy.DROP ? missed : Math.max(0, missed - maxFramesBehind);
+            droppedFrames += skipped;
+            deadline += skipped * frameNanos;
+        }
+
+        deadline += frameNanos;
+        frames++;
+    }
+
+    /**
+     * Parks until shortly before a time, then spins until it.
+     *
+     * @return the time after waiting
+     */
+    private long waitUntil(long time) {
+        long now = clock.getAsLong();
+        while (time - now > spinNanos) {
+            LockSupport.parkNanos(time - now - spinNanos);
+            if (Thread.currentThread().isInterrupted()) return clock.getAsLong();
+            now = clock.getAsLong();
+        }
+        while (now < time) {
+            Thread.onSpinWait();
+            now = clock.getAsLong();
+        }
+        return now;
+    }
+
+    /**
+     * Adds the lateness of an on-time frame to the running mean and variance (Welford's method).
+     */
+    private void recordLateness(long lateness) {
+        onTimeFrames++;
+        double delta = lateness - meanLateness;
+        meanLateness += delta / onTimeFrames;
+        latenessSquares += delta * (lateness - meanLateness);
+        maxLateness = Math.max(maxLateness, lateness);
+    }
+
+    /**
+     * Returns the statistics of the frames paced so far, built on each call. Safe to call from any thread.
+     *
+     * @return the statistics as of the last frame
+     */
+    public synchronized Stats getStats() {
+        double jitter = onTimeFrames > 1 ? Math.sqrt(latenessSquares / (onTimeFrames - 1)) : 0;
+        return new Stats(frames, overruns, caughtUpFrames, droppedFrames, meanLateness, maxLateness, jitter);
+    }
+
+    /**
+     * @return the time the current frame must end, on the pacer's clock
+     */
+    public long getDeadline() {
+        return deadline;
+    }
+
+    /**
+     * @return the duration of a frame, in nanoseconds
+     */
+    public long getFrameNanos() {
+        return frameNanos;
+    }
+}
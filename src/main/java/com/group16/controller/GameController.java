@@ -14,6 +14,9 @@ import java.io.IOException;
 /**
  * The GameController is responsible for initializing the application window,
  * managing the main game loop, and coordinating scene switching.
+ * The loop simulates in fixed steps of {@link GameConfig#SIMULATION_STEP_NS} and renders at
+ * {@link GameConfig#RENDER_RATE}, drawing entities between their last two simulated positions.
+ * Frames are paced by a {@link FramePacer}.
  */
 public class GameController {
 
@@ -23,8 +26,7 @@ public class GameController {
 
     private volatile boolean running;
     private Thread gameThread;
-
-    private static final double NANOS_IN_SECOND = 1_000_000_000.0;
+    private volatile FramePacer pacer;
 
     /**
      * Constructs the GameController, initializes scenes, and sets up the frame and input handling.
@@ -59,16 +61,23 @@ public class GameController {
 
         running = true;
         gameThread = new Thread(() -> {
+            FixedTimestep timestep = new FixedTimestep(GameConfig.SIMULATION_STEP_NS, GameConfig.MAX_CATCH_UP_STEPS);
+            FramePacer framePacer = new FramePacer(GameConfig.RENDER_FRAME_NS, GameConfig.FRAME_OVERRUN_POLICY);
+            pacer = framePacer;
             long last = System.nanoTime();
 
             while (running) {
                 long now = System.nanoTime();
-                float dt = (float) ((now - last));
+                int steps = timestep.advance(now - last);
                 last = now;
 
                 Scene currentScene = sceneManager.getCurrent();
                 if (currentScene != null) {
-                    currentScene.update(dt);
+                    // Every step simulates exactly the same time, whatever the render rate
+                    for (int i = 0; i < steps && sceneManager.getCurrent() == currentScene; i++) {
+                        currentScene.update(timestep.getStepNanos());
+                    }
+                    currentScene.setInterpolation(timestep.getAlpha());
 
                     SwingUtilities.invokeLater(() -> {
                         JPanel currentPanel = currentScene.getPanel();
@@ -87,17 +96,23 @@ public class GameController {
                     stop();
                 }
 
-                float wait = GameConfig.FRAME_DURATION - (System.nanoTime() - now);
-                try {
-                    Thread.sleep((long) (wait / 1_000_000), (int) (wait % 1_000_000));
-                } catch (InterruptedException ignored) {
-                }
+                framePacer.awaitFrameEnd();
             }
         }, "GameLoopThread");
 
         gameThread.start();
     }
 
+    /**
+     * Returns the pacing statistics of the game loop, e.g. to monitor frame jitter and overruns.
+     *
+     * @return the statistics, or null if the loop has not started
+     */
+    public FramePacer.Stats getFrameStats() {
+        FramePacer framePacer = pacer;
+        return framePacer != null ? framePacer.getStats() : null;
+    }
+
     /**
      * Stops the game loop thread gracefully.
      */
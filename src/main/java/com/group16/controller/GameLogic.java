@@ -12,7 +12,6 @@ import com.group16.model.utils.maths.Vector;
 import com.group16.model.Subject;
 import com.group16.view.Observer;
 
-import java.awt.event.KeyEvent;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Random;
@@ -21,6 +20,7 @@ import java.util.Random;
  * GameLogic is the central controller for game state progression,
  * including wave logic, resource generation, player input handling,
  * and observer notification.
+ * It depends on no windowing class, so it runs the same behind the game window or headless.
  */
 public class GameLogic implements Subject {
 
@@ -142,7 +142,7 @@ public class GameLogic implements Subject {
             int x = rand.nextInt(island.getMAP_BORDER(), island.getMAP_WIDTH());
             int y = rand.nextInt(island.getMAP_BORDER(), island.getMAP_HEIGHT());
             spawnPosition = new Vector(x, y);
-        } while (!island.getTile(spawnPosition).isWalkable());
+        } while (!island.isWalkable((int) spawnPosition.x(), (int) spawnPosition.y()));
 
         return spawnPosition;
     }
@@ -157,35 +157,12 @@ public class GameLogic implements Subject {
     }
 
     /**
-     * Handles key presses and forwards actions to the player.
+     * Forwards an action to the player.
      *
-     * @param e the KeyEvent representing the pressed key
+     * @param action the action to carry out
      */
-    public void onKeyPressed(KeyEvent e) {
-        int keyCode = e.getKeyCode();
-
-        switch (keyCode) {
-            // Movement
-            case KeyEvent.VK_UP -> player.moveNorth();
-            case KeyEvent.VK_DOWN -> player.moveSouth();
-            case KeyEvent.VK_RIGHT -> player.moveEast();
-            case KeyEvent.VK_LEFT -> player.moveWest();
-
-            // Actions
-            case KeyEvent.VK_S -> player.useSword();
-            case KeyEvent.VK_B -> player.buildingWoodBlock();
-            case KeyEvent.VK_G -> player.useGun();
-            case KeyEvent.VK_N -> player.buildingStoneBlock();
-            case KeyEvent.VK_E -> player.openCloseInventory();
-        }
-    }
-
-    public void onKeyReleased(KeyEvent e) {
-        // No-op
-    }
-
-    public void onKeyTyped(KeyEvent e) {
-        // No-op
+    public void perform(PlayerAction action) {
+        action.applyTo(player);
     }
 
     public float getWaveStartDisplayTime() {
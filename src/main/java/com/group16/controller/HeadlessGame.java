@@ -0,0 +1,133 @@
+package com.group16.controller;
+
+import com.group16.controller.config.GameConfig;
+import com.group16.model.area.Island;
+import com.group16.model.area.IslandMapGenerator;
+import com.group16.model.entity.actors.Player;
+import com.group16.model.utils.maths.Vector;
+
+import java.io.IOException;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+
+/**
+ * A game run without window, scenes or views: only the {@link GameLogic} and its {@link Island}, stepped by
+ * fixed ticks of {@link GameConfig#SIMULATION_STEP_NS}. No AWT or Swing class is loaded, so it runs on
+ * servers without a display and in fast automated tests.
+ * <p>
+ * The player is driven through {@link #perform(PlayerAction)}, which any thread may call; actions are applied
+ * at the start of the next tick, as the game window does with its keys. Ticks run either as fast as possible
+ * or at the simulation rate, and the run ends after a number of ticks, on game over or on {@link #stop()}.
+ */
+public class HeadlessGame {
+
+    private final Island island;
+    private final Player player;
+    private final GameLogic gameLogic;
+
+    /** Actions waiting for the next tick */
+    private final Queue<PlayerAction> pendingActions = new ConcurrentLinkedQueue<>();
+
+    private volatile boolean running;
+    private volatile long tickCount;
+
+    /**
+     * Constructs a game on a map, the player at the map's starting position.
+     *
+     * @param mapFileName the text or binary map to load
+     * @throws IOException if the map cannot be read
+     */
+    public HeadlessGame(String mapFileName) throws IOException {
+        IslandMapGenerator mapGenerator = IslandMapGenerator.load(mapFileName);
+
+        island = new Island(mapGenerator.getGrid());
+        player = new Player(island, new Vector(
+                (float) mapGenerator.getStartX() / GameConfig.TILE_SIZE,
+                (float) mapGenerator.getStartY() / GameConfig.TILE_SIZE
+        ));
+        island.addPlayer(player);
+        gameLogic = new GameLogic(island, player);
+    }
+
+    /**
+     * Queues an action of the player for the next tick. Safe to call from any thread.
+     *
+     * @param action the action to carry out
+     */
+    public void perform(PlayerAction action) {
+        pendingActions.add(action);
+    }
+
+    /**
+     * Applies the queued actions then advances the game by one step.
+     */
+    public void tick() {
+        PlayerAction action;
+        while ((action = pendingActions.poll()) != null) {
+            gameLogic.perform(action);
+        }
+        gameLogic.update(GameConfig.SIMULATION_STEP_NS);
+        tickCount++;
+    }
+
+    /**
+     * Runs ticks back to back, without waiting between them.
+     *
+     * @param maxTicks most ticks to run
+     * @return the number of ticks run, fewer if the game ended or was stopped
+     */
+    public long runAsFastAsPossible(long maxTicks) {
+        return run(maxTicks, null);
+    }
+
+    /**
+     * Runs ticks at the simulation rate, {@link GameConfig#SIMULATION_RATE} per second. A tick that takes
+     * longer than its step is followed by the next one right away, without replaying the missed ones.
+     *
+     * @param maxTicks most ticks to run
+     * @return the number of ticks run, fewer if the game ended or was stopped
+     */
+    public long runAtFixedRate(long maxTicks) {
+        return run(maxTicks, new FramePacer(GameConfig.SIMULATION_STEP_NS, FramePacer.OverrunPolicy.DROP));
+    }
+
+    private long run(long maxTicks, FramePacer pacer) {
+        running = true;
+        long ticks = 0;
+        while (running && ticks < maxTicks && !gameLogic.isGameOver()) {
+            tick();
+            ticks++;
+            if (pacer != null) {
+                pacer.awaitFrameEnd();
+            }
+        }
+        running = false;
+        return ticks;
+    }
+
+    /**
+     * Ends the current run after its ongoing tick. Safe to call from any thread.
+     */
+    public void stop() {
+        running = false;
+    }
+
+    /**
+     * @return the number of ticks run since the game was created
+     */
+    public long getTickCount() {
+        return tickCount;
+    }
+
+    public Island getIsland() {
+        return island;
+    }
+
+    public Player getPlayer() {
+        return player;
+    }
+
+    public GameLogic getGameLogic() {
+        return gameLogic;
+    }
+}
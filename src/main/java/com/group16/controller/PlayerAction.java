@@ -0,0 +1,40 @@
+package com.group16.controller;
+
+import com.group16.model.entity.actors.Player;
+
+import java.util.function.Consumer;
+
+/**
+ * An order given to the player, whatever it comes from: a key of the game window,
+ * a script driving a headless game, or a remote client.
+ */
+public enum PlayerAction {
+
+    // Movement
+    MOVE_NORTH(Player::moveNorth),
+    MOVE_SOUTH(Player::moveSouth),
+    MOVE_EAST(Player::moveEast),
+    MOVE_WEST(Player::moveWest),
+
+    // Actions
+    USE_SWORD(Player::useSword),
+    USE_GUN(Player::useGun),
+    BUILD_WOOD_BLOCK(Player::buildingWoodBlock),
+    BUILD_STONE_BLOCK(Player::buildingStoneBlock),
+    TOGGLE_INVENTORY(Player::openCloseInventory);
+
+    private final Consumer<Player> effect;
+
+    PlayerAction(Consumer<Player> effect) {
+        this.effect = effect;
+    }
+
+    /**
+     * Makes a player carry out this action.
+     *
+     * @param player the player
+     */
+    public void applyTo(Player player) {
+        effect.accept(player);
+    }
+}
@@ -1,5 +1,7 @@
 package com.group16.controller.config;
 
+import com.group16.controller.FramePacer;
+import com.group16.model.area.navigation.NavigationMode;
 import com.group16.model.utils.maths.Vector;
 
 /**
@@ -40,12 +42,71 @@ public final class GameConfig {
             (float) (SCREEN_HEIGHT / 2 - TILE_SIZE / 2)
     );
 
-    /** Target frames per second for the game loop */
-    public static final int FPS = 20;
+    /** Simulation steps per second, independent of the render rate */
+    public static final int SIMULATION_RATE = 20;
 
     /** Constant representing one second in nanoseconds */
     public static final float ONE_SECOND_NS = 1_000_000_000f;
 
-    /** Duration of a single frame based on target FPS */
-    public static final float FRAME_DURATION = ONE_SECOND_NS / FPS;
+    /** Simulated time per step, in nanoseconds */
+    public static final long SIMULATION_STEP_NS = 1_000_000_000L / SIMULATION_RATE;
+
+    /** Target rendered frames per second; entities are interpolated between simulation steps */
+    public static final int RENDER_RATE = 60;
+
+    /** Duration of a rendered frame, in nanoseconds */
+    public static final long RENDER_FRAME_NS = 1_000_000_000L / RENDER_RATE;
+
+    /** Most simulation steps run in one frame to catch up after a stall; the time beyond is dropped */
+    public static final int MAX_CATCH_UP_STEPS = 5;
+
+    /** Time before a frame deadline from which the game loop spins instead of sleeping, in nanoseconds */
+    public static final long FRAME_SPIN_NS = 200_000;
+
+    /** What the game loop does with the rendered frames a slow frame ran into */
+    public static final FramePacer.OverrunPolicy FRAME_OVERRUN_POLICY = FramePacer.OverrunPolicy.DROP;
+
+    /** Pathfinding strategy used by mobs (BREADTH_FIRST keeps the original per-mob search) */
+    public static final NavigationMode NAVIGATION_MODE = NavigationMode.FLOW_FIELD;
+
+    /** Time between two moves of a mob, in nanoseconds */
+    public static final float MOB_MOVE_INTERVAL = 4E8f;
+
+    /** Number of moves a mob plans ahead in COOPERATIVE navigation */
+    public static final int COOPERATIVE_WINDOW = 8;
+
+    /**
+     * Distance in tiles from the target over which FLOW_FIELD and COOPERATIVE navigation search routes.
+     * They find no step from farther tiles, even when the target can be reached from them. Mobs only act in
+     * the chunks within {@link #ACTIVE_CHUNK_RADIUS} of the player, less than
+     * ({@link #ACTIVE_CHUNK_RADIUS} + 1) chunks away along each axis, so the radius must stay above that.
+     */
+    public static final int NAVIGATION_RADIUS = 256;
+
+    /** Time spent answering mob path requests per tick, in microseconds (0 answers them immediately) */
+    public static final long PATHFINDING_BUDGET_MICROS = 2_000;
+
+    /** Tiles of distance a queued path request gains on newer ones for each tick it waits */
+    public static final int PATH_REQUEST_AGING = 4;
+
+    /** Side in tiles of the buckets of the island's spatial index */
+    public static final int SPATIAL_CELL_SIZE = 4;
+
+    /** Distance in chunks from the player's chunk up to which entities are updated */
+    public static final int ACTIVE_CHUNK_RADIUS = 3;
+
+    /** Number of entity changes an island's journal keeps for consumers that have not read them yet */
+    public static final int CHANGE_JOURNAL_CAPACITY = 1 << 14;
+
+    /** Number of navigator answers kept by the path cache (0 disables it) */
+    public static final int PATH_CACHE_CAPACITY = 256;
+
+    /** Number of threads deciding mob moves in parallel */
+    public static final int MOB_AI_PARALLELISM = Runtime.getRuntime().availableProcessors();
+
+    /**
+     * Number of mobs acting in the same tick from which their decisions are computed in parallel.
+     * A single processor never gains anything from the pool, so it is then never used.
+     */
+    public static final int PARALLEL_MOB_THRESHOLD = MOB_AI_PARALLELISM > 1 ? 64 : Integer.MAX_VALUE;
 }
@@ -0,0 +1,38 @@
+package com.group16.controller.io;
+
+import com.group16.controller.PlayerAction;
+
+import java.awt.event.KeyEvent;
+
+/**
+ * Maps the keys of the game window to player actions.
+ */
+public final class KeyBindings {
+
+    private KeyBindings() {
+    }
+
+    /**
+     * Returns the action bound to a key.
+     *
+     * @param keyCode the key code, from {@link KeyEvent}
+     * @return the action, or null if the key is not bound
+     */
+    public static PlayerAction actionFor(int keyCode) {
+        return switch (keyCode) {
+            // Movement
+            case KeyEvent.VK_UP -> PlayerAction.MOVE_NORTH;
+            case KeyEvent.VK_DOWN -> PlayerAction.MOVE_SOUTH;
+            case KeyEvent.VK_RIGHT -> PlayerAction.MOVE_EAST;
+            case KeyEvent.VK_LEFT -> PlayerAction.MOVE_WEST;
+
+            // Actions
+            case KeyEvent.VK_S -> PlayerAction.USE_SWORD;
+            case KeyEvent.VK_B -> PlayerAction.BUILD_WOOD_BLOCK;
+            case KeyEvent.VK_G -> PlayerAction.USE_GUN;
+            case KeyEvent.VK_N -> PlayerAction.BUILD_STONE_BLOCK;
+            case KeyEvent.VK_E -> PlayerAction.TOGGLE_INVENTORY;
+            default -> null;
+        };
+    }
+}
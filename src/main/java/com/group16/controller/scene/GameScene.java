@@ -5,9 +5,12 @@ import com.group16.view.ui.HealthBarView;
 import com.group16.view.ui.InventoryView;
 import com.group16.model.area.Island;
 import com.group16.model.area.IslandMapGenerator;
+import com.group16.model.area.MapFile;
 import com.group16.model.entity.actors.Player;
-import com.group16.model.area.tiles.Tile;
+import com.group16.model.area.tiles.TileGrid;
 import com.group16.controller.GameLogic;
+import com.group16.controller.PlayerAction;
+import com.group16.controller.io.KeyBindings;
 import com.group16.view.ui.GamePanel;
 import com.group16.controller.SceneManager;
 import com.group16.controller.config.GameConfig;
@@ -20,8 +23,11 @@ import javax.swing.*;
 import java.awt.*;
 import java.awt.event.KeyEvent;
 import java.io.IOException;
-import java.util.ArrayList;
+import java.nio.file.Path;
 import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.CopyOnWriteArrayList;
 
 /**
  * The GameScene handles the active game state, coordinating models (Island, Player), views, and input handling.
@@ -49,12 +55,18 @@ public final class GameScene implements Scene {
     private IslandMapGenerator mapGenerator;
 
     // VIEWS
-    /** List of drawable UI and game components */
-    private final List<Drawable> views = new ArrayList<>();
+    /** List of drawable UI and game components, iterated by the rendering thread */
+    private final List<Drawable> views = new CopyOnWriteArrayList<>();
+
+    /** Actions of the keys pressed on the event thread, handed to the game logic at the next simulation step */
+    private final Queue<PlayerAction> pendingInput = new ConcurrentLinkedQueue<>();
 
     /** Camera that tracks the player */
     private Camera camera;
 
+    /** View of the island, drawn between simulation steps */
+    private WorldView worldView;
+
     /** Starting pixel coordinates for the player */
     private int startX;
     private int startY;
@@ -77,10 +89,10 @@ public final class GameScene implements Scene {
     }
 
     /**
-     * Updates the game state and logic each frame.
+     * Updates the game state and logic by one simulation step.
      * If the game is over, resets and transitions to the end scene.
      *
-     * @param dt time delta in nanoseconds
+     * @param dt simulated time of the step in nanoseconds
      */
     @Override
     public void update(float dt) {
@@ -92,11 +104,27 @@ public final class GameScene implements Scene {
             }
             sceneManager.switchTo("end");
         } else {
+            PlayerAction action;
+            while ((action = pendingInput.poll()) != null) {
+                gameLogic.perform(action);
+            }
             gameLogic.update(dt);
             gamePanel.update(dt);
         }
     }
 
+    /**
+     * Passes the render interpolation on to the world view.
+     *
+     * @param alpha a value from 0 (just stepped) to 1 (about to step)
+     */
+    @Override
+    public void setInterpolation(float alpha) {
+        if (worldView != null) {
+            worldView.setInterpolation(alpha);
+        }
+    }
+
     /**
      * Returns the panel associated with the game scene for rendering.
      *
@@ -119,7 +147,8 @@ public final class GameScene implements Scene {
     /* ================== Input Handling ================== */
 
     /**
-     * Handles key press events. ESC switches to the title screen.
+     * Handles key press events. ESC switches to the title screen; the game logic gets the action
+     * bound to other keys at the next simulation step.
      *
      * @param e key event
      */
@@ -128,27 +157,30 @@ public final class GameScene implements Scene {
         if (e.getKeyCode() == KeyEvent.VK_ESCAPE) {
             sceneManager.switchTo("title");
         }
-        gameLogic.onKeyPressed(e);
+        PlayerAction action = KeyBindings.actionFor(e.getKeyCode());
+        if (action != null) {
+            pendingInput.add(action);
+        }
     }
 
     /**
-     * Forwards key release events to game logic.
+     * Handles key release events; no action is bound to a release.
      *
      * @param e key event
      */
     @Override
     public void onKeyReleased(KeyEvent e) {
-        gameLogic.onKeyReleased(e);
+        // No-op
     }
 
     /**
-     * Forwards key typed events to game logic.
+     * Handles key typed events; no action is bound to a typed key.
      *
      * @param e key event
      */
     @Override
     public void onKeyTyped(KeyEvent e) {
-        gameLogic.onKeyTyped(e);
+        // No-op
     }
 
     /* ================== Model Accessors ================== */
@@ -181,8 +213,9 @@ public final class GameScene implements Scene {
      */
     public void resetGame(int mapSelection) throws IOException {
         views.clear();
+        pendingInput.clear();
 
-        mapGenerator = new IslandMapGenerator("src/main/resources/MapDesign" + mapSelection + ".txt");
+        mapGenerator = IslandMapGenerator.load(mapFileName(mapSelection));
         startX = mapGenerator.getStartX();
         startY = mapGenerator.getStartY();
 
@@ -202,17 +235,17 @@ public final class GameScene implements Scene {
      * @throws IOException if model generation fails
      */
     public void resetModels() throws IOException {
-        Tile[][] map = mapGenerator.getMap();
+        TileGrid map = mapGenerator.getGrid();
 
         island = new Island(map);
 
         player = new Player(island, new Vector((float) startX / GameConfig.TILE_SIZE, (float) startY / GameConfig.TILE_SIZE));
         camera = new Camera(player); // To make sure that the player is always centered
 
-        WorldView worldView = new WorldView(camera, TileViewFactory.createTileViewMap(map, IslandMapGenerator.MAP_BORDER));
+        worldView = new WorldView(camera, TileViewFactory.createTileViewMap(map, mapGenerator.getWaterMasks()), island);
         island.registerObserver(worldView);
 
-        // Will create his view and register it as the observer
+        // His view is created when the world view reads the journal
         island.addPlayer(player);
 
         InventoryView inventoryView = new InventoryView();
@@ -229,6 +262,17 @@ public final class GameScene implements Scene {
 
     /* ================== Map Selection ================== */
 
+    /**
+     * Returns the file of a map: its binary version if one was converted from the current design,
+     * else the text design.
+     *
+     * @param mapSelection the index of the map
+     * @return the path of the file to load
+     */
+    private static String mapFileName(int mapSelection) {
+        return MapFile.select(Path.of("src/main/resources/MapDesign" + mapSelection + ".txt")).toString();
+    }
+
     /**
      * Changes the selected map and resets the game accordingly.
      *
@@ -23,6 +23,15 @@ public interface Scene extends Updatable, Drawable {
         return new JPanel();
     }
 
+    /**
+     * Called before each render with how far the real time is between the last simulation step and the next.
+     * Scenes with moving content draw it that far between its last two simulated states.
+     *
+     * @param alpha a value from 0 (just stepped) to 1 (about to step)
+     */
+    default void setInterpolation(float alpha) {
+    }
+
     /**
      * Hook method called when entering the scene.
      * Can be overridden to add setup logic.
@@ -0,0 +1,214 @@
+package com.group16.model.area;
+
+import java.lang.invoke.VarHandle;
+
+/**
+ * Append-only journal of what happened to the entities of an island, stored in a ring buffer of
+ * primitive records: no object is created per change. The island writes; any number of consumers
+ * (views, telemetry, networking) read through their own {@link Cursor}, in bulk and at their own pace.
+ * <p>
+ * Only the simulation thread appends. The sequence of the next record is published through a volatile
+ * write after the record itself, so a cursor may be drained from another thread. The oldest record kept may be
+ * being overwritten at any time, so a consumer can read at most the capacity minus one records behind the head.
+ * One that falls further behind loses the older records; its cursor counts them so it can rebuild its state
+ * from the island instead.
+ */
+public class ChangeJournal {
+
+    /**
+     * Kind of a journal record.
+     */
+    public enum Kind {
+        /** The entity joined the island; x and y give its tile */
+        ADD,
+        /** The entity left the island; x and y give its last tile */
+        REMOVE,
+        /** The entity moved; x and y give its new tile */
+        MOVE,
+        /** The entity lost health; x and y give its tile, the value the health lost */
+        DAMAGE
+    }
+
+    /**
+     * Receives the records of a journal, one call per record.
+     */
+    @FunctionalInterface
+    public interface Consumer {
+
+        /**
+         * @param kind     what happened
+         * @param tick     island update during which it happened
+         * @param entityId journal id of the entity, see {@link Island#getEntity(int)}
+         * @param x        x-coordinate of the entity's tile
+         * @param y        y-coordinate of the entity's tile
+         * @param value    amount of damage for {@link Kind#DAMAGE}, 0 otherwise
+         */
+        void accept(Kind kind, long tick, int entityId, int x, int y, int value);
+    }
+
+    private static final Kind[] KINDS = Kind.values();
+
+    private final int mask;
+
+    // One array per field, indexed by sequence & mask
+    private final byte[] kinds;
+    private final long[] ticks;
+    private final int[] entityIds;
+    private final int[] xs;
+    private final int[] ys;
+    private final int[] values;
+
+    /** Sequence of the next record; published after the record is written */
+    private volatile long head;
+
+    /** Tick stamped on new records */
+    private long tick;
+
+    /**
+     * Constructs an empty journal.
+     *
+     * @param capacity number of records kept, rounded up to a power of two
+     */
+    public ChangeJournal(int capacity) {
+        if (capacity <= 0) {
+            throw new IllegalArgumentException("Capacity must be positive");
+        }
+        int size = Integer.highestOneBit(capacity);
+        if (size < capacity) size <<= 1;
+
+        mask = size - 1;
+        kinds = new byte[size];
+        ticks = new long[size];
+        entityIds = new int[size];
+        xs = new int[size];
+        ys = new int[size];
+        values = new int[size];
+    }
+
+    /**
+     * Sets the tick stamped on the records appended from now on.
+     */
+    void setTick(long tick) {
+        this.tick = tick;
+    }
+
+    /**
+     * Appends a record, overwriting the oldest one once the journal is full.
+     *
+     * @param kind     what happened
+     * @param entityId journal id of the entity
+     * @param x        x-coordinate of the entity's tile
+     * @param y        y-coordinate of the entity's tile
+     * @param value    amount of damage for {@link Kind#DAMAGE}, 0 otherwise
+     */
+    public void append(Kind kind, int entityId, int x, int y, int value) {
+        long sequence = head;
+        int slot = (int) (sequence & mask);
+
+        // A reader that sees any field of the new record must also see the head published before it
+        VarHandle.storeStoreFence();
+        kinds[slot] = (byte) kind.ordinal();
+        ticks[slot] = tick;
+        entityIds[slot] = entityId;
+        xs[slot] = x;
+        ys[slot] = y;
+        values[slot] = value;
+        head = sequence + 1;
+    }
+
+    /**
+     * @return a cursor reading the records appended from now on
+     */
+    public Cursor newCursor() {
+        return new Cursor(head);
+    }
+
+    /**
+     * @return the total number of records ever appended
+     */
+    public long getHead() {
+        return head;
+    }
+
+    /**
+     * @return the number of records kept before the oldest are overwritten
+     */
+    public int getCapacity() {
+        return mask + 1;
+    }
+
+    /**
+     * A consumer's reading position in a journal.
+     */
+    public final class Cursor {
+
+        private long next;
+        private long lost;
+
+        private Cursor(long next) {
+            this.next = next;
+        }
+
+        /**
+         * Hands every record appended since the last drain to a consumer, oldest first.
+         * Records a full capacity or more behind the head may be overwritten while being read, so they are
+         * skipped and counted in {@link #getLostCount()}.
+         *
+         * @param consumer receives the records
+         * @return the number of records handed out
+         */
+        public int drain(Consumer consumer) {
+            int count = 0;
+            long end = head;
+            while (next < end) {
+                if (end - next >= mask + 1) {
+                    skipTo(end - mask);
+                }
+
+                int slot = (int) (next & mask);
+                Kind kind = KINDS[kinds[slot]];
+                long recordTick = ticks[slot];
+                int entityId = entityIds[slot];
+                int x = xs[slot];
+                int y = ys[slot];
+                int value = values[slot];
+
+                // The writer may have started overwriting this record while it was being read
+                VarHandle.loadLoadFence();
+                end = head;
+                if (end - next >= mask + 1) continue;
+
+                consumer.accept(kind, recordTick, entityId, x, y, value);
+                next++;
+                count++;
+            }
+            return count;
+        }
+
+        /**
+         * @return the number of records overwritten before this cursor could read them
+         */
+        public long getLostCount() {
+            return lost;
+        }
+
+        /**
+         * Forgets the lost records, e.g. once the consumer rebuilt its state.
+         */
+        public void resetLostCount() {
+            lost = 0;
+        }
+
+        /**
+         * @return the number of records waiting to be drained, lost ones included
+         */
+        public long getPending() {
+            return head - next;
+        }
+
+        private void skipTo(long sequence) {
+            lost += sequence - next;
+            next = sequence;
+        }
+    }
+}
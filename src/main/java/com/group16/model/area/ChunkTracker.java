@@ -0,0 +1,234 @@
+package com.group16.model.area;
+
+import com.group16.model.area.tiles.TileGrid;
+import com.group16.model.entity.GameEntity;
+
+import java.util.ArrayList;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Files the entities of an island by the chunk of its {@link TileGrid} they stand in, and tells which chunks
+ * are active: those within a given number of chunks of a focus point, usually the player.
+ * The island only updates the entities of active chunks; the others keep their state untouched and resume
+ * exactly where they left off once the focus comes back. Chunks leaving the active area are compacted
+ * when their tiles allow it.
+ * <p>
+ * Until a focus is set, every chunk is active.
+ */
+public class ChunkTracker {
+
+    private final TileGrid grid;
+    private final int columns;
+    private final int rows;
+    private final int radius;
+
+    /** Entities of each chunk, created on first use */
+    private final List<List<GameEntity>> entities;
+
+    /** Chunk each tracked entity was filed in, and its position in that chunk's list */
+    private final Map<GameEntity, Slot> slots = new IdentityHashMap<>();
+
+    // Chunk the active area is centred on, or -1 before a focus is set
+    private int focusColumn = -1;
+    private int focusRow = -1;
+
+    /**
+     * Constructs a tracker for the chunks of a grid.
+     *
+     * @param grid   the grid whose chunks are tracked
+     * @param radius distance in chunks from the focus up to which chunks are active
+     */
+    public ChunkTracker(TileGrid grid, int radius) {
+        this.grid = grid;
+        this.columns = grid.getChunkColumns();
+        this.rows = grid.getChunkRows();
+        this.radius = radius;
+        this.entities = new ArrayList<>(columns * rows);
+        for (int i = 0; i < columns * rows; i++) {
+            entities.add(null);
+        }
+    }
+
+    /*//////////////////////////////////////////////////////////////
+                              ENTITIES
+    //////////////////////////////////////////////////////////////*/
+
+    /**
+     * Files an entity in the chunk of its current position. Does nothing if it is already tracked.
+     *
+     * @param entity the entity to add
+     */
+    public void insert(GameEntity entity) {
+        if (slots.containsKey(entity)) return;
+        Slot slot = new Slot();
+        slots.put(entity, slot);
+        file(entity, slot, chunkOf(entity));
+    }
+
+    /**
+     * Stops tracking an entity. Does nothing if it is not tracked.
+     *
+     * @param entity the entity to remove
+     */
+    public void remove(GameEntity entity) {
+        Slot slot = slots.remove(entity);
+        if (slot != null) {
+            unfile(slot);
+        }
+    }
+
+    /**
+     * Moves an entity to the chunk of its current position, if it changed chunk.
+     *
+     * @param entity the entity that moved
+     */
+    public void update(GameEntity entity) {
+        Slot slot = slots.get(entity);
+        if (slot == null) return;
+
+        int chunk = chunkOf(entity);
+        if (chunk != slot.chunk) {
+            unfile(slot);
+            file(entity, slot, chunk);
+        }
+    }
+
+    /**
+     * Appends the entities of every active chunk to a list, chunk by chunk in row-major order.
+     *
+     * @param out the list to fill
+     */
+    public void collectActive(List<GameEntity> out) {
+        int fromColumn = 0, toColumn = columns - 1, fromRow = 0, toRow = rows - 1;
+        if (focusColumn >= 0) {
+            fromColumn = Math.max(0, focusColumn - radius);
+            toColumn = Math.min(columns - 1, focusColumn + radius);
+            fromRow = Math.max(0, focusRow - radius);
+            toRow = Math.min(rows - 1, focusRow + radius);
+        }
+
+        for (int row = fromRow; row <= toRow; row++) {
+            for (int column = fromColumn; column <= toColumn; column++) {
+                List<GameEntity> chunkEntities = entities.get(row * columns + column);
+                if (chunkEntities != null) {
+                    out.addAll(chunkEntities);
+                }
+            }
+        }
+    }
+
+    /*//////////////////////////////////////////////////////////////
+                              ACTIVITY
+    //////////////////////////////////////////////////////////////*/
+
+    /**
+     * Centres the active area on the chunk of a position. Chunks leaving the area are compacted.
+     *
+     * @param x x-coordinate of the focus, in tiles
+     * @param y y-coordinate of the focus, in tiles
+     */
+    public void setFocus(float x, float y) {
+        int column = clamp((int) x / TileGrid.CHUNK_SIZE, columns);
+        int row = clamp((int) y / TileGrid.CHUNK_SIZE, rows);
+        if (column == focusColumn && row == focusRow) return;
+
+        int previousColumn = focusColumn;
+        int previousRow = focusRow;
+        focusColumn = column;
+        focusRow = row;
+
+        // Only the chunks of the previous area can leave it; before the first focus every chunk was active
+        int fromColumn = 0, toColumn = columns - 1, fromRow = 0, toRow = rows - 1;
+        if (previousColumn >= 0) {
+            fromColumn = Math.max(0, previousColumn - radius);
+            toColumn = Math.min(columns - 1, previousColumn + radius);
+            fromRow = Math.max(0, previousRow - radius);
+            toRow = Math.min(rows - 1, previousRow + radius);
+        }
+        for (int r = fromRow; r <= toRow; r++) {
+            for (int c = fromColumn; c <= toColumn; c++) {
+                if (!isChunkActive(c, r)) {
+                    grid.compactChunk(r * columns + c);
+                }
+            }
+        }
+    }
+
+    /**
+     * @return true if the tile at the given coordinates lies in an active chunk
+     */
+    public boolean isActive(int x, int y) {
+        return isChunkActive(x / TileGrid.CHUNK_SIZE, y / TileGrid.CHUNK_SIZE);
+    }
+
+    /**
+     * @return the number of chunks whose entities are updated
+     */
+    public int getActiveChunkCount() {
+        if (focusColumn < 0) return columns * rows;
+        int width = Math.min(columns - 1, focusColumn + radius) - Math.max(0, focusColumn - radius) + 1;
+        int height = Math.min(rows - 1, focusRow + radius) - Math.max(0, focusRow - radius) + 1;
+        return width * height;
+    }
+
+    /*//////////////////////////////////////////////////////////////
+                              HELPERS
+    //////////////////////////////////////////////////////////////*/
+
+    private boolean isChunkActive(int column, int row) {
+        if (focusColumn < 0) return true;
+        return Math.abs(column - focusColumn) <= radius && Math.abs(row - focusRow) <= radius;
+    }
+
+    private int chunkOf(GameEntity entity) {
+        int column = clamp((int) entity.getPosition().x() / TileGrid.CHUNK_SIZE, columns);
+        int row = clamp((int) entity.getPosition().y() / TileGrid.CHUNK_SIZE, rows);
+        return row * columns + column;
+    }
+
+    /**
+     * Appends an entity to the list of a chunk.
+     */
+    private void file(GameEntity entity, Slot slot, int chunk) {
+        List<GameEntity> chunkEntities = chunkEntities(chunk);
+        slot.chunk = chunk;
+        slot.index = chunkEntities.size();
+        chunkEntities.add(entity);
+    }
+
+    /**
+     * Takes an entity out of its chunk's list in constant time, moving the last entity of the list
+     * into its place.
+     */
+    private void unfile(Slot slot) {
+        List<GameEntity> chunkEntities = entities.get(slot.chunk);
+        GameEntity last = chunkEntities.remove(chunkEntities.size() - 1);
+        if (slot.index < chunkEntities.size()) {
+            chunkEntities.set(slot.index, last);
+            slots.get(last).index = slot.index;
+        }
+    }
+
+    private List<GameEntity> chunkEntities(int chunk) {
+        List<GameEntity> chunkEntities = entities.get(chunk);
+        if (chunkEntities == null) {
+            chunkEntities = new ArrayList<>();
+            entities.set(chunk, chunkEntities);
+        }
+        return chunkEntities;
+    }
+
+    private static int clamp(int value, int count) {
+        return Math.max(0, Math.min(count - 1, value));
+    }
+
+    /**
+     * Where a tracked entity is filed.
+     */
+    private static final class Slot {
+        int chunk;
+        int index;
+    }
+}
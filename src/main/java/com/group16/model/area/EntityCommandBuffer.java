@@ -0,0 +1,77 @@
+package com.group16.model.area;
+
+import com.group16.model.entity.GameEntity;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Spawns and despawns requested on an island, queued until the island applies them all at once.
+ * Commands are kept in the order they were requested, so an entity added then removed before the next
+ * flush ends up removed. The entities waiting to be removed can be looked up in constant time,
+ * letting the update loop skip them.
+ */
+final class EntityCommandBuffer {
+
+    /**
+     * A queued request.
+     *
+     * @param entity the entity to add or remove
+     * @param spawn  true to add the entity, false to remove it
+     */
+    record Command(GameEntity entity, boolean spawn) {
+    }
+
+    private List<Command> commands = new ArrayList<>();
+
+    /** Commands handed out by the last {@link #drain()}, reused for the next batch */
+    private List<Command> spare = new ArrayList<>();
+
+    /** Entities with a removal queued */
+    private final Set<GameEntity> despawning = Collections.newSetFromMap(new IdentityHashMap<>());
+
+    /**
+     * Queues the addition of an entity.
+     */
+    void spawn(GameEntity entity) {
+        commands.add(new Command(entity, true));
+    }
+
+    /**
+     * Queues the removal of an entity. Removing an entity twice in one batch queues it once.
+     */
+    void despawn(GameEntity entity) {
+        if (despawning.add(entity)) {
+            commands.add(new Command(entity, false));
+        }
+    }
+
+    /**
+     * @return true if the removal of the entity is queued
+     */
+    boolean isDespawning(GameEntity entity) {
+        return despawning.contains(entity);
+    }
+
+    boolean isEmpty() {
+        return commands.isEmpty();
+    }
+
+    /**
+     * Empties the queue and returns its commands, in request order. The returned list is only valid until
+     * the next call; commands queued while it is being applied go into a fresh batch.
+     *
+     * @return the queued commands
+     */
+    List<Command> drain() {
+        List<Command> batch = commands;
+        commands = spare;
+        commands.clear();
+        spare = batch;
+        despawning.clear();
+        return batch;
+    }
+}
@@ -1,10 +1,24 @@
 package com.group16.model.area;
 
 import com.group16.controller.Updatable;
+import com.group16.model.ecs.EntityStore;
+import com.group16.model.ecs.MobSystem;
+import com.group16.model.ecs.ProjectileSystem;
 import com.group16.model.entity.GameEntity;
+import com.group16.model.entity.actors.Actors;
 import com.group16.model.entity.actors.Mobs;
 import com.group16.model.entity.actors.Player;
+import com.group16.model.entity.elements.Element;
+import com.group16.model.area.navigation.ConnectivityIndex;
+import com.group16.model.area.navigation.NavigationMode;
+import com.group16.model.area.navigation.Navigator;
+import com.group16.model.area.navigation.PathScheduler;
+import com.group16.model.area.tiles.AutotileKernel;
 import com.group16.model.area.tiles.Tile;
+import com.group16.model.area.tiles.TileGrid;
+import com.group16.model.area.tiles.TileType;
+import com.group16.model.items.weapons.Projectiles;
+import com.group16.controller.config.GameConfig;
 import com.group16.model.utils.maths.Vector;
 import com.group16.model.Subject;
 import com.group16.view.Observer;
@@ -17,76 +31,232 @@ import java.util.*;
  * Represents the game island which manages all tiles, entities, and game updates.
  * Acts as the main environment for players, mobs, and interactions.
  */
-public class Island implements Subject {
+public final class Island implements Subject, TileOccupancy {
 
     /**
-     * Enum representing the type of change occurring on the island (e.g. adding or removing an entity).
+     * Enum representing the type of change notified to observers. Entity changes are not notified but
+     * written to the island's {@link ChangeJournal}, which consumers drain at their own pace.
      */
     public enum ChangeType {
-        ADD, REMOVE
+        TERRAIN
     }
 
     private ChangeType lastChangeType;
-    private GameEntity lastChangedEntity;
 
     private final int MAP_WIDTH;
     private final int MAP_HEIGHT;
     private final int MAP_BORDER = 7; // width of the water border
 
-    private final Tile[][] tileMap;
+    /** Types, walkability and occupants of every tile */
+    private final TileGrid grid;
 
     private final List<GameEntity> gameEntities = new ArrayList<>();
+
+    /** Position of each entity in {@link #gameEntities}, for constant-time removal */
+    private final Map<GameEntity, Integer> entitySlots = new IdentityHashMap<>();
+
+    /** Spawns and despawns waiting for the next flush */
+    private final EntityCommandBuffer commands = new EntityCommandBuffer();
+
+    /** Record of every entity added, removed, moved or damaged */
+    private final ChangeJournal journal = new ChangeJournal(GameConfig.CHANGE_JOURNAL_CAPACITY);
+
+    /** Entities on the island by journal id */
+    private final Map<Integer, GameEntity> entitiesById = new HashMap<>();
+
+    /** Journal id given to the next entity joining the island; ids are never reused */
+    private int nextEntityId;
     private List<Observer> observers = new ArrayList<>();
 
     private boolean areMobsAlive;
 
+    /** Tiles whose terrain changed since observers were last told */
+    private final TerrainChangeSet terrainChanges = new TerrainChangeSet();
+
+    /** Number of updates performed so far */
+    private long tick;
+
+    /** Incremented every time a tile becomes walkable or unwalkable */
+    private long walkabilityVersion;
+
+    /** Strategy used by mobs to find their way on this island */
+    private Navigator navigator;
+
+    /** Connected regions of walkable tiles, kept up to date as tiles change */
+    private ConnectivityIndex connectivity;
+
+    /** Queue of mob path requests, served within a time budget at the start of each update */
+    private final PathScheduler pathScheduler;
+
+    /** Entities bucketed by position, for area queries */
+    private final SpatialIndex spatialIndex;
+
+    /** Entities filed by chunk, and which chunks are updated */
+    private final ChunkTracker chunkTracker;
+
+    /** The player the active chunks are centred on, if any */
+    private Player player;
+
+    /** Number of mobs on the island, in active chunks or not */
+    private int mobCount;
+
+    /** Elements on the island, which are never visited by updates; damage wakes them through {@link #wake} */
+    private final Set<GameEntity> sleepingEntities = Collections.newSetFromMap(new IdentityHashMap<>());
+
+    /** Entities of the active chunks, refilled at each update */
+    private final List<GameEntity> activeEntities = new ArrayList<>();
+
+    /** Struct-of-arrays state of the island's projectiles and actors */
+    private final EntityStore entityStore = new EntityStore();
+
+    /** Moves the projectiles of {@link #entityStore} once per update */
+    private final ProjectileSystem projectileSystem;
+
+    /** Moves the mobs of {@link #entityStore} once per update */
+    private final MobSystem mobSystem;
+
     /**
-     * Constructs the island using a tile map.
+     * Constructs the island using a tile map. Only the types of the tiles are used.
      *
      * @param map the 2D array of tiles that make up the island
      * @throws IOException if an issue occurs during initialization
      */
     public Island(Tile[][] map) throws IOException {
-        Objects.requireNonNull(map);
+        this(TileGrid.of(Objects.requireNonNull(map)));
+    }
 
-        tileMap = map;
-        MAP_WIDTH = tileMap[0].length;
-        MAP_HEIGHT = tileMap.length;
+    /**
+     * Constructs the island on a tile grid, which the island then owns and updates.
+     *
+     * @param grid the tiles that make up the island
+     * @throws IOException if an issue occurs during initialization
+     */
+    public Island(TileGrid grid) throws IOException {
+        Objects.requireNonNull(grid);
+
+        this.grid = grid;
+        MAP_WIDTH = grid.getWidth();
+        MAP_HEIGHT = grid.getHeight();
+        grid.attachTo(this);
+
+        spatialIndex = new SpatialIndex(MAP_WIDTH, MAP_HEIGHT, GameConfig.SPATIAL_CELL_SIZE);
+        chunkTracker = new ChunkTracker(grid, GameConfig.ACTIVE_CHUNK_RADIUS);
+        projectileSystem = new ProjectileSystem(this, entityStore);
+        mobSystem = new MobSystem(this, entityStore);
+        connectivity = new ConnectivityIndex(this);
+        navigator = GameConfig.NAVIGATION_MODE.create(this);
+        pathScheduler = new PathScheduler(this, GameConfig.PATHFINDING_BUDGET_MICROS);
     }
 
     /**
-     * Adds an entity to the island and notifies observers.
+     * Queues an entity to be added to the island. Queued entities join at the next flush: at the start
+     * and at the end of every update, or when a new round starts.
+     * Projectiles and actors then move their state into the island's entity store.
      *
      * @param entity the game entity to add
      */
     public void addEntity(GameEntity entity) {
-        gameEntities.add(entity);
-        lastChangeType = ChangeType.ADD;
-        lastChangedEntity = entity;
-        notifyObserver();
+        commands.spawn(entity);
     }
 
     /**
-     * Removes an entity from the island and notifies observers.
+     * Queues an entity to be removed from the island at the next flush. It is no longer updated meanwhile.
      *
      * @param entity the game entity to remove
      */
     public void removeEntity(GameEntity entity) {
-        gameEntities.remove(entity);
-        lastChangeType = ChangeType.REMOVE;
-        lastChangedEntity = entity;
-        notifyObserver();
+        commands.despawn(entity);
+    }
+
+    /**
+     * Applies the queued spawns and despawns in the order they were requested, recording each in the journal.
+     */
+    public void flushEntityCommands() {
+        if (commands.isEmpty()) return;
+
+        for (EntityCommandBuffer.Command command : commands.drain()) {
+            if (command.spawn()) {
+                spawn(command.entity());
+            } else {
+                despawn(command.entity());
+            }
+        }
+    }
+
+    private void spawn(GameEntity entity) {
+        if (entitySlots.containsKey(entity)) return;
+
+        if (entity instanceof Projectiles projectile) {
+            projectile.attach(entityStore);
+        } else if (entity instanceof Actors actor) {
+            actor.attach(entityStore);
+        }
+        entitySlots.put(entity, gameEntities.size());
+        gameEntities.add(entity);
+        spatialIndex.insert(entity);
+        if (entity instanceof Element element && !(entity instanceof Updatable)) {
+            sleepingEntities.add(element);
+            element.setWakeListener(this::wake);
+        } else if (entity instanceof Mobs) {
+            // Walked by the mob system straight from the entity store
+            mobCount++;
+        } else {
+            chunkTracker.insert(entity);
+        }
+
+        int id = nextEntityId++;
+        entitiesById.put(id, entity);
+        entity.attachJournal(journal, id);
+        record(ChangeJournal.Kind.ADD, entity);
+    }
+
+    private void despawn(GameEntity entity) {
+        Integer slot = entitySlots.remove(entity);
+        if (slot == null) return;
+
+        // Swap-remove: the last entity takes the freed slot
+        GameEntity last = gameEntities.remove(gameEntities.size() - 1);
+        if (last != entity) {
+            gameEntities.set(slot, last);
+            entitySlots.put(last, slot);
+        }
+        spatialIndex.remove(entity);
+        if (sleepingEntities.remove(entity)) {
+            ((Element) entity).setWakeListener(null);
+        } else {
+            chunkTracker.remove(entity);
+        }
+        if (entity instanceof Mobs) mobCount--;
+        if (entity instanceof Projectiles projectile) {
+            projectile.detach();
+        } else if (entity instanceof Actors actor) {
+            actor.detach();
+        }
+
+        record(ChangeJournal.Kind.REMOVE, entity);
+        entitiesById.remove(entity.getJournalId());
+        entity.detachJournal();
+    }
+
+    private void record(ChangeJournal.Kind kind, GameEntity entity) {
+        Vector p = entity.getPosition();
+        journal.append(kind, entity.getJournalId(), (int) p.x(), (int) p.y(), 0);
     }
 
     /**
      * Returns a tile based on x and y coordinates.
+     * The tile is a cached view on the island's {@link TileGrid}; hot loops should use the accessors taking
+     * coordinates instead, such as {@link #isWalkable(int, int)} and {@link #getOccupant(int, int)}.
      *
      * @param x x-coordinate
      * @param y y-coordinate
      * @return the corresponding tile
      */
     public Tile getTile(int x, int y) {
-        return getTile(new Vector(x, y));
+        if (x < 0 || x >= MAP_WIDTH || y < 0 || y >= MAP_HEIGHT) {
+            throw new IndexOutOfBoundsException("Coordinates out of bounds");
+        }
+        return grid.tileAt(grid.index(x, y));
     }
 
     /**
@@ -96,12 +266,129 @@ public class Island implements Subject {
      * @return the corresponding tile
      */
     public Tile getTile(Vector position) {
-        int x = (int) position.x();
-        int y = (int) position.y();
+        return getTile((int) position.x(), (int) position.y());
+    }
+
+    /**
+     * Checks whether the tile at the given coordinates can be walked on, without any allocation.
+     *
+     * @param x x-coordinate
+     * @param y y-coordinate
+     * @return true if the tile is walkable
+     */
+    @Override
+    public boolean isWalkable(int x, int y) {
+        return grid.isWalkable(x, y);
+    }
+
+    /**
+     * Checks whether the tile at the given coordinates can be walked through once moving entities are ignored.
+     *
+     * @param x x-coordinate
+     * @param y y-coordinate
+     * @return true if only the terrain and elements leave the tile open
+     */
+    public boolean isPassable(int x, int y) {
+        return grid.isPassable(grid.index(x, y));
+    }
+
+    /**
+     * Returns the entity on the tile at the given coordinates, without any allocation.
+     *
+     * @param x x-coordinate
+     * @param y y-coordinate
+     * @return the occupying entity, or null if the tile is empty
+     */
+    public GameEntity getOccupant(int x, int y) {
+        return grid.getOccupant(grid.index(x, y));
+    }
+
+    /**
+     * Puts an entity on an empty tile at the given coordinates, without any allocation.
+     *
+     * @param x      x-coordinate
+     * @param y      y-coordinate
+     * @param entity the entity to place
+     * @return false if the tile was already occupied
+     */
+    public boolean placeEntity(int x, int y, GameEntity entity) {
+        return grid.place(grid.index(x, y), entity);
+    }
+
+    /**
+     * Removes the entity on the tile at the given coordinates, if any, without any allocation.
+     *
+     * @param x x-coordinate
+     * @param y y-coordinate
+     */
+    public void clearTile(int x, int y) {
+        grid.clear(grid.index(x, y));
+    }
+
+    /*//////////////////////////////////////////////////////////////
+                              TERRAIN
+    //////////////////////////////////////////////////////////////*/
+
+    /**
+     * Changes the terrain of a tile during play, e.g. to flood it, bridge water with sand or dig.
+     * Grass and hills of the 3x3 neighborhood are then re-resolved from the coast, the way the map generator
+     * does it: grass along the water becomes hill, and hill cut off from it becomes grass again.
+     * Walkability and navigation follow tile by tile. Observers hear of every edited tile once, in a single
+     * {@link ChangeType#TERRAIN} notification at the end of the update.
+     *
+     * @param x    x-coordinate of the tile
+     * @param y    y-coordinate of the tile
+     * @param type the new terrain
+     */
+    public void setTerrain(int x, int y, TileType type) {
         if (x < 0 || x >= MAP_WIDTH || y < 0 || y >= MAP_HEIGHT) {
             throw new IndexOutOfBoundsException("Coordinates out of bounds");
         }
-        return tileMap[y][x];
+        Objects.requireNonNull(type);
+        if (grid.getType(x, y) == type) return;
+
+        grid.setType(grid.index(x, y), type);
+
+        for (int ny = Math.max(0, y - 1); ny <= Math.min(MAP_HEIGHT - 1, y + 1); ny++) {
+            for (int nx = Math.max(0, x - 1); nx <= Math.min(MAP_WIDTH - 1, x + 1); nx++) {
+                int index = grid.index(nx, ny);
+                TileType current = grid.getType(index);
+                if (current == TileType.GRASS || current == TileType.HILL) {
+                    int mask = AutotileKernel.computeWaterMask(grid, MAP_BORDER, nx, ny);
+                    TileType resolved = AutotileKernel.grassTerrain(mask);
+                    if (resolved != current) {
+                        grid.setType(index, resolved);
+                    }
+                }
+                // A neighbor keeping its type may still need another coast sprite
+                terrainChanges.add(nx, ny, index);
+            }
+        }
+    }
+
+    /**
+     * Notifies observers of the tiles edited since the last notification, if any.
+     * Called at the end of every update; edits made between updates can be published right away with it.
+     */
+    public void publishTerrainChanges() {
+        if (terrainChanges.isEmpty()) return;
+        lastChangeType = ChangeType.TERRAIN;
+        notifyObserver();
+        terrainChanges.clear();
+    }
+
+    /**
+     * @return the tiles of the {@link ChangeType#TERRAIN} change being notified
+     */
+    public TerrainChangeSet getTerrainChanges() {
+        return terrainChanges;
+    }
+
+    /**
+     * @return the compact storage of the island's tiles
+     */
+    public TileGrid getGrid() {
+        return grid;
     }
 
     public int getMapWidth() {
@@ -113,19 +400,22 @@ public class Island implements Subject {
     }
 
     /**
-     * Adds a player to the island and sets their position on the tile map.
+     * Adds a player to the island right away, along with anything else queued, and sets their position
+     * on the tile map.
      *
      * @param player the player to add
      */
     public void addPlayer(Player player) {
         Objects.requireNonNull(player);
 
+        this.player = player;
         addEntity(player);
+        flushEntityCommands();
 
         int x = (int) player.getPosition().x();
         int y = (int) player.getPosition().y();
 
-        tileMap[y][x].addEntity(player);
+        grid.place(grid.index(x, y), player);
     }
 
     public int getMAP_HEIGHT() {
@@ -141,46 +431,82 @@ public class Island implements Subject {
     }
 
     /**
-     * Called at the start of a new wave to re-place entities on their respective tiles.
+     * Called at the start of a new wave to re-place entities on their respective tiles,
+     * including the ones spawned for the wave.
      */
     public void updateNewRound() {
+        flushEntityCommands();
         for (GameEntity entity : gameEntities) {
             int x = (int) entity.getPosition().x();
             int y = (int) entity.getPosition().y();
 
             if (!(entity instanceof Player)){
-                tileMap[y][x].addEntity(entity);
+                grid.place(grid.index(x, y), entity);
             }
         }
     }
 
     /**
      * Updates all game entities and handles their removal if dead.
+     * Projectiles are moved first, all at once, by the island's {@link ProjectileSystem}.
+     * Only the entities of the chunks around the player are updated; the others wait, untouched.
+     * Elements are never visited: they sleep until damage wakes them.
+     * Mobs are moved last, all at once, by the island's {@link MobSystem}.
+     * Entities are added and removed in two batches, one at the start of the update for the requests made
+     * since the last one, and one at the end for those made during it.
+     * Terrain edited during the update is published to observers at the end.
      *
      * @param deltaTime time elapsed since the last update
      */
     public void update(float deltaTime) {
+        tick++;
+        journal.setTick(tick);
         areMobsAlive = false;
 
-        // Update the entities in the island
-        for (GameEntity entity : new ArrayList<>(gameEntities)) {
+        if (player != null) {
+            chunkTracker.update(player);
+            chunkTracker.setFocus(player.getPosition().x(), player.getPosition().y());
+        }
+
+        flushEntityCommands();
+
+        // Answer the path requests submitted during the previous update
+        pathScheduler.serve();
+
+        projectileSystem.update(deltaTime);
+
+        // Update the entities of the active chunks
+        activeEntities.clear();
+        chunkTracker.collectActive(activeEntities);
+        for (GameEntity entity : activeEntities) {
+            if (commands.isDespawning(entity)) continue;
 
             if (entity.getHealth() <= 0) {
                 int x = (int) entity.getPosition().x();
                 int y = (int) entity.getPosition().y();
 
-                this.getTile(x, y).removeEntity();
+                clearTile(x, y);
                 removeEntity(entity);
-            } else {
-                if (entity instanceof Updatable) {
-                    ((Updatable) entity).update(deltaTime);
-                }
-
-                if (entity instanceof Mobs) {
-                    areMobsAlive = true;
-                }
+            } else if (entity instanceof Updatable) {
+                ((Updatable) entity).update(deltaTime);
             }
         }
+
+        mobSystem.update(deltaTime);
+
+        flushEntityCommands();
+        areMobsAlive = mobCount > 0;
+
+        publishTerrainChanges();
+    }
+
+    /**
+     * Sets the number of acting mobs from which their decisions are computed on the fork-join pool.
+     *
+     * @param threshold the minimum number of mobs decided in parallel; 0 always uses the pool
+     */
+    public void setParallelMobThreshold(int threshold) {
+        mobSystem.setParallelThreshold(threshold);
     }
 
     /**
@@ -190,19 +516,201 @@ public class Island implements Subject {
         return areMobsAlive;
     }
 
+    /**
+     * Called by moving entities after they changed position, to keep the spatial index and chunks in sync
+     * and record the move in the journal.
+     *
+     * @param entity the entity that moved
+     */
+    public void onEntityMoved(GameEntity entity) {
+        spatialIndex.update(entity);
+        chunkTracker.update(entity);
+        if (entity.getJournalId() >= 0) {
+            record(ChangeJournal.Kind.MOVE, entity);
+        }
+    }
+
+    /**
+     * Called when a sleeping element takes damage. A destroyed element leaves its tile at once and is removed
+     * at the next flush; one that survives goes straight back to sleep, as it has nothing to update.
+     *
+     * @param element the element that took damage
+     */
+    private void wake(Element element) {
+        if (element.getHealth() > 0 || commands.isDespawning(element)) return;
+
+        int index = grid.index((int) element.getPosition().x(), (int) element.getPosition().y());
+        if (grid.getOccupant(index) == element) {
+            grid.clear(index);
+        }
+        removeEntity(element);
+    }
+
+    /**
+     * @param entity an entity of the island
+     * @return true if the entity sleeps, i.e. is never visited by updates
+     */
+    public boolean isSleeping(GameEntity entity) {
+        return sleepingEntities.contains(entity);
+    }
+
+    /**
+     * @return the number of entities visited by no update
+     */
+    public int getSleepingEntityCount() {
+        return sleepingEntities.size();
+    }
+
+    /**
+     * Checks whether the entities on a tile are currently updated.
+     *
+     * @param x x-coordinate
+     * @param y y-coordinate
+     * @return true if the tile lies in an active chunk
+     */
+    public boolean isActive(int x, int y) {
+        return chunkTracker.isActive(x, y);
+    }
+
+    /**
+     * @return the chunks of the island and the entities filed in them
+     */
+    public ChunkTracker getChunkTracker() {
+        return chunkTracker;
+    }
+
+    /**
+     * @return the index of the island's entities by position
+     */
+    public SpatialIndex getSpatialIndex() {
+        return spatialIndex;
+    }
+
+    /**
+     * @return the struct-of-arrays storage of the island's projectiles
+     */
+    public EntityStore getEntityStore() {
+        return entityStore;
+    }
+
+    /**
+     * Called by a tile of this island when it becomes walkable or unwalkable, or when its terrain or an element
+     * opens or closes it for navigation while an actor stands on it.
+     *
+     * @param x x-coordinate of the tile
+     * @param y y-coordinate of the tile
+     */
+    public void onWalkabilityChanged(int x, int y) {
+        walkabilityVersion++;
+        if (connectivity != null) {
+            connectivity.onTileChanged(x, y);
+        }
+        if (navigator != null) {
+            navigator.onWalkabilityChanged(x, y);
+        }
+    }
+
+    /**
+     * @return a counter incremented every time the walkability of a tile changes
+     */
+    public long getWalkabilityVersion() {
+        return walkabilityVersion;
+    }
+
+    /**
+     * @return the number of updates performed on this island
+     */
+    public long getTick() {
+        return tick;
+    }
+
+    /**
+     * Returns the connected region of walkable tiles a tile belongs to, ignoring actors and projectiles.
+     * Two tiles with the same id can be walked between; spawners can use it to avoid walled-off spots.
+     *
+     * @param x x-coordinate
+     * @param y y-coordinate
+     * @return the component id, or -1 if the tile cannot be walked on
+     */
+    public int getComponentId(int x, int y) {
+        return connectivity.getComponentId(x, y);
+    }
+
+    /**
+     * Checks in constant time whether a walking route can exist between two tiles, ignoring actors and projectiles.
+     *
+     * @param fromX x-coordinate of the first tile
+     * @param fromY y-coordinate of the first tile
+     * @param toX   x-coordinate of the second tile
+     * @param toY   y-coordinate of the second tile
+     * @return true if both tiles are in the same walkable region
+     */
+    public boolean isReachable(int fromX, int fromY, int toX, int toY) {
+        return connectivity.areConnected(fromX, fromY, toX, toY);
+    }
+
+    /**
+     * @return the connectivity index of this island
+     */
+    public ConnectivityIndex getConnectivity() {
+        return connectivity;
+    }
+
+    /**
+     * @return the scheduler serving the path requests of mobs on this island
+     */
+    public PathScheduler getPathScheduler() {
+        return pathScheduler;
+    }
+
+    /**
+     * @return the navigator mobs use to find their way on this island
+     */
+    public Navigator getNavigator() {
+        return navigator;
+    }
+
+    /**
+     * Replaces the navigation strategy used by mobs on this island.
+     *
+     * @param mode the navigation mode to use
+     */
+    public void setNavigationMode(NavigationMode mode) {
+        navigator = mode.create(this);
+    }
+
     public ChangeType getLastChangeType() {
         return lastChangeType;
     }
 
-    public GameEntity getLastChangedEntity() {
-        return lastChangedEntity;
+    /**
+     * @return the journal of the entities added, removed, moved and damaged on this island
+     */
+    public ChangeJournal getJournal() {
+        return journal;
+    }
+
+    /**
+     * Returns an entity of the island by journal id.
+     *
+     * @param id the id found in a journal record
+     * @return the entity, or null if it has left the island since
+     */
+    public GameEntity getEntity(int id) {
+        return entitiesById.get(id);
+    }
+
+    /**
+     * @return the entities currently on the island, for consumers rebuilding their state from scratch
+     */
+    public List<GameEntity> getEntities() {
+        return Collections.unmodifiableList(gameEntities);
     }
 
     /**
      * Clears the last tracked change (used after notifying observers).
      */
     public void clearLastChange() {
-        lastChangedEntity = null;
         lastChangeType = null;
     }
 
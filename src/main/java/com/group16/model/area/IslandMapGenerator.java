@@ -1,22 +1,26 @@
 package com.group16.model.area;
 
 import com.group16.controller.config.GameConfig;
+import com.group16.model.area.tiles.AutotileKernel;
 import com.group16.model.area.tiles.Tile;
+import com.group16.model.area.tiles.TileGrid;
 import com.group16.model.area.tiles.TileType;
 
 import java.io.BufferedReader;
 import java.io.FileReader;
 import java.io.IOException;
+import java.nio.file.Path;
 import java.util.ArrayList;
 import java.util.List;
-import java.util.Objects;
 
 /**
  * Generates a tile-based island map using data loaded from a file.
  * Adds a configurable water border around the map and computes "hill" tiles
  * based on adjacency to water.
+ * <p>
+ * Maps can also be loaded from a binary {@link MapFile}, which already holds the border and the hills.
  */
-public class IslandMapGenerator {
+public final class IslandMapGenerator {
 
     // Map dimensions and player spawn config
     private final int MAP_WIDTH;
@@ -26,7 +30,13 @@ public class IslandMapGenerator {
     private static final int PLAYER_START_X = 10;
     private static final int PLAYER_START_Y = 10;
 
-    private Tile[][] tileMap;
+    private final TileGrid grid;
+
+    /** Checksum of the text design the map comes from, kept in the binary maps converted from it */
+    private final int sourceChecksum;
+
+    /** Water mask of each tile, row by row */
+    private byte[] waterMasks;
 
     /**
      * Constructs the island map using a tile definition from file.
@@ -35,29 +45,81 @@ public class IslandMapGenerator {
      * @throws IOException if reading from the file fails
      */
     public IslandMapGenerator(String fileName) throws IOException {
-        int[][] fileMap = loadTableFromFile(fileName);
-        Objects.requireNonNull(fileMap);
+        MapTextParser.ParsedMap fileMap = MapTextParser.parse(Path.of(fileName));
+        sourceChecksum = MapFile.checksum(Path.of(fileName));
 
-        MAP_WIDTH = fileMap[0].length + (2 * MAP_BORDER);
-        MAP_HEIGHT = fileMap.length + (2 * MAP_BORDER);
+        MAP_WIDTH = fileMap.width() + (2 * MAP_BORDER);
+        MAP_HEIGHT = fileMap.height() + (2 * MAP_BORDER);
 
-        tileMap = new Tile[MAP_HEIGHT][MAP_WIDTH];
+        grid = new TileGrid(MAP_WIDTH, MAP_HEIGHT);
 
         createMap(fileMap);
         computeHill();
     }
 
     /**
-     * Returns a defensive copy of the generated map.
+     * Constructs the map from a finished grid, border and hills included.
+     */
+    private IslandMapGenerator(TileGrid grid, int sourceChecksum) {
+        this.grid = grid;
+        this.sourceChecksum = sourceChecksum;
+        MAP_WIDTH = grid.getWidth();
+        MAP_HEIGHT = grid.getHeight();
+        waterMasks = AutotileKernel.computeWaterMasks(grid, MAP_BORDER);
+    }
+
+    /**
+     * Loads a map from a binary {@link MapFile} if the name ends with {@value MapFile#EXTENSION},
+     * or from a text file otherwise.
+     *
+     * @param fileName the path to the map file
+     * @return the generator holding the map
+     * @throws IOException if reading fails, or the binary map has a different border
+     */
+    public static IslandMapGenerator load(String fileName) throws IOException {
+        if (!fileName.endsWith(MapFile.EXTENSION)) {
+            return new IslandMapGenerator(fileName);
+        }
+
+        MapFile file = MapFile.read(Path.of(fileName));
+        if (file.getBorder() != MAP_BORDER) {
+            throw new IOException("Map border " + file.getBorder() + " instead of " + MAP_BORDER + ": " + fileName);
+        }
+        return new IslandMapGenerator(file.getGrid(), file.getSourceChecksum());
+    }
+
+    /**
+     * Writes the generated map as a binary {@link MapFile}.
+     *
+     * @param path the file to write
+     * @throws IOException if writing fails
+     */
+    public void save(Path path) throws IOException {
+        MapFile.write(path, grid, MAP_BORDER, sourceChecksum);
+    }
+
+    /**
+     * Returns a defensive copy of the generated map, ready to be handed to an {@link Island}.
+     *
+     * @return a compact grid of the map's tiles
+     */
+    public TileGrid getGrid() {
+        return grid.copy();
+    }
+
+    /**
+     * Returns a defensive copy of the generated map as a matrix of tiles.
+     * Prefer {@link #getGrid()}, which does not create an object per tile.
      *
      * @return a 2D Tile array representing the map
      */
     public Tile[][] getMap() {
+        TileGrid copy = grid.copy();
         Tile[][] tileCopyMap = new Tile[MAP_HEIGHT][MAP_WIDTH];
 
         for (int i = 0; i < MAP_HEIGHT; i++) {
             for (int j = 0; j < MAP_WIDTH; j++) {
-                tileCopyMap[i][j] = new Tile(tileMap[i][j].getType());
+                tileCopyMap[i][j] = new Tile(copy, copy.index(j, i));
             }
         }
 
@@ -84,124 +146,48 @@ public class IslandMapGenerator {
 
     /**
      * Builds the internal tile map from the raw tile type grid loaded from file.
-     * Adds water borders on all sides.
+     * Tiles outside the file data keep the grid's default type, water, which forms the border.
      *
      * @param fileMap the raw tile type grid
-     * @throws IOException should tile creation fail (though unlikely)
-     */
-    private void createMap(int[][] fileMap) throws IOException {
-
-        // Top water border
-        for (int y = 0; y < MAP_BORDER; y++) {
-            for (int x = 0; x < MAP_WIDTH; x++) {
-                tileMap[y][x] = new Tile(TileType.WATER);
-            }
-        }
-
-        // Middle: file data + vertical water border
-        for (int y = MAP_BORDER; y < fileMap.length + MAP_BORDER; y++) {
-            for (int x = 0; x < MAP_WIDTH; x++) {
-                if (x < MAP_BORDER || x >= fileMap[0].length + MAP_BORDER) {
-                    tileMap[y][x] = new Tile(TileType.WATER);
-                } else {
-                    // Construct the tiles that are on the file MapDesign1.txt
-                    Tile tile = new Tile(TileType.values()[fileMap[y - MAP_BORDER][x - MAP_BORDER]]);
-                    // randomGenerationOfElements(tile);
-                    tileMap[y][x] = tile;
-                }
-            }
-        }
-
-        // Bottom water border
-        for (int y = 0; y < MAP_BORDER; y++) {
-            for (int x = 0; x < MAP_WIDTH; x++) {
-                tileMap[y + fileMap.length + MAP_BORDER][x] = new Tile(TileType.WATER);
-            }
-        }
-    }
-
-    /**
-     * Determines the tile type for a GRASS tile based on adjacent water bitmask.
-     * Used to convert grass into HILL if close to water.
-     *
-     * @param mask bitmask indicating neighboring water tiles
-     * @return the resulting tile type
      */
-    private TileType determineType(int mask) {
-        return switch (mask) {
-            case 0b0000001, 0b0000010, 0b0000100, 0b0001000,
-                 0b0000011, 0b0001001, 0b0000110, 0b0001100,
-                 0b0010000, 0b0100000, 0b01000000, 0b10000000 -> TileType.HILL;
-            default -> TileType.GRASS;
-        };
-    }
-
-    /**
-     * Counts cardinal and diagonal neighbors that match the given tile type
-     * and generates a bitmask used in terrain classification.
-     *
-     * @param i    the row index of the tile
-     * @param j    the column index of the tile
-     * @param type the tile type to match
-     * @return the generated bitmask of matching neighbors
-     */
-    private int countAllCardinalNeighbors(int i, int j, TileType type) {
-        int bitmask = 0;
-
-        // All possible 8 directions (4 cardinal + 4 diagonal)
-        int[][] dirs = {
-                {-1, 0}, {0, 1}, {1, 0}, {0, -1},
-                {-1, 1}, {-1, -1}, {1, 1}, {1, -1}
-        };
+    private void createMap(MapTextParser.ParsedMap fileMap) {
+        TileType[] types = TileType.values();
 
-        int k = 1, count = 0;
-
-        for (int[] d : dirs) {
-            if (count == 4 && bitmask != 0) break;
-
-            int nx = i + d[0], ny = j + d[1];
-
-            if (inBounds(nx, ny) && tileMap[nx][ny].getType() == type) {
-                bitmask |= k;
+        for (int y = 0; y < fileMap.height(); y++) {
+            for (int x = 0; x < fileMap.width(); x++) {
+                grid.setType(grid.index(x + MAP_BORDER, y + MAP_BORDER), types[fileMap.codeAt(x, y)]);
             }
-
-            count++;
-            k = k << 1;
         }
-
-        return bitmask;
-    }
-
-    /**
-     * Checks if a given tile coordinate is within valid tile bounds
-     * excluding the map border.
-     *
-     * @param x row index
-     * @param y column index
-     * @return true if in bounds
-     */
-    private boolean inBounds(int x, int y) {
-        return x >= MAP_BORDER - 1 && x < MAP_HEIGHT - MAP_BORDER + 1 &&
-                y >= MAP_BORDER - 1 && y < MAP_WIDTH - MAP_BORDER + 1;
     }
 
     /**
      * Converts some GRASS tiles into HILLs based on water proximity.
-     * Uses bitmasking of neighboring water tiles.
+     * Uses the water masks of the shared {@link AutotileKernel}, which the tile views reuse.
      */
     public void computeHill() {
+        waterMasks = AutotileKernel.computeWaterMasks(grid, MAP_BORDER);
         for (int i = 0; i < MAP_HEIGHT; i++) {
             for (int j = 0; j < MAP_WIDTH; j++) {
-                if (tileMap[i][j].getType() == TileType.GRASS) {
-                    int mask = countAllCardinalNeighbors(i, j, TileType.WATER);
-                    tileMap[i][j] = new Tile(determineType(mask));
+                if (grid.getType(j, i) == TileType.GRASS) {
+                    grid.setType(grid.index(j, i), AutotileKernel.grassTerrain(waterMasks[i * MAP_WIDTH + j]));
                 }
             }
         }
     }
 
+    /**
+     * Returns the mask of water tiles around each tile, row by row, as computed by {@link AutotileKernel}.
+     * Hills do not change it, so it stays valid for the finished map.
+     *
+     * @return a copy of the masks
+     */
+    public byte[] getWaterMasks() {
+        return waterMasks.clone();
+    }
+
     /**
      * Loads a grid of tile type integers from a whitespace-separated file.
+     * Creates strings and arrays for every line; {@link MapTextParser} reads the same files far faster.
      *
      * @param filename path to the file
      * @return a 2D array of integers
@@ -0,0 +1,217 @@
+package com.group16.model.area;
+
+import com.group16.model.area.tiles.TileGrid;
+import com.group16.model.area.tiles.TileType;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.zip.CRC32;
+
+/**
+ * Binary map format: a fixed header followed by one byte per tile, the ordinal of its {@link TileType},
+ * row by row. The payload is the finished map, water border and hills included, so loading it is a matter
+ * of mapping the file and copying the bytes into a {@link TileGrid}.
+ * <p>
+ * Header, big-endian: magic {@code "JIMP"}, format version, width, height, border width, the CRC32 of the
+ * text design the map was converted from, then the CRC32 of the payload, each as an int. The checksum of
+ * the design tells whether the binary map is still up to date after the design was edited.
+ */
+public final class MapFile {
+
+    /** Extension of binary map files */
+    public static final String EXTENSION = ".jmap";
+
+    private static final int MAGIC = 0x4A494D50; // "JIMP"
+    private static final int VERSION = 2;
+    private static final int HEADER_SIZE = 7 * Integer.BYTES;
+
+    private static final TileType[] TYPES = TileType.values();
+
+    private final TileGrid grid;
+    private final int border;
+    private final int sourceChecksum;
+
+    private MapFile(TileGrid grid, int border, int sourceChecksum) {
+        this.grid = grid;
+        this.border = border;
+        this.sourceChecksum = sourceChecksum;
+    }
+
+    /**
+     * Returns the file to load for a text design: the binary map next to it if it was converted from the
+     * design as it is now, else the design itself. A binary map of an older format, unreadable, or converted
+     * before the design was last edited is ignored, so editing a design never requires deleting its binary.
+     *
+     * @param design the text design, e.g. {@code MapDesign1.txt}
+     * @return the binary map with the same name if it is up to date, else the design
+     */
+    public static Path select(Path design) {
+        String name = design.getFileName().toString();
+        int dot = name.lastIndexOf('.');
+        Path binary = design.resolveSibling((dot < 0 ? name : name.substring(0, dot)) + EXTENSION);
+
+        if (!Files.exists(binary)) return design;
+        if (!Files.exists(design)) return binary;
+        try {
+            return readSourceChecksum(binary) == checksum(design) ? binary : design;
+        } catch (IOException e) {
+            return design;
+        }
+    }
+
+    /**
+     * Computes the checksum of a text design, as stored in the header of the binary maps converted from it.
+     *
+     * @param design the text design
+     * @return the CRC32 of the file's bytes
+     * @throws IOException if the file cannot be read
+     */
+    public static int checksum(Path design) throws IOException {
+        try (FileChannel channel = FileChannel.open(design, StandardOpenOption.READ)) {
+            CRC32 crc = new CRC32();
+            crc.update(channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size()));
+            return (int) crc.getValue();
+        }
+    }
+
+    /**
+     * Reads the checksum of the design a binary map was converted from, without reading its tiles.
+     *
+     * @throws IOException if the file cannot be read or is not a map of this version
+     */
+    private static int readSourceChecksum(Path path) throws IOException {
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            ByteBuffer header = ByteBuffer.allocate(HEADER_SIZE).order(ByteOrder.BIG_ENDIAN);
+            while (header.hasRemaining()) {
+                if (channel.read(header) < 0) {
+                    throw new IOException("Truncated map file: " + path);
+                }
+            }
+            header.flip();
+            if (header.getInt() != MAGIC || header.getInt() != VERSION) {
+                throw new IOException("Not a map file of version " + VERSION + ": " + path);
+            }
+            // Width, height and border come before the checksum of the design
+            return header.getInt(5 * Integer.BYTES);
+        }
+    }
+
+    /**
+     * Maps a binary map file into memory and builds its grid.
+     *
+     * @param path the file to read
+     * @return the loaded map
+     * @throws IOException if the file cannot be read, is not a map of this version or is corrupted
+     */
+    public static MapFile read(Path path) throws IOException {
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            if (channel.size() < HEADER_SIZE) {
+                throw new IOException("Truncated map file: " + path);
+            }
+            MappedByteBuffer buffer = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+            buffer.order(ByteOrder.BIG_ENDIAN);
+
+            if (buffer.getInt() != MAGIC) {
+                throw new IOException("Not a map file: " + path);
+            }
+            int version = buffer.getInt();
+            if (version != VERSION) {
+                throw new IOException("Unsupported map file version " + version + ": " + path);
+            }
+            int width = buffer.getInt();
+            int height = buffer.getInt();
+            int border = buffer.getInt();
+            int sourceChecksum = buffer.getInt();
+            int checksum = buffer.getInt();
+
+            if (width <= 0 || height <= 0 || (long) width * height != channel.size() - HEADER_SIZE) {
+                throw new IOException("Map size does not match the file length: " + path);
+            }
+
+            ByteBuffer payload = buffer.slice();
+            CRC32 crc = new CRC32();
+            crc.update(payload.duplicate());
+            if ((int) crc.getValue() != checksum) {
+                throw new IOException("Map file checksum mismatch: " + path);
+            }
+
+            TileGrid grid = new TileGrid(width, height);
+            for (int y = 0; y < height; y++) {
+                for (int x = 0; x < width; x++) {
+                    int ordinal = payload.get();
+                    if (ordinal < 0 || ordinal >= TYPES.length) {
+                        throw new IOException("Unknown tile type " + ordinal + " at " + x + "," + y + ": " + path);
+                    }
+                    // Grids start as water, so only the other tiles allocate chunks
+                    if (TYPES[ordinal] != TileType.WATER) {
+                        grid.setType(grid.index(x, y), TYPES[ordinal]);
+                    }
+                }
+            }
+            return new MapFile(grid, border, sourceChecksum);
+        }
+    }
+
+    /**
+     * Writes a grid as a binary map file, replacing any existing file.
+     *
+     * @param path           the file to write
+     * @param grid           the tiles to store
+     * @param border         width of the water border around the map
+     * @param sourceChecksum {@link #checksum checksum} of the text design the grid was generated from
+     * @throws IOException if writing fails
+     */
+    public static void write(Path path, TileGrid grid, int border, int sourceChecksum) throws IOException {
+        int width = grid.getWidth();
+        int height = grid.getHeight();
+
+        ByteBuffer payload = ByteBuffer.allocate(width * height);
+        for (int y = 0; y < height; y++) {
+            for (int x = 0; x < width; x++) {
+                payload.put((byte) grid.getType(x, y).ordinal());
+            }
+        }
+        payload.flip();
+
+        CRC32 crc = new CRC32();
+        crc.update(payload.duplicate());
+
+        ByteBuffer header = ByteBuffer.allocate(HEADER_SIZE).order(ByteOrder.BIG_ENDIAN);
+        header.putInt(MAGIC).putInt(VERSION).putInt(width).putInt(height).putInt(border).putInt(sourceChecksum)
+                .putInt((int) crc.getValue());
+        header.flip();
+
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.CREATE,
+                StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING)) {
+            while (header.hasRemaining()) channel.write(header);
+            while (payload.hasRemaining()) channel.write(payload);
+        }
+    }
+
+    /**
+     * @return the tiles of the map; the grid belongs to the caller
+     */
+    public TileGrid getGrid() {
+        return grid;
+    }
+
+    /**
+     * @return the width of the water border around the map
+     */
+    public int getBorder() {
+        return border;
+    }
+
+    /**
+     * @return the checksum of the text design the map was converted from
+     */
+    public int getSourceChecksum() {
+        return sourceChecksum;
+    }
+}
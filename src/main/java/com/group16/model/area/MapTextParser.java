@@ -0,0 +1,238 @@
+package com.group16.model.area;
+
+import com.group16.model.area.tiles.TileType;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Arrays;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+
+/**
+ * Parser for text map designs: rows of whitespace-separated tile codes, the ordinals of {@link TileType}.
+ * Works on the raw bytes of the file, without creating a string per line or per token, and writes the codes
+ * straight into one flat row-major array. Both LF and CRLF line endings are accepted.
+ * <p>
+ * Rows are first located in a single scan for line breaks; large maps then parse their rows in ranges
+ * on the common fork-join pool.
+ */
+public final class MapTextParser {
+
+    /**
+     * A parsed map design.
+     *
+     * @param width  number of tiles per row
+     * @param height number of rows
+     * @param codes  tile code of each tile, row by row
+     */
+    public record ParsedMap(int width, int height, byte[] codes) {
+
+        /**
+         * @return the tile code at the given coordinates
+         */
+        public int codeAt(int x, int y) {
+            return codes[y * width + x];
+        }
+    }
+
+    /** Number of tiles from which rows are parsed in parallel */
+    static final int PARALLEL_THRESHOLD = 1 << 20;
+
+    /** Rows parsed by a single task */
+    private static final int ROWS_PER_TASK = 256;
+
+    private static final int TYPE_COUNT = TileType.values().length;
+
+    private MapTextParser() {
+    }
+
+    /**
+     * Maps a text map file into memory and parses it.
+     *
+     * @param path the file to read
+     * @return the parsed map
+     * @throws IOException if the file cannot be read or is malformed
+     */
+    public static ParsedMap parse(Path path) throws IOException {
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            try {
+                return parse(channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size()));
+            } catch (IOException e) {
+                throw new IOException(path + ": " + e.getMessage(), e);
+            }
+        }
+    }
+
+    /**
+     * Parses the map held by a buffer, from its position to its limit. The buffer's position is left unchanged.
+     *
+     * @param buffer the text of the map
+     * @return the parsed map
+     * @throws IOException if the text is not a rectangle of known tile codes
+     */
+    public static ParsedMap parse(ByteBuffer buffer) throws IOException {
+        int[] lineStarts = findLines(buffer);
+        int height = lineStarts.length - 1;
+        if (height == 0) {
+            throw new IOException("Empty map");
+        }
+
+        int width = countTokens(buffer, lineStarts[0], lineStarts[1]);
+        if (width == 0) {
+            throw new IOException("Line 1 is empty");
+        }
+
+        byte[] codes = new byte[width * height];
+        if ((long) width * height < PARALLEL_THRESHOLD) {
+            parseRows(buffer, lineStarts, 0, height, width, codes);
+        } else {
+            try {
+                ForkJoinPool.commonPool().invoke(new RowRangeTask(buffer, lineStarts, 0, height, width, codes));
+            } catch (UncheckedIOException e) {
+                throw e.getCause();
+            }
+        }
+        return new ParsedMap(width, height, codes);
+    }
+
+    /*//////////////////////////////////////////////////////////////
+                              PARSING
+    //////////////////////////////////////////////////////////////*/
+
+    /**
+     * Finds where each line starts. Blank lines at the end of the file are dropped.
+     *
+     * @return the start of each line, followed by the end of the last one
+     */
+    private static int[] findLines(ByteBuffer buffer) {
+        int start = buffer.position();
+        int end = buffer.limit();
+
+        // Ignore trailing whitespace and line breaks
+        while (end > start && isBlank(buffer.get(end - 1))) {
+            end--;
+        }
+        if (end == start) return new int[]{start};
+
+        int[] starts = new int[64];
+        int count = 0;
+        starts[count++] = start;
+        for (int i = start; i < end; i++) {
+            if (buffer.get(i) == '\n') {
+                if (count == starts.length) {
+                    starts = Arrays.copyOf(starts, count * 2);
+                }
+                starts[count++] = i + 1;
+            }
+        }
+
+        int[] lines = Arrays.copyOf(starts, count + 1);
+        lines[count] = end;
+        return lines;
+    }
+
+    private static int countTokens(ByteBuffer buffer, int from, int to) {
+        int tokens = 0;
+        boolean inToken = false;
+        for (int i = from; i < to; i++) {
+            boolean blank = isBlank(buffer.get(i));
+            if (!blank && !inToken) tokens++;
+            inToken = !blank;
+        }
+        return tokens;
+    }
+
+    /**
+     * Parses rows {@code [fromRow, toRow)} into their slice of the codes.
+     *
+     * @throws IOException on the first malformed row
+     */
+    private static void parseRows(ByteBuffer buffer, int[] lineStarts, int fromRow, int toRow,
+                                  int width, byte[] codes) throws IOException {
+        for (int row = fromRow; row < toRow; row++) {
+            int out = row * width;
+            int column = 0;
+            int i = lineStarts[row];
+            int end = lineStarts[row + 1];
+
+            while (i < end) {
+                byte b = buffer.get(i);
+                if (isBlank(b)) {
+                    i++;
+                    continue;
+                }
+
+                int value = 0;
+                int tokenStart = i;
+                while (i < end && !isBlank(b = buffer.get(i))) {
+                    if (b < '0' || b > '9') {
+                        throw new IOException("Line " + (row + 1) + ", column " + (i - lineStarts[row] + 1)
+                                + ": unexpected character '" + (char) b + "'");
+                    }
+                    value = value * 10 + (b - '0');
+                    if (value >= TYPE_COUNT) {
+                        throw new IOException("Line " + (row + 1) + ", column " + (tokenStart - lineStarts[row] + 1)
+                                + ": unknown tile code");
+                    }
+                    i++;
+                }
+
+                if (column == width) {
+                    throw new IOException("Line " + (row + 1) + " has more than " + width + " tiles");
+                }
+                codes[out + column++] = (byte) value;
+            }
+
+            if (column != width) {
+                throw new IOException("Line " + (row + 1) + " has " + column + " tiles instead of " + width);
+            }
+        }
+    }
+
+    private static boolean isBlank(byte b) {
+        return b == ' ' || b == '\t' || b == '\r' || b == '\n';
+    }
+
+    /**
+     * Splits a range of rows in halves until it is small enough to parse directly.
+     * Tasks only live for one parse and are never serialized.
+     */
+    @SuppressWarnings("serial")
+    private static final class RowRangeTask extends RecursiveAction {
+
+        private final ByteBuffer buffer;
+        private final int[] lineStarts;
+        private final int fromRow;
+        private final int toRow;
+        private final int width;
+        private final byte[] codes;
+
+        RowRangeTask(ByteBuffer buffer, int[] lineStarts, int fromRow, int toRow, int width, byte[] codes) {
+            this.buffer = buffer;
+            this.lineStarts = lineStarts;
+            this.fromRow = fromRow;
+            this.toRow = toRow;
+            this.width = width;
+            this.codes = codes;
+        }
+
+        @Override
+        protected void compute() {
+            if (toRow - fromRow <= ROWS_PER_TASK) {
+                try {
+                    parseRows(buffer, lineStarts, fromRow, toRow, width, codes);
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                }
+                return;
+            }
+            int middle = (fromRow + toRow) >>> 1;
+            invokeAll(new RowRangeTask(buffer, lineStarts, fromRow, middle, width, codes),
+                      new RowRangeTask(buffer, lineStarts, middle, toRow, width, codes));
+        }
+    }
+}
@@ -0,0 +1,95 @@
+package com.group16.model.area;
+
+import com.group16.model.area.tiles.TileGrid;
+
+/**
+ * Immutable copy of which tiles of part of an island can be walked on at a given tick, one bit per tile,
+ * chunk by chunk. Mobs decide their moves against it from several threads at once, while the live tiles
+ * only change afterwards, when the decisions are applied one by one.
+ * <p>
+ * Only the chunks around the acting mobs are copied, so the snapshot costs the same on a map of any size.
+ * Tiles outside them read as blocked.
+ */
+public final class OccupancySnapshot implements TileOccupancy {
+
+    /** Grid the snapshot was taken from, only used to locate tiles in their chunks */
+    private final TileGrid grid;
+    private final long tick;
+
+    // Chunks copied, as a rectangle of chunk columns and rows
+    private final int fromColumn;
+    private final int fromRow;
+    private final int columns;
+    private final int rows;
+
+    /** For each chunk copied, bit {@link TileGrid#localIndex} is set when the tile is walkable; null if none is */
+    private final long[][] walkable;
+
+    private OccupancySnapshot(TileGrid grid, long tick, int fromColumn, int fromRow, int columns, int rows) {
+        this.grid = grid;
+        this.tick = tick;
+        this.fromColumn = fromColumn;
+        this.fromRow = fromRow;
+        this.columns = columns;
+        this.rows = rows;
+        this.walkable = new long[columns * rows][];
+        for (int row = 0; row < rows; row++) {
+            for (int column = 0; column < columns; column++) {
+                int chunk = (fromRow + row) * grid.getChunkColumns() + fromColumn + column;
+                walkable[row * columns + column] = grid.copyWalkable(chunk);
+            }
+        }
+    }
+
+    /**
+     * Copies the current walkability of the tiles of a rectangle of the island, and of their neighbours.
+     *
+     * @param island the island to copy
+     * @param minX   x-coordinate of the leftmost tile to cover
+     * @param minY   y-coordinate of the topmost tile to cover
+     * @param maxX   x-coordinate of the rightmost tile to cover
+     * @param maxY   y-coordinate of the bottommost tile to cover
+     * @return the snapshot
+     */
+    public static OccupancySnapshot capture(Island island, int minX, int minY, int maxX, int maxY) {
+        TileGrid grid = island.getGrid();
+        int fromColumn = Math.max(0, minX - 1) / TileGrid.CHUNK_SIZE;
+        int fromRow = Math.max(0, minY - 1) / TileGrid.CHUNK_SIZE;
+        int toColumn = Math.min(grid.getWidth() - 1, maxX + 1) / TileGrid.CHUNK_SIZE;
+        int toRow = Math.min(grid.getHeight() - 1, maxY + 1) / TileGrid.CHUNK_SIZE;
+        return new OccupancySnapshot(grid, island.getTick(), fromColumn, fromRow,
+                toColumn - fromColumn + 1, toRow - fromRow + 1);
+    }
+
+    /**
+     * Checks whether a tile was walkable when the snapshot was taken.
+     *
+     * @param x x-coordinate
+     * @param y y-coordinate
+     * @return true if the tile was walkable, false if it was blocked or lies outside the tiles copied
+     */
+    @Override
+    public boolean isWalkable(int x, int y) {
+        int column = x / TileGrid.CHUNK_SIZE - fromColumn;
+        int row = y / TileGrid.CHUNK_SIZE - fromRow;
+        if (!grid.contains(x, y) || column < 0 || row < 0 || column >= columns || row >= rows) return false;
+
+        long[] bits = walkable[row * columns + column];
+        int local = TileGrid.localIndex(grid.index(x, y));
+        return bits != null && (bits[local >>> 6] & (1L << local)) != 0;
+    }
+
+    /**
+     * @return the number of chunks copied
+     */
+    public int getChunkCount() {
+        return walkable.length;
+    }
+
+    /**
+     * @return the island tick the snapshot was taken on
+     */
+    public long getTick() {
+        return tick;
+    }
+}
@@ -0,0 +1,254 @@
+package com.group16.model.area;
+
+import com.group16.model.entity.GameEntity;
+import com.group16.model.utils.maths.Vector;
+
+import java.util.ArrayList;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Uniform grid of buckets indexing the entities of an island by position, so that "what is near here"
+ * only looks at the few buckets overlapping the area instead of every entity.
+ * Each bucket covers a square of {@code cellSize} by {@code cellSize} tiles. The island keeps the index
+ * in sync when entities are added, removed or moved.
+ */
+public class SpatialIndex {
+
+    private final int cellSize;
+    private final int columns;
+    private final int rows;
+    /** Entities of each bucket, created the first time an entity enters it */
+    private final List<List<GameEntity>> buckets;
+
+    /** Bucket each indexed entity was filed in */
+    private final Map<GameEntity, Integer> cells = new IdentityHashMap<>();
+
+    /**
+     * Constructs an empty index for a map.
+     *
+     * @param width    width of the map in tiles
+     * @param height   height of the map in tiles
+     * @param cellSize side of a bucket in tiles
+     */
+    public SpatialIndex(int width, int height, int cellSize) {
+        if (cellSize <= 0) {
+            throw new IllegalArgumentException("Cell size must be positive");
+        }
+        this.cellSize = cellSize;
+        this.columns = (width + cellSize - 1) / cellSize;
+        this.rows = (height + cellSize - 1) / cellSize;
+        this.buckets = new ArrayList<>(columns * rows);
+        for (int i = 0; i < columns * rows; i++) {
+            buckets.add(null);
+        }
+    }
+
+    /*//////////////////////////////////////////////////////////////
+                              UPDATES
+    //////////////////////////////////////////////////////////////*/
+
+    /**
+     * Adds an entity at its current position. Does nothing if it is already indexed.
+     *
+     * @param entity the entity to add
+     */
+    public void insert(GameEntity entity) {
+        if (cells.containsKey(entity)) return;
+        int cell = cellOf(entity.getPosition());
+        bucket(cell).add(entity);
+        cells.put(entity, cell);
+    }
+
+    /**
+     * Removes an entity. Does nothing if it is not indexed.
+     *
+     * @param entity the entity to remove
+     */
+    public void remove(GameEntity entity) {
+        Integer cell = cells.remove(entity);
+        if (cell != null) {
+            buckets.get(cell).remove(entity);
+        }
+    }
+
+    /**
+     * Moves an entity to the bucket of its current position, if it changed bucket.
+     *
+     * @param entity the entity that moved
+     */
+    public void update(GameEntity entity) {
+        Integer previous = cells.get(entity);
+        if (previous == null) return;
+
+        int cell = cellOf(entity.getPosition());
+        if (cell != previous) {
+            buckets.get(previous).remove(entity);
+            bucket(cell).add(entity);
+            cells.put(entity, cell);
+        }
+    }
+
+    /*//////////////////////////////////////////////////////////////
+                              QUERIES
+    //////////////////////////////////////////////////////////////*/
+
+    /**
+     * Finds the entities within a distance of a point, measured between positions in tiles.
+     *
+     * @param center the center of the area
+     * @param radius the largest distance, inclusive
+     * @return the entities in the area, in no particular order
+     */
+    public List<GameEntity> queryRadius(Vector center, float radius) {
+        return queryRadius(center, radius, GameEntity.class);
+    }
+
+    /**
+     * Finds the entities of a type within a distance of a point, measured between positions in tiles.
+     *
+     * @param center the center of the area
+     * @param radius the largest distance, inclusive
+     * @param type   the class of the entities to keep
+     * @return the matching entities in the area, in no particular order
+     */
+    public <T extends GameEntity> List<T> queryRadius(Vector center, float radius, Class<T> type) {
+        List<T> found = new ArrayList<>();
+        float radiusSquared = radius * radius;
+
+        int minColumn = column(center.x() - radius), maxColumn = column(center.x() + radius);
+        int minRow = row(center.y() - radius), maxRow = row(center.y() + radius);
+
+        for (int row = minRow; row <= maxRow; row++) {
+            for (int column = minColumn; column <= maxColumn; column++) {
+                for (GameEntity entity : bucketOrEmpty(row * columns + column)) {
+                    if (type.isInstance(entity) && distanceSquared(entity.getPosition(), center) <= radiusSquared) {
+                        found.add(type.cast(entity));
+                    }
+                }
+            }
+        }
+        return found;
+    }
+
+    /**
+     * Finds the entities standing on the tiles of a rectangle.
+     *
+     * @param minX smallest x-coordinate, inclusive
+     * @param minY smallest y-coordinate, inclusive
+     * @param maxX largest x-coordinate, inclusive
+     * @param maxY largest y-coordinate, inclusive
+     * @return the entities in the rectangle, in no particular order
+     */
+    public List<GameEntity> queryRectangle(int minX, int minY, int maxX, int maxY) {
+        List<GameEntity> found = new ArrayList<>();
+
+        for (int row = row(minY); row <= row(maxY); row++) {
+            for (int column = column(minX); column <= column(maxX); column++) {
+                for (GameEntity entity : bucketOrEmpty(row * columns + column)) {
+                    int x = (int) entity.getPosition().x();
+                    int y = (int) entity.getPosition().y();
+                    if (x >= minX && x <= maxX && y >= minY && y <= maxY) {
+                        found.add(entity);
+                    }
+                }
+            }
+        }
+        return found;
+    }
+
+    /**
+     * Finds the closest entity of a type. Buckets are visited in rings around the point, and the search
+     * stops once the next ring is further away than the best entity found.
+     *
+     * @param from      the point to measure from
+     * @param type      the class of the entity to find
+     * @param maxRadius the largest distance to look at
+     * @return the nearest matching entity, or null if none is within the radius
+     */
+    public <T extends GameEntity> T findNearest(Vector from, Class<T> type, float maxRadius) {
+        int centerColumn = column(from.x());
+        int centerRow = row(from.y());
+        int maxRing = (int) Math.ceil(maxRadius / cellSize) + 1;
+
+        T best = null;
+        float bestDistance = maxRadius * maxRadius;
+
+        for (int ring = 0; ring <= maxRing; ring++) {
+            // Entities in this ring are at least (ring - 1) buckets away from the point
+            float ringDistance = Math.max(0, ring - 1) * cellSize;
+            if (best != null && ringDistance * ringDistance > bestDistance) break;
+
+            for (int row = centerRow - ring; row <= centerRow + ring; row++) {
+                if (row < 0 || row >= rows) continue;
+                boolean edgeRow = row == centerRow - ring || row == centerRow + ring;
+
+                for (int column = centerColumn - ring; column <= centerColumn + ring; column++) {
+                    if (column < 0 || column >= columns) continue;
+                    if (!edgeRow && column != centerColumn - ring && column != centerColumn + ring) continue;
+
+                    for (GameEntity entity : bucketOrEmpty(row * columns + column)) {
+                        if (!type.isInstance(entity)) continue;
+                        float distance = distanceSquared(entity.getPosition(), from);
+                        if (distance <= bestDistance) {
+                            best = type.cast(entity);
+                            bestDistance = distance;
+                        }
+                    }
+                }
+            }
+        }
+        return best;
+    }
+
+    /**
+     * @return the number of indexed entities
+     */
+    public int size() {
+        return cells.size();
+    }
+
+    /**
+     * @return the side of a bucket in tiles
+     */
+    public int getCellSize() {
+        return cellSize;
+    }
+
+    /*//////////////////////////////////////////////////////////////
+                              HELPERS
+    //////////////////////////////////////////////////////////////*/
+
+    private int cellOf(Vector position) {
+        return row(position.y()) * columns + column(position.x());
+    }
+
+    private int column(float x) {
+        return Math.clamp((int) Math.floor(x / cellSize), 0, columns - 1);
+    }
+
+    private int row(float y) {
+        return Math.clamp((int) Math.floor(y / cellSize), 0, rows - 1);
+    }
+
+    private static float distanceSquared(Vector a, Vector b) {
+        float dx = a.x() - b.x();
+        float dy = a.y() - b.y();
+        return dx * dx + dy * dy;
+    }
+
+    private List<GameEntity> bucket(int cell) {
+        List<GameEntity> bucket = buckets.get(cell);
+        if (bucket == null) {
+            bucket = new ArrayList<>();
+            buckets.set(cell, bucket);
+        }
+        return bucket;
+    }
+
+    private List<GameEntity> bucketOrEmpty(int cell) {
+        List<GameEntity> bucket = buckets.get(cell);
+        return bucket == null ? List.of() : bucket;
+    }
+}
@@ -0,0 +1,78 @@
+package com.group16.model.area;
+
+import java.util.Arrays;
+import java.util.BitSet;
+
+/**
+ * The tiles whose terrain or coast shape changed during an update of an island, each listed once.
+ * The island fills it as terrain is edited and hands it to its observers in a single notification,
+ * so views and caches refresh these tiles only instead of rebuilding.
+ */
+public class TerrainChangeSet {
+
+    private int[] xs = new int[16];
+    private int[] ys = new int[16];
+    private int[] indices = new int[16];
+    private int size;
+
+    /** Bit set at the grid index of each listed tile */
+    private final BitSet listed = new BitSet();
+
+    /**
+     * Lists a tile, unless it already is.
+     *
+     * @param x     x-coordinate of the tile
+     * @param y     y-coordinate of the tile
+     * @param index index of the tile in the island's grid
+     */
+    void add(int x, int y, int index) {
+        if (listed.get(index)) return;
+        listed.set(index);
+        if (size == xs.length) {
+            xs = Arrays.copyOf(xs, size * 2);
+            ys = Arrays.copyOf(ys, size * 2);
+            indices = Arrays.copyOf(indices, size * 2);
+        }
+        xs[size] = x;
+        ys[size] = y;
+        indices[size] = index;
+        size++;
+    }
+
+    /**
+     * Empties the set, keeping its storage. Only the bits of the listed tiles are cleared.
+     */
+    void clear() {
+        for (int i = 0; i < size; i++) {
+            listed.clear(indices[i]);
+        }
+        size = 0;
+    }
+
+    /**
+     * @return the number of changed tiles
+     */
+    public int size() {
+        return size;
+    }
+
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    /**
+     * @param i position of the tile in the set, from 0 to {@link #size()} excluded
+     * @return the x-coordinate of the tile
+     */
+    public int getX(int i) {
+        return xs[i];
+    }
+
+    /**
+     * @param i position of the tile in the set, from 0 to {@link #size()} excluded
+     * @return the y-coordinate of the tile
+     */
+    public int getY(int i) {
+        return ys[i];
+    }
+}
@@ -0,0 +1,17 @@
+package com.group16.model.area;
+
+/**
+ * Tells which tiles of an island can be walked on. Mobs decide their moves against it: the island itself
+ * when they decide one after another, an {@link OccupancySnapshot} when they decide on several threads.
+ */
+public interface TileOccupancy {
+
+    /**
+     * Checks whether a tile can be walked on.
+     *
+     * @param x x-coordinate, inside the island
+     * @param y y-coordinate, inside the island
+     * @return true if nothing blocks the tile
+     */
+    boolean isWalkable(int x, int y);
+}
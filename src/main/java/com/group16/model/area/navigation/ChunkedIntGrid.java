@@ -0,0 +1,164 @@
+package com.group16.model.area.navigation;
+
+import com.group16.model.area.tiles.TileGrid;
+
+import java.util.Arrays;
+
+/**
+ * One int per tile of an island, stored in square chunks of {@link TileGrid#CHUNK_SIZE} tiles like the tile
+ * grid. A chunk whose tiles all hold the same value only keeps that value; its array is created the first
+ * time one of its tiles is given another one. On a large map, navigation state then only costs memory
+ * where the map is varied.
+ * <p>
+ * Tiles are addressed by their coordinates, or by their row-major index {@code y * width + x} as everywhere
+ * else in this package.
+ */
+final class ChunkedIntGrid {
+
+    private static final int SHIFT = Integer.numberOfTrailingZeros(TileGrid.CHUNK_SIZE);
+    private static final int MASK = TileGrid.CHUNK_SIZE - 1;
+    private static final int CHUNK_TILES = TileGrid.CHUNK_SIZE * TileGrid.CHUNK_SIZE;
+
+    private final int width;
+    private final int height;
+    private final int chunkColumns;
+
+    /** Value of each tile of a chunk, indexed row-major inside the chunk, or null while the chunk is uniform */
+    private final int[][] values;
+
+    /** Value of every tile of each uniform chunk */
+    private final int[] uniformValues;
+
+    /**
+     * Constructs a grid whose tiles all hold the given value. No chunk array is allocated yet.
+     *
+     * @param width  number of columns
+     * @param height number of rows
+     * @param value  initial value of every tile
+     */
+    ChunkedIntGrid(int width, int height, int value) {
+        this.width = width;
+        this.height = height;
+        this.chunkColumns = (width + MASK) >> SHIFT;
+        int chunkRows = (height + MASK) >> SHIFT;
+        this.values = new int[chunkColumns * chunkRows][];
+        this.uniformValues = new int[values.length];
+        Arrays.fill(uniformValues, value);
+    }
+
+    int get(int tile) {
+        return get(tile % width, tile / width);
+    }
+
+    int get(int x, int y) {
+        int chunk = chunkOf(x, y);
+        int[] chunkValues = values[chunk];
+        return chunkValues == null ? uniformValues[chunk] : chunkValues[localIndex(x, y)];
+    }
+
+    void set(int tile, int value) {
+        set(tile % width, tile / width, value);
+    }
+
+    void set(int x, int y, int value) {
+        int chunk = chunkOf(x, y);
+        int[] chunkValues = values[chunk];
+        if (chunkValues == null) {
+            if (uniformValues[chunk] == value) return;
+            chunkValues = new int[CHUNK_TILES];
+            Arrays.fill(chunkValues, uniformValues[chunk]);
+            values[chunk] = chunkValues;
+        }
+        chunkValues[localIndex(x, y)] = value;
+    }
+
+    /**
+     * Gives every tile the same value and drops all chunk arrays.
+     *
+     * @param value the new value of every tile
+     */
+    void fill(int value) {
+        Arrays.fill(values, null);
+        Arrays.fill(uniformValues, value);
+    }
+
+    /*//////////////////////////////////////////////////////////////
+                               CHUNKS
+    //////////////////////////////////////////////////////////////*/
+
+    /**
+     * @return the chunk holding the tile at the given coordinates, in row-major order
+     */
+    int chunkOf(int x, int y) {
+        return (y >> SHIFT) * chunkColumns + (x >> SHIFT);
+    }
+
+    int getChunkCount() {
+        return values.length;
+    }
+
+    /**
+     * @return true if every tile of the chunk holds {@link #getUniformValue(int)}
+     */
+    boolean isUniform(int chunk) {
+        return values[chunk] == null;
+    }
+
+    int getUniformValue(int chunk) {
+        return uniformValues[chunk];
+    }
+
+    /**
+     * Gives every tile of a chunk the same value, dropping its array if it had one.
+     *
+     * @param chunk the chunk
+     * @param value the new value of its tiles
+     */
+    void setUniformValue(int chunk, int value) {
+        values[chunk] = null;
+        uniformValues[chunk] = value;
+    }
+
+    /**
+     * @return the X coordinate of the first column of the chunk
+     */
+    int chunkMinX(int chunk) {
+        return (chunk % chunkColumns) << SHIFT;
+    }
+
+    /**
+     * @return the Y coordinate of the first row of the chunk
+     */
+    int chunkMinY(int chunk) {
+        return (chunk / chunkColumns) << SHIFT;
+    }
+
+    /**
+     * @return the X coordinate after the last column of the chunk, clipped to the grid
+     */
+    int chunkMaxX(int chunk) {
+        return Math.min(width, chunkMinX(chunk) + TileGrid.CHUNK_SIZE);
+    }
+
+    /**
+     * @return the Y coordinate after the last row of the chunk, clipped to the grid
+     */
+    int chunkMaxY(int chunk) {
+        return Math.min(height, chunkMinY(chunk) + TileGrid.CHUNK_SIZE);
+    }
+
+    /**
+     * @return the number of chunks holding one value per tile
+     */
+    int getAllocatedChunkCount() {
+        int count = 0;
+        for (int[] chunkValues : values) {
+            if (chunkValues != null) count++;
+        }
+        return count;
+    }
+
+    private static int localIndex(int x, int y) {
+        return (y & MASK) << SHIFT | x & MASK;
+    }
+}
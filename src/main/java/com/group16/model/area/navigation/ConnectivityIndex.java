@@ -0,0 +1,496 @@
+package com.group16.model.area.navigation;
+
+import com.group16.controller.config.GameConfig;
+import com.group16.model.area.Island;
+import com.group16.model.area.Orientation;
+
+import java.util.Arrays;
+
+/**
+ * Labels every connected region of walkable tiles of an island with a component id, so that
+ * "can this tile be reached from that one?" is a comparison of two ints.
+ * Actors and projectiles are ignored, like in {@link HierarchicalPathfinder}: only terrain and elements
+ * split the island.
+ * <p>
+ * The labels are kept up to date one tile at a time. A tile that opens merges the components around it
+ * by relabelling the smaller ones. A tile that closes can only split its component if its open neighbors
+ * are no longer linked through the ring of eight tiles around it; only then are they flood filled,
+ * and the fill from each side stops as soon as it meets another side.
+ * <p>
+ * Labels are stored chunk by chunk in a {@link ChunkedIntGrid}. A chunk of walkable tiles all in the same
+ * component keeps a single label, and relabelling or flooding it handles the whole chunk at once, so large
+ * open areas and water cost neither memory nor time per tile.
+ */
+public class ConnectivityIndex {
+
+    /** Component id of tiles that cannot be walked on */
+    public static final int NO_COMPONENT = -1;
+
+    private static final int NONE = -1;
+
+    /** Temporary id of walkable tiles while the index is being built */
+    private static final int UNLABELLED = -2;
+
+    private static final Orientation[] ORIENTATIONS = Orientation.values();
+
+    /** Tile offsets of each orientation, in the order of {@link Orientation#values()} */
+    private static final int[] DX = new int[ORIENTATIONS.length];
+    private static final int[] DY = new int[ORIENTATIONS.length];
+
+    static {
+        for (int i = 0; i < ORIENTATIONS.length; i++) {
+            DX[i] = (int) (ORIENTATIONS[i].toVector().x() / GameConfig.TILE_SIZE);
+            DY[i] = (int) (ORIENTATIONS[i].toVector().y() / GameConfig.TILE_SIZE);
+        }
+    }
+
+    private final Island island;
+    private final int width;
+    private final int height;
+
+    /** Component of each tile, or -1 for tiles that cannot be walked on */
+    private final ChunkedIntGrid componentIds;
+
+    /** Number of tiles of each component id, 0 for unused ids */
+    private int[] componentSizes = new int[16];
+    private int componentCount;
+
+    /** Ids released by merges, reused before new ones are created */
+    private int[] freeIds = new int[16];
+    private int freeIdCount;
+    private int nextId;
+
+    /** Incremented whenever a tile opens or closes */
+    private long version;
+
+    // Flood fill state: tiles are visited one by one in mixed chunks, a whole chunk at a time in uniform ones
+    private final TileQueue queue = new TileQueue();
+    private final ChunkedIntGrid visitStamps;
+    private final int[] chunkStamps;
+    private int generation;
+
+    /**
+     * Constructs the index and labels every walkable tile of the island.
+     *
+     * @param island the island to index
+     */
+    public ConnectivityIndex(Island island) {
+        this.island = island;
+        this.width = island.getMapWidth();
+        this.height = island.getMapHeight();
+        this.componentIds = new ChunkedIntGrid(width, height, NO_COMPONENT);
+        this.visitStamps = new ChunkedIntGrid(width, height, 0);
+        this.chunkStamps = new int[componentIds.getChunkCount()];
+
+        for (int chunk = 0; chunk < componentIds.getChunkCount(); chunk++) {
+            markPassable(chunk);
+        }
+        for (int chunk = 0; chunk < componentIds.getChunkCount(); chunk++) {
+            labelChunk(chunk);
+        }
+    }
+
+    /**
+     * Marks the walkable tiles of a chunk as unlabelled, keeping a single value if they all are or none is.
+     */
+    private void markPassable(int chunk) {
+        int minX = componentIds.chunkMinX(chunk), maxX = componentIds.chunkMaxX(chunk);
+        int minY = componentIds.chunkMinY(chunk), maxY = componentIds.chunkMaxY(chunk);
+
+        int passable = 0;
+        for (int y = minY; y < maxY; y++) {
+            for (int x = minX; x < maxX; x++) {
+                if (island.isPassable(x, y)) passable++;
+            }
+        }
+
+        if (passable == (maxX - minX) * (maxY - minY)) {
+            componentIds.setUniformValue(chunk, UNLABELLED);
+        } else if (passable > 0) {
+            for (int y = minY; y < maxY; y++) {
+                for (int x = minX; x < maxX; x++) {
+                    if (island.isPassable(x, y)) componentIds.set(x, y, UNLABELLED);
+                }
+            }
+        }
+    }
+
+    /**
+     * Gives a new component to every unlabelled tile of a chunk, with all the tiles reachable from it.
+     */
+    private void labelChunk(int chunk) {
+        int minX = componentIds.chunkMinX(chunk), maxX = componentIds.chunkMaxX(chunk);
+        int minY = componentIds.chunkMinY(chunk), maxY = componentIds.chunkMaxY(chunk);
+
+        for (int y = minY; y < maxY; y++) {
+            for (int x = minX; x < maxX; x++) {
+                if (componentIds.get(x, y) == UNLABELLED) {
+                    int id = allocateId();
+                    componentSizes[id] = relabel(y * width + x, UNLABELLED, id);
+                }
+            }
+        }
+    }
+
+    /**
+     * Returns the component of a tile.
+     *
+     * @param x X coordinate of the tile
+     * @param y Y coordinate of the tile
+     * @return the component id, or -1 if the tile cannot be walked on
+     */
+    public int getComponentId(int x, int y) {
+        return componentIds.get(x, y);
+    }
+
+    /**
+     * Checks whether a walking route can exist between two tiles, ignoring actors and projectiles.
+     *
+     * @return true if both tiles are walkable and in the same component
+     */
+    public boolean areConnected(int fromX, int fromY, int toX, int toY) {
+        int from = componentIds.get(fromX, fromY);
+        return from != NO_COMPONENT && from == componentIds.get(toX, toY);
+    }
+
+    /**
+     * Returns the number of tiles of a component.
+     *
+     * @param componentId the component id
+     * @return the number of walkable tiles in the component
+     */
+    public int getComponentSize(int componentId) {
+        return componentId == NO_COMPONENT ? 0 : componentSizes[componentId];
+    }
+
+    /**
+     * @return the number of connected walkable regions on the island
+     */
+    public int getComponentCount() {
+        return componentCount;
+    }
+
+    /**
+     * @return the number of chunks storing one label per tile; every other chunk shares a single label
+     */
+    public int getExpandedChunkCount() {
+        return componentIds.getAllocatedChunkCount();
+    }
+
+    /**
+     * Updates the labels after a tile changed walkability.
+     * Actors and projectiles entering or leaving the tile are ignored.
+     *
+     * @param x X coordinate of the tile
+     * @param y Y coordinate of the tile
+     */
+    public void onTileChanged(int x, int y) {
+        int tile = y * width + x;
+        boolean walkable = island.isPassable(x, y);
+        boolean wasWalkable = componentIds.get(x, y) != NO_COMPONENT;
+
+        if (walkable && !wasWalkable) {
+            open(tile);
+            version++;
+        } else if (!walkable && wasWalkable) {
+            close(tile);
+            version++;
+        }
+    }
+
+    /**
+     * @return a counter incremented every time terrain or an element opens or closes a tile;
+     *         unlike the island's walkability version, moving actors leave it unchanged
+     */
+    public long getVersion() {
+        return version;
+    }
+
+    /*//////////////////////////////////////////////////////////////
+                              UPDATES
+    //////////////////////////////////////////////////////////////*/
+
+    /**
+     * Joins the tile to the largest neighboring component and relabels the others into it.
+     */
+    private void open(int tile) {
+        int largest = NO_COMPONENT;
+        for (int i = 0; i < ORIENTATIONS.length; i++) {
+            int id = neighborComponent(tile, i);
+            if (id != NO_COMPONENT && (largest == NO_COMPONENT || componentSizes[id] > componentSizes[largest])) {
+                largest = id;
+            }
+        }
+
+        if (largest == NO_COMPONENT) {
+            largest = allocateId();
+        }
+        componentIds.set(tile, largest);
+        componentSizes[largest]++;
+
+        for (int i = 0; i < ORIENTATIONS.length; i++) {
+            int id = neighborComponent(tile, i);
+            if (id == NO_COMPONENT || id == largest) continue;
+
+            int neighbor = tile + DY[i] * width + DX[i];
+            componentSizes[largest] += relabel(neighbor, id, largest);
+            releaseId(id);
+        }
+    }
+
+    /**
+     * Removes the tile from its component and splits the component if its open neighbors lost their link.
+     */
+    private void close(int tile) {
+        int id = componentIds.get(tile);
+        componentIds.set(tile, NO_COMPONENT);
+        if (--componentSizes[id] == 0) {
+            releaseId(id);
+            return;
+        }
+
+        // One representative per group of neighbors still linked around the closed tile
+        int[] seeds = new int[ORIENTATIONS.length];
+        int groups = 0;
+        for (int i = 0; i < ORIENTATIONS.length; i++) {
+            if (neighborComponent(tile, i) == NO_COMPONENT) continue;
+
+            int previous = (i + ORIENTATIONS.length - 1) % ORIENTATIONS.length;
+            if (groups > 0 && neighborComponent(tile, previous) != NO_COMPONENT && cornerOpen(tile, previous, i)) {
+                continue;
+            }
+            seeds[groups++] = tile + DY[i] * width + DX[i];
+        }
+
+        // The group of the last neighbor joins the first group if the ring closes between them
+        int last = ORIENTATIONS.length - 1;
+        if (groups > 1 && neighborComponent(tile, last) != NO_COMPONENT
+                && neighborComponent(tile, 0) != NO_COMPONENT && cornerOpen(tile, last, 0)) {
+            groups--;
+        }
+
+        if (groups > 1) {
+            split(id, seeds, groups);
+        }
+    }
+
+    /**
+     * Flood fills from each group of neighbors. A fill that meets another group links the two;
+     * a fill that runs out of tiles found a separate component, which gets a new id.
+     */
+    private void split(int id, int[] seeds, int groups) {
+        int[] links = new int[groups];
+        boolean[] closed = new boolean[groups];
+        for (int g = 0; g < groups; g++) {
+            links[g] = g;
+        }
+
+        while (true) {
+            int open = NONE;
+            boolean oneSetLeft = true;
+            for (int g = 0; g < groups; g++) {
+                if (closed[g]) continue;
+                if (open == NONE) {
+                    open = g;
+                } else if (find(links, g) != find(links, open)) {
+                    oneSetLeft = false;
+                }
+            }
+            if (oneSetLeft) return;
+
+            int met = flood(seeds[open], id, seeds, links, closed, groups, find(links, open));
+            if (met != NONE) {
+                links[find(links, met)] = find(links, open);
+                continue;
+            }
+
+            // Everything reachable from this group is a component of its own
+            int newId = allocateId();
+            int set = find(links, open);
+            for (int g = 0; g < groups; g++) {
+                if (find(links, g) == set) closed[g] = true;
+            }
+            int size = relabel(seeds[open], id, newId);
+            componentSizes[newId] = size;
+            componentSizes[id] -= size;
+        }
+    }
+
+    /**
+     * Breadth-first search through the tiles of a component from a seed, stopping at the first seed of
+     * a group that is not yet linked to this one.
+     *
+     * @return the group met, or -1 if the search ran out of tiles
+     */
+    private int flood(int seed, int id, int[] seeds, int[] links, boolean[] closed, int groups, int set) {
+        nextGeneration();
+        queue.clear();
+        int met = visit(seed, seeds, links, closed, groups, set);
+
+        while (met == NONE && !queue.isEmpty()) {
+            int current = queue.poll();
+            for (int i = 0; i < ORIENTATIONS.length && met == NONE; i++) {
+                int neighbor = neighborIndex(current, i);
+                if (neighbor == NONE || componentIds.get(neighbor) != id || isVisited(neighbor)) continue;
+                met = visit(neighbor, seeds, links, closed, groups, set);
+            }
+        }
+        return met;
+    }
+
+    /**
+     * Marks a tile visited by the current flood, with its whole chunk if the chunk holds nothing else,
+     * and queues the tiles to expand from.
+     *
+     * @return the group whose seed was reached, or -1
+     */
+    private int visit(int tile, int[] seeds, int[] links, boolean[] closed, int groups, int set) {
+        int chunk = componentIds.chunkOf(tile % width, tile / width);
+        boolean wholeChunk = componentIds.isUniform(chunk);
+        if (wholeChunk) {
+            chunkStamps[chunk] = generation;
+            queueBorder(chunk);
+        } else {
+            visitStamps.set(tile, generation);
+            queue.add(tile);
+        }
+
+        for (int g = 0; g < groups; g++) {
+            if (closed[g] || find(links, g) == set) continue;
+            boolean reached = wholeChunk
+                    ? componentIds.chunkOf(seeds[g] % width, seeds[g] / width) == chunk
+                    : seeds[g] == tile;
+            if (reached) return g;
+        }
+        return NONE;
+    }
+
+    private boolean isVisited(int tile) {
+        int chunk = componentIds.chunkOf(tile % width, tile / width);
+        return componentIds.isUniform(chunk)
+                ? chunkStamps[chunk] == generation
+                : visitStamps.get(tile) == generation;
+    }
+
+    /**
+     * Gives a new id to every tile reachable from a seed through tiles carrying the old id.
+     *
+     * @return the number of tiles relabelled
+     */
+    private int relabel(int seed, int oldId, int newId) {
+        queue.clear();
+        int count = claim(seed, newId);
+
+        while (!queue.isEmpty()) {
+            int current = queue.poll();
+            for (int i = 0; i < ORIENTATIONS.length; i++) {
+                int neighbor = neighborIndex(current, i);
+                if (neighbor == NONE || componentIds.get(neighbor) != oldId) continue;
+                count += claim(neighbor, newId);
+            }
+        }
+        return count;
+    }
+
+    /**
+     * Gives a new id to a tile and queues it. A uniform chunk only holds tiles of the same component,
+     * all linked to each other, so it is relabelled at once and only its border is queued.
+     *
+     * @return the number of tiles relabelled
+     */
+    private int claim(int tile, int newId) {
+        int chunk = componentIds.chunkOf(tile % width, tile / width);
+        if (componentIds.isUniform(chunk)) {
+            componentIds.setUniformValue(chunk, newId);
+            return queueBorder(chunk);
+        }
+        componentIds.set(tile, newId);
+        queue.add(tile);
+        return 1;
+    }
+
+    /**
+     * Queues the tiles on the edges of a chunk, the only ones with neighbors in other chunks.
+     *
+     * @return the number of tiles of the chunk
+     */
+    private int queueBorder(int chunk) {
+        int minX = componentIds.chunkMinX(chunk), maxX = componentIds.chunkMaxX(chunk);
+        int minY = componentIds.chunkMinY(chunk), maxY = componentIds.chunkMaxY(chunk);
+
+        for (int y = minY; y < maxY; y++) {
+            if (y == minY || y == maxY - 1) {
+                for (int x = minX; x < maxX; x++) {
+                    queue.add(y * width + x);
+                }
+            } else {
+                queue.add(y * width + minX);
+                if (maxX - 1 > minX) queue.add(y * width + maxX - 1);
+            }
+        }
+        return (maxX - minX) * (maxY - minY);
+    }
+
+    /*//////////////////////////////////////////////////////////////
+                              HELPERS
+    //////////////////////////////////////////////////////////////*/
+
+    /**
+     * Checks whether the diagonal tile between two consecutive neighbors is walkable,
+     * which links them without going through the center.
+     */
+    private boolean cornerOpen(int tile, int first, int second) {
+        int x = tile % width + DX[first] + DX[second];
+        int y = tile / width + DY[first] + DY[second];
+        if (x < 0 || y < 0 || x >= width || y >= height) return false;
+        return componentIds.get(x, y) != NO_COMPONENT;
+    }
+
+    private int neighborComponent(int tile, int orientation) {
+        int neighbor = neighborIndex(tile, orientation);
+        return neighbor == NONE ? NO_COMPONENT : componentIds.get(neighbor);
+    }
+
+    private int neighborIndex(int tile, int orientation) {
+        int x = tile % width + DX[orientation];
+        int y = tile / width + DY[orientation];
+        if (x < 0 || y < 0 || x >= width || y >= height) return NONE;
+        return y * width + x;
+    }
+
+    private static int find(int[] links, int group) {
+        while (links[group] != group) {
+            group = links[group];
+        }
+        return group;
+    }
+
+    private int allocateId() {
+        componentCount++;
+        if (freeIdCount > 0) {
+            return freeIds[--freeIdCount];
+        }
+        if (nextId == componentSizes.length) {
+            componentSizes = Arrays.copyOf(componentSizes, nextId * 2);
+        }
+        return nextId++;
+    }
+
+    private void releaseId(int id) {
+        componentCount--;
+        componentSizes[id] = 0;
+        if (freeIdCount == freeIds.length) {
+            freeIds = Arrays.copyOf(freeIds, freeIdCount * 2);
+        }
+        freeIds[freeIdCount++] = id;
+    }
+
+    private void nextGeneration() {
+        generation++;
+        if (generation == Integer.MAX_VALUE) {
+            visitStamps.fill(0);
+            Arrays.fill(chunkStamps, 0);
+            generation = 1;
+        }
+    }
+}
@@ -0,0 +1,350 @@
+package com.group16.model.area.navigation;
+
+import com.group16.controller.config.GameConfig;
+import com.group16.model.area.Island;
+import com.group16.model.area.Orientation;
+
+import java.util.Arrays;
+
+/**
+ * Windowed cooperative A* (WHCA*). Each mob plans a few moves ahead in space and time, waiting in place
+ * being one of its options, and reserves the tiles it will stand on in a shared {@link ReservationTable}.
+ * Later plans route around those reservations, so mobs in a crowd file past each other instead of
+ * bumping into each other and searching again on every move.
+ * <p>
+ * Time is counted in move slots, the number of island ticks a mob needs for one move. The search stops
+ * at the end of the window and keeps the state closest to the target, measured by a true distance field
+ * from the target that ignores actors. Mobs follow the first half of their plan and then ask again.
+ * <p>
+ * A plan never leads further than the window from its start, so the search only covers the square of tiles
+ * around the start it can reach. The distance field covers the tiles within
+ * {@link GameConfig#NAVIGATION_RADIUS} of the target, and reservations are stored for the chunks mobs
+ * actually plan in: the planner takes the same memory on a map of any size.
+ * <p>
+ * Plans are made for {@link PathRequest}s served by the {@link PathScheduler}. Used as a plain
+ * {@link Navigator}, the planner answers the first move of a plan without reserving anything.
+ */
+public class CooperativePlanner implements Navigator {
+
+    private static final int NONE = -1;
+
+    private static final Orientation[] ORIENTATIONS = Orientation.values();
+
+    /** Tile offsets of each orientation, in the order of {@link Orientation#values()} */
+    private static final int[] DX = new int[ORIENTATIONS.length];
+    private static final int[] DY = new int[ORIENTATIONS.length];
+
+    static {
+        for (int i = 0; i < ORIENTATIONS.length; i++) {
+            DX[i] = (int) (ORIENTATIONS[i].toVector().x() / GameConfig.TILE_SIZE);
+            DY[i] = (int) (ORIENTATIONS[i].toVector().y() / GameConfig.TILE_SIZE);
+        }
+    }
+
+    private final Island island;
+    private final int width;
+    private final int height;
+    private final int window;
+    private final int ticksPerMove;
+    private final ReservationTable reservations;
+
+    // True distance from the tiles around the target to the target, ignoring actors
+    private final DistanceField distances;
+    private int fieldTarget = NONE;
+    private long fieldVersion = -1;
+
+    // Square of tiles a search can reach, centered on its start: side 2 * window + 1
+    private final int side;
+    private final int cellCount;
+    private int searchX;
+    private int searchY;
+
+    // Space-time search state, indexed by step * cellCount + cell of the square
+    private final TileHeap open;
+    private final int[] costs;
+    private final int[] parents;
+    private final int[] visitStamps;
+    private int generation;
+
+    /** Moves of the last plan, null for waits */
+    private final Orientation[] steps;
+
+    /**
+     * Constructs a planner using the window and mob speed of the game configuration.
+     *
+     * @param island the island to navigate
+     */
+    public CooperativePlanner(Island island) {
+        this(island, GameConfig.COOPERATIVE_WINDOW,
+                Math.max(1, Math.round(GameConfig.MOB_MOVE_INTERVAL / GameConfig.SIMULATION_STEP_NS)));
+    }
+
+    /**
+     * Constructs a planner for an island.
+     *
+     * @param island       the island to navigate
+     * @param window       number of moves planned ahead
+     * @param ticksPerMove number of island ticks between two moves of a mob
+     */
+    public CooperativePlanner(Island island, int window, int ticksPerMove) {
+        this.island = island;
+        this.width = island.getMapWidth();
+        this.height = island.getMapHeight();
+        this.window = window;
+        this.ticksPerMove = ticksPerMove;
+        this.reservations = new ReservationTable(width, height, 2 * window + 2);
+        this.distances = new DistanceField(island, GameConfig.NAVIGATION_RADIUS, true);
+
+        this.side = 2 * window + 1;
+        this.cellCount = side * side;
+        int stateCount = cellCount * (window + 1);
+        this.open = new TileHeap(stateCount);
+        this.costs = new int[stateCount];
+        this.parents = new int[stateCount];
+        this.visitStamps = new int[stateCount];
+        this.steps = new Orientation[window];
+    }
+
+    /**
+     * Computes the first move of a plan against the current reservations, without reserving it.
+     *
+     * @param fromX   X coordinate of the moving actor
+     * @param fromY   Y coordinate of the moving actor
+     * @param targetX X coordinate of the target
+     * @param targetY Y coordinate of the target
+     * @return the orientation of the first move, or null if no tile adjacent to the target is reachable
+     */
+    @Override
+    public Orientation nextStep(int fromX, int fromY, int targetX, int targetY) {
+        int length = search(fromY * width + fromX, targetY * width + targetX, ReservationTable.FREE, currentSlot());
+        for (int i = 0; i < length; i++) {
+            if (steps[i] != null) return steps[i];
+        }
+        return null;
+    }
+
+    /**
+     * Plans the request's next moves, replacing its previous plan and reservations.
+     * Mobs follow the first half of the window before asking again. Plans depend on the reservations
+     * of other mobs, so the cache is not used.
+     *
+     * @param request the request to answer
+     * @param cache   unused
+     */
+    @Override
+    public void plan(PathRequest request, PathCache cache) {
+        release(request);
+
+        int startX = request.getFromX();
+        int startY = request.getFromY();
+        long slot = currentSlot();
+        int length = search(startY * width + startX, request.getTargetY() * width + request.getTargetX(),
+                request.getId(), slot);
+
+        if (length < 0) {
+            request.complete(null);
+            return;
+        }
+
+        // Reserve the start, every tile along the plan, and the last tile until the end of the window
+        int tile = startY * width + startX;
+        reservations.reserve(tile, slot, request.getId());
+        for (int i = 0; i < length; i++) {
+            if (steps[i] != null) {
+                tile = neighborIndex(tile, steps[i].ordinal());
+            }
+            reservations.reserve(tile, slot + i + 1, request.getId());
+        }
+        for (int i = length; i < window; i++) {
+            reservations.reserve(tile, slot + i + 1, request.getId());
+        }
+
+        request.completePlan(steps, length, startX, startY, slot, Math.max(1, window / 2));
+    }
+
+    /**
+     * Drops the reservations made for a request, for instance when its mob dies.
+     *
+     * @param request the request whose plan is abandoned
+     */
+    @Override
+    public void release(PathRequest request) {
+        if (!request.hasPlan()) return;
+
+        long slot = request.getPlanSlot();
+        int tile = request.getPlanStartY() * width + request.getPlanStartX();
+        reservations.release(tile, slot, request.getId());
+        for (int i = 0; i < window; i++) {
+            Orientation step = i < request.getPlanLength() ? request.getPlanStep(i) : null;
+            if (step != null) {
+                tile = neighborIndex(tile, step.ordinal());
+            }
+            reservations.release(tile, slot + i + 1, request.getId());
+        }
+    }
+
+    /**
+     * Checks whether a tile is reserved by some actor at the given move slot.
+     *
+     * @param x    X coordinate of the tile
+     * @param y    Y coordinate of the tile
+     * @param slot the move slot
+     * @return true if an actor planned to stand there
+     */
+    public boolean isReserved(int x, int y, long slot) {
+        return reservations.getOwner(y * width + x, slot) != ReservationTable.FREE;
+    }
+
+    /**
+     * @return the move slot of the current island tick
+     */
+    public long currentSlot() {
+        return island.getTick() / ticksPerMove;
+    }
+
+    /*//////////////////////////////////////////////////////////////
+                               SEARCH
+    //////////////////////////////////////////////////////////////*/
+
+    /**
+     * Space-time A* from the start tile at step 0. Moves and waits cost one step each. A state is skipped
+     * when another actor reserved its tile at that slot, or when the move would swap places with one.
+     * The first move also avoids tiles that are occupied right now.
+     *
+     * @return the number of steps written to {@link #steps}, 0 if the start is already next to the target,
+     *         or -1 if no tile adjacent to the target can be reached
+     */
+    private int search(int start, int target, int owner, long slot) {
+        refreshField(target);
+        if (distance(start) == DistanceField.UNREACHABLE) return NONE;
+
+        searchX = start % width;
+        searchY = start / width;
+        int startState = cellOf(start);
+
+        nextGeneration();
+        open.clear();
+        visitStamps[startState] = generation;
+        costs[startState] = 0;
+        parents[startState] = NONE;
+        open.put(startState, heuristic(start), 0);
+
+        while (!open.isEmpty()) {
+            int state = open.pop();
+            int step = state / cellCount;
+            int tile = tileOf(state % cellCount);
+
+            // Either next to the target, or the best state the window can reach
+            if (distance(tile) <= 1 || step == window) {
+                return reconstruct(state);
+            }
+
+            int cost = costs[state] + 1;
+            long arrival = slot + step + 1;
+
+            for (int i = -1; i < ORIENTATIONS.length; i++) {
+                int next = i < 0 ? tile : neighborIndex(tile, i);
+                if (next == NONE || next == target || distance(next) == DistanceField.UNREACHABLE) continue;
+                if (!reservations.isFree(next, arrival, owner)) continue;
+
+                if (i >= 0) {
+                    if (step == 0 && !island.isWalkable(next % width, next / width)) continue;
+
+                    // Two actors cannot swap tiles in one move
+                    int oncoming = reservations.getOwner(next, arrival - 1);
+                    if (oncoming != ReservationTable.FREE && oncoming != owner
+                            && reservations.getOwner(tile, arrival) == oncoming) continue;
+                }
+
+                int nextState = (step + 1) * cellCount + cellOf(next);
+                if (visitStamps[nextState] == generation && costs[nextState] <= cost) continue;
+
+                visitStamps[nextState] = generation;
+                costs[nextState] = cost;
+                parents[nextState] = state;
+                open.put(nextState, cost + heuristic(next), -cost);
+            }
+        }
+        return NONE;
+    }
+
+    /**
+     * Walks the parent chain back from the last state and writes the moves in order.
+     *
+     * @return the number of steps
+     */
+    private int reconstruct(int state) {
+        int length = state / cellCount;
+        for (int step = length - 1; step >= 0; step--) {
+            int parent = parents[state];
+            steps[step] = orientationBetween(tileOf(parent % cellCount), tileOf(state % cellCount));
+            state = parent;
+        }
+        return length;
+    }
+
+    private Orientation orientationBetween(int from, int to) {
+        for (int i = 0; i < ORIENTATIONS.length; i++) {
+            if (neighborIndex(from, i) == to) return ORIENTATIONS[i];
+        }
+        return null;
+    }
+
+    /**
+     * Number of moves left to reach a tile adjacent to the target, ignoring actors.
+     */
+    private int heuristic(int tile) {
+        return distance(tile) - 1;
+    }
+
+    private int distance(int tile) {
+        return distances.get(tile % width, tile / width);
+    }
+
+    /**
+     * @return the cell of the search square holding a tile, which must lie within the window of the start
+     */
+    private int cellOf(int tile) {
+        return (tile / width - searchY + window) * side + (tile % width - searchX + window);
+    }
+
+    private int tileOf(int cell) {
+        return (searchY + cell / side - window) * width + (searchX + cell % side - window);
+    }
+
+    /*//////////////////////////////////////////////////////////////
+                           DISTANCE FIELD
+    //////////////////////////////////////////////////////////////*/
+
+    /**
+     * Rebuilds the distance field if the target moved or if terrain or elements changed since.
+     */
+    private void refreshField(int target) {
+        long version = island.getConnectivity().getVersion();
+        if (target == fieldTarget && version == fieldVersion) return;
+
+        distances.build(target % width, target / width);
+
+        fieldTarget = target;
+        fieldVersion = version;
+    }
+
+    /*//////////////////////////////////////////////////////////////
+                              HELPERS
+    //////////////////////////////////////////////////////////////*/
+
+    private int neighborIndex(int tile, int orientation) {
+        int x = tile % width + DX[orientation];
+        int y = tile / width + DY[orientation];
+        if (x < 0 || y < 0 || x >= width || y >= height) return NONE;
+        return y * width + x;
+    }
+
+    private void nextGeneration() {
+        generation++;
+        if (generation == Integer.MAX_VALUE) {
+            Arrays.fill(visitStamps, 0);
+            generation = 1;
+        }
+    }
+}
@@ -0,0 +1,121 @@
+package com.group16.model.area.navigation;
+
+import com.group16.controller.config.GameConfig;
+import com.group16.model.area.Island;
+import com.group16.model.area.Orientation;
+
+import java.util.Arrays;
+
+/**
+ * Number of steps from every tile around a target to the target, computed by a breadth-first search
+ * outward from it.
+ * <p>
+ * The field only covers a square of {@link GameConfig#NAVIGATION_RADIUS} tiles around the target, clipped
+ * to the island, which moves with the target. Mobs only act in the chunks around the player, well inside
+ * that square, so the field costs the same on a map of any size. A route that would leave the square is not
+ * found, and tiles outside it are unreachable.
+ */
+final class DistanceField {
+
+    /** Distance of tiles the target cannot be reached from */
+    static final int UNREACHABLE = -1;
+
+    private static final Orientation[] ORIENTATIONS = Orientation.values();
+
+    /** Tile offsets of each orientation, in the order of {@link Orientation#values()} */
+    private static final int[] DX = new int[ORIENTATIONS.length];
+    private static final int[] DY = new int[ORIENTATIONS.length];
+
+    static {
+        for (int i = 0; i < ORIENTATIONS.length; i++) {
+            DX[i] = (int) (ORIENTATIONS[i].toVector().x() / GameConfig.TILE_SIZE);
+            DY[i] = (int) (ORIENTATIONS[i].toVector().y() / GameConfig.TILE_SIZE);
+        }
+    }
+
+    private final Island island;
+    private final boolean throughActors;
+    private final int radius;
+
+    // Square covered by the field, in island coordinates
+    private final int fieldWidth;
+    private final int fieldHeight;
+    private int originX;
+    private int originY;
+
+    /** Distance of each tile of the square, indexed by (y - originY) * fieldWidth + (x - originX) */
+    private final int[] distances;
+    private final TileQueue queue = new TileQueue();
+
+    /**
+     * Constructs an empty field for an island.
+     *
+     * @param island        the island to measure
+     * @param radius        distance in tiles from the target to the sides of the square covered
+     * @param throughActors true to ignore actors and only let terrain and elements block the way
+     */
+    DistanceField(Island island, int radius, boolean throughActors) {
+        this.island = island;
+        this.throughActors = throughActors;
+        this.radius = radius;
+        this.fieldWidth = Math.min(island.getMapWidth(), 2 * radius + 1);
+        this.fieldHeight = Math.min(island.getMapHeight(), 2 * radius + 1);
+        this.distances = new int[fieldWidth * fieldHeight];
+        Arrays.fill(distances, UNREACHABLE);
+    }
+
+    /**
+     * Centers the square on the target and measures every tile of it.
+     * The target tile itself is the source even though its occupant makes it unwalkable.
+     *
+     * @param targetX X coordinate of the target
+     * @param targetY Y coordinate of the target
+     */
+    void build(int targetX, int targetY) {
+        originX = Math.clamp(targetX - radius, 0, island.getMapWidth() - fieldWidth);
+        originY = Math.clamp(targetY - radius, 0, island.getMapHeight() - fieldHeight);
+        Arrays.fill(distances, UNREACHABLE);
+
+        int target = (targetY - originY) * fieldWidth + (targetX - originX);
+        distances[target] = 0;
+        queue.clear();
+        queue.add(target);
+
+        while (!queue.isEmpty()) {
+            int current = queue.poll();
+            int localX = current % fieldWidth;
+            int localY = current / fieldWidth;
+            int nextDistance = distances[current] + 1;
+
+            for (int i = 0; i < ORIENTATIONS.length; i++) {
+                int neighborX = localX + DX[i];
+                int neighborY = localY + DY[i];
+                if (neighborX < 0 || neighborY < 0 || neighborX >= fieldWidth || neighborY >= fieldHeight) continue;
+
+                int neighbor = neighborY * fieldWidth + neighborX;
+                if (distances[neighbor] != UNREACHABLE || !isOpen(originX + neighborX, originY + neighborY)) continue;
+
+                distances[neighbor] = nextDistance;
+                queue.add(neighbor);
+            }
+        }
+    }
+
+    /**
+     * Returns the distance from a tile to the target the field was built for.
+     *
+     * @param x X coordinate of the tile
+     * @param y Y coordinate of the tile
+     * @return the number of steps to the target, or -1 if it cannot be reached or lies outside the field
+     */
+    int get(int x, int y) {
+        int localX = x - originX;
+        int localY = y - originY;
+        if (localX < 0 || localY < 0 || localX >= fieldWidth || localY >= fieldHeight) return UNREACHABLE;
+        return distances[localY * fieldWidth + localX];
+    }
+
+    private boolean isOpen(int x, int y) {
+        return throughActors ? island.isPassable(x, y) : island.isWalkable(x, y);
+    }
+}
@@ -0,0 +1,120 @@
+package com.group16.model.area.navigation;
+
+import com.group16.controller.config.GameConfig;
+import com.group16.model.area.Island;
+import com.group16.model.area.Orientation;
+
+/**
+ * Navigator sharing a single distance field between every mob chasing the same target.
+ * The field is a breadth-first search run outward from the target tile, so a mob only has to
+ * look at its four neighbors and step toward the smallest distance.
+ * It is rebuilt when the target changes tile, or at most once per tick when walkability changed.
+ * <p>
+ * The field covers the tiles within {@link GameConfig#NAVIGATION_RADIUS} of the target (see
+ * {@link DistanceField}), so it takes the same memory and time on a map of any size. From a tile outside
+ * it no step is found, even when the target can be reached; a navigator that needs to route across the
+ * whole map, such as {@link HierarchicalPathfinder}, costs memory for every tile of it instead. Mobs never
+ * ask from that far: only those in the active chunks around the player act, well inside the field.
+ */
+public class FlowFieldNavigator implements Navigator {
+
+    private static final Orientation[] ORIENTATIONS = Orientation.values();
+
+    private final Island island;
+    private final int width;
+    private final int height;
+
+    /** Distance in steps from the tiles around the target to the target */
+    private final DistanceField distances;
+
+    // State the current field was computed for
+    private int targetIndex = -1;
+    private long builtForVersion = -1;
+    private long builtOnTick = -1;
+
+    /**
+     * Constructs a flow field navigator for an island.
+     *
+     * @param island the island to navigate
+     */
+    public FlowFieldNavigator(Island island) {
+        this.island = island;
+        this.width = island.getMapWidth();
+        this.height = island.getMapHeight();
+        this.distances = new DistanceField(island, GameConfig.NAVIGATION_RADIUS, false);
+    }
+
+    /**
+     * Picks the neighbor with the smallest distance to the target. Ties are broken in the order
+     * of {@link Orientation#values()}, which gives the same step as the breadth-first search.
+     *
+     * @param fromX   X coordinate of the moving actor
+     * @param fromY   Y coordinate of the moving actor
+     * @param targetX X coordinate of the target
+     * @param targetY Y coordinate of the target
+     * @return the orientation of the first step, or null if the target cannot be reached
+     *         or the actor stands outside the field
+     */
+    @Override
+    public Orientation nextStep(int fromX, int fromY, int targetX, int targetY) {
+        refresh(targetX, targetY);
+
+        Orientation best = null;
+        int bestDistance = Integer.MAX_VALUE;
+
+        for (Orientation orientation : ORIENTATIONS) {
+            int neighborX = fromX + (int) (orientation.toVector().x() / GameConfig.TILE_SIZE);
+            int neighborY = fromY + (int) (orientation.toVector().y() / GameConfig.TILE_SIZE);
+
+            if (neighborX < 0 || neighborY < 0 || neighborX >= width || neighborY >= height) continue;
+
+            int distance = distances.get(neighborX, neighborY);
+            if (distance == DistanceField.UNREACHABLE || distance >= bestDistance) continue;
+
+            // The field may be a few moves old, so never step onto a tile that got blocked since
+            if (!island.isWalkable(neighborX, neighborY)) continue;
+
+            best = orientation;
+            bestDistance = distance;
+        }
+
+        return best;
+    }
+
+    /**
+     * Returns the distance from a tile to the target of the current field.
+     *
+     * @param x X coordinate of the tile
+     * @param y Y coordinate of the tile
+     * @return the number of steps to the target, or -1 if it cannot be reached or is too far away
+     */
+    public int getDistance(int x, int y) {
+        return distances.get(x, y);
+    }
+
+    /**
+     * Rebuilds the field if the target moved, or if walkability changed since the last
+     * rebuild and the field has not been rebuilt yet during this tick.
+     */
+    private void refresh(int targetX, int targetY) {
+        int newTarget = targetY * width + targetX;
+        boolean targetMoved = newTarget != targetIndex;
+        boolean mapChanged = island.getWalkabilityVersion() != builtForVersion
+                && island.getTick() != builtOnTick;
+
+        if (targetMoved || mapChanged) {
+            rebuild(newTarget);
+        }
+    }
+
+    /**
+     * Measures the field again around the target.
+     */
+    private void rebuild(int target) {
+        distances.build(target % width, target / width);
+
+        targetIndex = target;
+        builtForVersion = island.getWalkabilityVersion();
+        builtOnTick = island.getTick();
+    }
+}
@@ -0,0 +1,395 @@
+package com.group16.model.area.navigation;
+
+import com.group16.controller.config.GameConfig;
+import com.group16.model.area.Island;
+import com.group16.model.area.Orientation;
+
+import java.util.Arrays;
+
+/**
+ * Reusable grid search engine working on flat tile indices (y * width + x).
+ * Every buffer is allocated once for the size of the island: the breadth-first queue is a ring buffer,
+ * the A* open set is an indexed binary heap of ints, parents are stored in an int array and visited
+ * marks are stamped with a search generation so they never need clearing.
+ * A search therefore allocates nothing in steady state.
+ * <p>
+ * The jump point mode answers the same first step as the breadth-first search. Breadth-first search
+ * follows, among all shortest routes, the one whose moves come first in {@link Orientation} order, so its
+ * first step is the first neighbor of the start lying on any shortest route. The jump point search finds
+ * one shortest route; only the neighbors before its first step have to be checked, each with a search
+ * bounded by the known route length.
+ */
+public class GridPathfinder implements Navigator {
+
+    /**
+     * Enum representing the search algorithm used by the pathfinder.
+     */
+    public enum Mode {
+        /** Uniform breadth-first search, exploring neighbors in {@link Orientation} order */
+        BREADTH_FIRST,
+
+        /** A* guided by the Manhattan distance to the target */
+        A_STAR,
+
+        /** A* over jump points, skipping the straight runs of open ground between them */
+        JUMP_POINT
+    }
+
+    private static final int NO_PARENT = -1;
+
+    private static final Orientation[] ORIENTATIONS = Orientation.values();
+
+    /** Tile offsets of each orientation, in the order of {@link Orientation#values()} */
+    private static final int[] DX = new int[ORIENTATIONS.length];
+    private static final int[] DY = new int[ORIENTATIONS.length];
+
+    static {
+        for (int i = 0; i < ORIENTATIONS.length; i++) {
+            DX[i] = (int) (ORIENTATIONS[i].toVector().x() / GameConfig.TILE_SIZE);
+            DY[i] = (int) (ORIENTATIONS[i].toVector().y() / GameConfig.TILE_SIZE);
+        }
+    }
+
+    private final Island island;
+    private final Mode mode;
+    private final int width;
+    private final int height;
+
+    // Per tile search state, only valid where the stamp equals the current generation
+    private final int[] visitedStamps;
+    private final int[] closedStamps;
+    private final int[] parents;
+    private final int[] costs;
+    private int generation;
+
+    // Breadth-first ring buffer
+    private final int[] queue;
+
+    // A* open set: tile indices ordered by estimated total cost, deepest first on ties
+    private final TileHeap openSet;
+
+    /** Number of tiles taken out of the open set or queue by the last call to {@link #nextStep} */
+    private int expandedCount;
+
+    /**
+     * Constructs an A* pathfinder for an island.
+     *
+     * @param island the island to search
+     */
+    public GridPathfinder(Island island) {
+        this(island, Mode.A_STAR);
+    }
+
+    /**
+     * Constructs a pathfinder for an island using the given search algorithm.
+     *
+     * @param island the island to search
+     * @param mode   the search algorithm
+     */
+    public GridPathfinder(Island island, Mode mode) {
+        this.island = island;
+        this.mode = mode;
+        this.width = island.getMapWidth();
+        this.height = island.getMapHeight();
+
+        int size = width * height;
+        this.visitedStamps = new int[size];
+        this.closedStamps = new int[size];
+        this.parents = new int[size];
+        this.costs = new int[size];
+        this.queue = new int[size];
+        this.openSet = new TileHeap(size);
+    }
+
+    /**
+     * Searches a shortest route from a tile to any tile adjacent to the target.
+     *
+     * @param fromX   X coordinate of the moving actor
+     * @param fromY   Y coordinate of the moving actor
+     * @param targetX X coordinate of the target
+     * @param targetY Y coordinate of the target
+     * @return the orientation of the first step, or null if no path exists or the actor is already adjacent
+     */
+    @Override
+    public Orientation nextStep(int fromX, int fromY, int targetX, int targetY) {
+        int start = fromY * width + fromX;
+        nextGeneration();
+        expandedCount = 0;
+
+        if (mode == Mode.JUMP_POINT) {
+            return jumpPointStep(start, targetX, targetY);
+        }
+
+        int goal = mode == Mode.A_STAR
+                ? searchAStar(start, targetX, targetY)
+                : searchBreadthFirst(start, targetX, targetY);
+
+        return goal == NO_PARENT ? null : firstStep(start, goal);
+    }
+
+    /**
+     * @return the number of tiles expanded by the last search, to compare the modes
+     */
+    public int getExpandedCount() {
+        return expandedCount;
+    }
+
+    /**
+     * Returns the mode used by this pathfinder.
+     *
+     * @return the search algorithm
+     */
+    public Mode getMode() {
+        return mode;
+    }
+
+    /**
+     * Breadth-first search exploring the same tiles in the same order as the original mob search.
+     *
+     * @return the first goal tile reached, or -1 if none
+     */
+    private int searchBreadthFirst(int start, int targetX, int targetY) {
+        int head = 0, tail = 0;
+        visit(start, NO_PARENT);
+        queue[tail++] = start;
+
+        while (head != tail) {
+            int current = queue[head];
+            head = (head + 1) % queue.length;
+            expandedCount++;
+
+            int x = current % width;
+            int y = current / width;
+            if (isAdjacent(x, y, targetX, targetY)) return current;
+
+            for (int i = 0; i < ORIENTATIONS.length; i++) {
+                int neighbor = walkableNeighbor(x + DX[i], y + DY[i]);
+                if (neighbor == NO_PARENT || visitedStamps[neighbor] == generation) continue;
+
+                visit(neighbor, current);
+                queue[tail] = neighbor;
+                tail = (tail + 1) % queue.length;
+            }
+        }
+
+        return NO_PARENT;
+    }
+
+    /**
+     * A* search with unit step costs. The heuristic is the Manhattan distance to the closest tile
+     * adjacent to the target, which never overestimates and keeps the search optimal.
+     *
+     * @return the first goal tile reached, or -1 if none
+     */
+    private int searchAStar(int start, int targetX, int targetY) {
+        openSet.clear();
+        visit(start, NO_PARENT);
+        costs[start] = 0;
+        openSet.put(start, heuristic(start, targetX, targetY), 0);
+
+        while (!openSet.isEmpty()) {
+            int current = openSet.pop();
+            closedStamps[current] = generation;
+            expandedCount++;
+
+            int x = current % width;
+            int y = current / width;
+            if (isAdjacent(x, y, targetX, targetY)) return current;
+
+            int nextCost = costs[current] + 1;
+            for (int i = 0; i < ORIENTATIONS.length; i++) {
+                int neighbor = walkableNeighbor(x + DX[i], y + DY[i]);
+                if (neighbor == NO_PARENT || closedStamps[neighbor] == generation) continue;
+
+                if (visitedStamps[neighbor] != generation || nextCost < costs[neighbor]) {
+                    // Prefer the deepest tile on ties so the search runs straight at the target on open ground
+                    visit(neighbor, current);
+                    costs[neighbor] = nextCost;
+                    openSet.put(neighbor, nextCost + heuristic(neighbor, targetX, targetY), -nextCost);
+                }
+            }
+        }
+
+        return NO_PARENT;
+    }
+
+    /*//////////////////////////////////////////////////////////////
+                          JUMP POINT SEARCH
+    //////////////////////////////////////////////////////////////*/
+
+    /**
+     * Finds the breadth-first first step with jump point searches: one from the start, then one bounded
+     * search per neighbor that comes before the found step in {@link Orientation} order.
+     *
+     * @return the first step of the route breadth-first search would take, or null if there is none
+     */
+    private Orientation jumpPointStep(int start, int targetX, int targetY) {
+        int goal = searchJumpPoint(start, targetX, targetY, Integer.MAX_VALUE);
+        if (goal == NO_PARENT || goal == start) return null;
+
+        int length = costs[goal];
+        Orientation found = firstStep(start, goal);
+
+        for (int i = 0; i < found.ordinal(); i++) {
+            int x = start % width + DX[i];
+            int y = start / width + DY[i];
+            if (walkableNeighbor(x, y) == NO_PARENT) continue;
+
+            // The neighbor is on a shortest route if a goal can be reached from it in one move less
+            if (isAdjacent(x, y, targetX, targetY)) return ORIENTATIONS[i];
+            nextGeneration();
+            if (searchJumpPoint(y * width + x, targetX, targetY, length - 1) != NO_PARENT) return ORIENTATIONS[i];
+        }
+        return found;
+    }
+
+    /**
+     * A* over jump points on the 4-connected grid. From each jump point, the search runs straight in every
+     * direction but backward and only stops on tiles where a route could turn: next to the target, or where
+     * a tile beside the run opens up behind a wall. Vertical runs also scan sideways from every tile,
+     * so horizontal branches are found without stopping on each row.
+     *
+     * @param bound the longest route accepted; the search gives up once every open route is longer
+     * @return the goal tile reached, or -1 if none within the bound
+     */
+    private int searchJumpPoint(int start, int targetX, int targetY, int bound) {
+        openSet.clear();
+        visit(start, NO_PARENT);
+        costs[start] = 0;
+        openSet.put(start, heuristic(start, targetX, targetY), 0);
+
+        while (!openSet.isEmpty()) {
+            if (openSet.peekPrimaryKey() > bound) return NO_PARENT;
+
+            int current = openSet.pop();
+            closedStamps[current] = generation;
+            expandedCount++;
+
+            int x = current % width;
+            int y = current / width;
+            if (isAdjacent(x, y, targetX, targetY)) return current;
+
+            int parent = parents[current];
+            int backX = parent == NO_PARENT ? 0 : Integer.signum(parent % width - x);
+            int backY = parent == NO_PARENT ? 0 : Integer.signum(parent / width - y);
+
+            for (int i = 0; i < ORIENTATIONS.length; i++) {
+                if (parent != NO_PARENT && DX[i] == backX && DY[i] == backY) continue;
+
+                int jumpPoint = jump(x, y, DX[i], DY[i], targetX, targetY);
+                if (jumpPoint == NO_PARENT || closedStamps[jumpPoint] == generation) continue;
+
+                int nextCost = costs[current] + Math.abs(jumpPoint % width - x) + Math.abs(jumpPoint / width - y);
+                if (visitedStamps[jumpPoint] != generation || nextCost < costs[jumpPoint]) {
+                    visit(jumpPoint, current);
+                    costs[jumpPoint] = nextCost;
+                    openSet.put(jumpPoint, nextCost + heuristic(jumpPoint, targetX, targetY), -nextCost);
+                }
+            }
+        }
+
+        return NO_PARENT;
+    }
+
+    /**
+     * Runs straight from a tile until the next jump point.
+     *
+     * @return the jump point, or -1 if the run hits a wall first
+     */
+    private int jump(int x, int y, int dx, int dy, int targetX, int targetY) {
+        while (true) {
+            x += dx;
+            y += dy;
+            if (walkableNeighbor(x, y) == NO_PARENT) return NO_PARENT;
+            if (isAdjacent(x, y, targetX, targetY)) return y * width + x;
+
+            if (dx != 0) {
+                if (isForced(x, y, dx, 0)) return y * width + x;
+            } else {
+                if (isForced(x, y, 0, dy)) return y * width + x;
+                if (scan(x, y, 1, targetX, targetY) || scan(x, y, -1, targetX, targetY)) return y * width + x;
+            }
+        }
+    }
+
+    /**
+     * Checks whether a horizontal run starting next to a tile reaches a jump point.
+     */
+    private boolean scan(int x, int y, int dx, int targetX, int targetY) {
+        while (true) {
+            x += dx;
+            if (walkableNeighbor(x, y) == NO_PARENT) return false;
+            if (isAdjacent(x, y, targetX, targetY) || isForced(x, y, dx, 0)) return true;
+        }
+    }
+
+    /**
+     * Checks whether a tile beside the run is open while the tile behind it is not, which means the
+     * shortest route to it may turn here.
+     */
+    private boolean isForced(int x, int y, int dx, int dy) {
+        if (dx != 0) {
+            return (isOpen(x, y - 1) && !isOpen(x - dx, y - 1)) || (isOpen(x, y + 1) && !isOpen(x - dx, y + 1));
+        }
+        return (isOpen(x - 1, y) && !isOpen(x - 1, y - dy)) || (isOpen(x + 1, y) && !isOpen(x + 1, y - dy));
+    }
+
+    private boolean isOpen(int x, int y) {
+        return walkableNeighbor(x, y) != NO_PARENT;
+    }
+
+    /**
+     * Walks the parent chain back from the goal to find the first move out of the start tile.
+     * Parents may be jump points further away, in which case the move points toward them.
+     */
+    private Orientation firstStep(int start, int goal) {
+        if (goal == start) return null;
+
+        int current = goal;
+        while (parents[current] != start) {
+            current = parents[current];
+        }
+
+        int dx = Integer.signum(current % width - start % width);
+        int dy = Integer.signum(current / width - start / width);
+        for (int i = 0; i < ORIENTATIONS.length; i++) {
+            if (DX[i] == dx && DY[i] == dy) return ORIENTATIONS[i];
+        }
+        return null;
+    }
+
+    /**
+     * Returns the index of a tile if it is inside the map and walkable, or -1 otherwise.
+     */
+    private int walkableNeighbor(int x, int y) {
+        if (x < 0 || y < 0 || x >= width || y >= height) return NO_PARENT;
+        if (!island.isWalkable(x, y)) return NO_PARENT;
+        return y * width + x;
+    }
+
+    private boolean isAdjacent(int x, int y, int targetX, int targetY) {
+        return Math.abs(x - targetX) + Math.abs(y - targetY) == 1;
+    }
+
+    private int heuristic(int tile, int targetX, int targetY) {
+        int distance = Math.abs(tile % width - targetX) + Math.abs(tile / width - targetY);
+        return Math.max(0, distance - 1);
+    }
+
+    private void visit(int tile, int parent) {
+        visitedStamps[tile] = generation;
+        parents[tile] = parent;
+    }
+
+    /**
+     * Starts a new search. Stamps are only cleared once every 2^31 searches, when the counter wraps.
+     */
+    private void nextGeneration() {
+        generation++;
+        if (generation == Integer.MAX_VALUE) {
+            Arrays.fill(visitedStamps, 0);
+            Arrays.fill(closedStamps, 0);
+            generation = 1;
+        }
+    }
+}
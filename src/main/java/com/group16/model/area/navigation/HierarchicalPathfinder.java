@@ -0,0 +1,591 @@
+package com.group16.model.area.navigation;
+
+import com.group16.controller.config.GameConfig;
+import com.group16.model.area.Island;
+import com.group16.model.area.Orientation;
+
+import java.util.Arrays;
+
+/**
+ * Hierarchical pathfinder (HPA*) for large islands.
+ * The tile grid is split into square clusters. Where two clusters touch, each run of walkable tile pairs
+ * along their border gets one or two entrance tiles on both sides, and the walking distance between every
+ * pair of entrances of a cluster is precomputed. A query searches this small abstract graph first and only
+ * explores tiles inside the start and goal clusters.
+ * <p>
+ * The abstract graph only depends on terrain and elements: actors move every few ticks and would
+ * otherwise keep invalidating it, and a mob standing on an entrance would hide the very exit it is
+ * about to use. Actors and projectiles are still avoided while refining inside the start and goal clusters.
+ * When a tile gains or loses a block, tree or rock, its cluster is marked dirty and its entrance distances
+ * are rebuilt on the next query, the rest of the graph is kept. Only a change on the edge of a cluster can
+ * move entrances, so only then are its borders and the distances of the clusters around them rebuilt too. Routes are near optimal and may be a few steps longer than a full grid search.
+ */
+public class HierarchicalPathfinder implements Navigator {
+
+    /** Side of a cluster in tiles */
+    public static final int DEFAULT_CLUSTER_SIZE = 16;
+
+    /** Border runs at least this long get an entrance at each end instead of a single one in the middle */
+    private static final int LONG_ENTRANCE = 6;
+
+    private static final int NONE = -1;
+    private static final int UNREACHABLE = -1;
+
+    private static final Orientation[] ORIENTATIONS = Orientation.values();
+
+    /** Tile offsets of each orientation, in the order of {@link Orientation#values()} */
+    private static final int[] DX = new int[ORIENTATIONS.length];
+    private static final int[] DY = new int[ORIENTATIONS.length];
+
+    static {
+        for (int i = 0; i < ORIENTATIONS.length; i++) {
+            DX[i] = (int) (ORIENTATIONS[i].toVector().x() / GameConfig.TILE_SIZE);
+            DY[i] = (int) (ORIENTATIONS[i].toVector().y() / GameConfig.TILE_SIZE);
+        }
+    }
+
+    // Border sides an entrance tile was placed for, so corner tiles can belong to two borders
+    private static final byte SIDE_EAST = 1;
+    private static final byte SIDE_WEST = 2;
+    private static final byte SIDE_SOUTH = 4;
+    private static final byte SIDE_NORTH = 8;
+
+    private final Island island;
+    private final int width;
+    private final int height;
+    private final int clusterSize;
+    private final int clustersX;
+    private final int clustersY;
+
+    // Abstract graph, built from the walkability of tiles without their actors and projectiles
+    private final boolean[] passable;
+    private final byte[] entranceSides;
+    private final int[] nodeSlots;
+    private final int[][] clusterNodes;
+    private final int[][] clusterCosts;
+    private final boolean[] dirtyClusters;
+    private final boolean[] dirtyEdges;
+    private boolean anyDirty = true;
+    private final boolean[] rebuildMarks;
+
+    /** Number of clusters whose entrance distances the last repair recomputed, for inspection */
+    private int rebuiltClusters;
+
+    // Local breadth-first search inside one cluster
+    private final int[] localStamps;
+    private final int[] localDistances;
+    private final int[] localParents;
+    private final int[] queue;
+
+    // Breadth-first search from the goal inside its cluster
+    private final int[] goalStamps;
+    private final int[] goalDistances;
+
+    // Abstract A*, the goal being the extra index width * height
+    private final int[] abstractStamps;
+    private final int[] abstractCosts;
+    private final int[] abstractParents;
+    private final TileHeap openSet;
+    private final int goalNode;
+
+    private int generation;
+
+    /**
+     * Constructs a hierarchical pathfinder for an island with the default cluster size.
+     *
+     * @param island the island to navigate
+     */
+    public HierarchicalPathfinder(Island island) {
+        this(island, DEFAULT_CLUSTER_SIZE);
+    }
+
+    /**
+     * Constructs a hierarchical pathfinder for an island.
+     *
+     * @param island      the island to navigate
+     * @param clusterSize side of a cluster in tiles
+     */
+    public HierarchicalPathfinder(Island island, int clusterSize) {
+        if (clusterSize < 2) {
+            throw new IllegalArgumentException("Cluster size must be at least 2");
+        }
+
+        this.island = island;
+        this.width = island.getMapWidth();
+        this.height = island.getMapHeight();
+        this.clusterSize = clusterSize;
+        this.clustersX = (width + clusterSize - 1) / clusterSize;
+        this.clustersY = (height + clusterSize - 1) / clusterSize;
+
+        int size = width * height;
+        int clusters = clustersX * clustersY;
+
+        this.passable = new boolean[size];
+        for (int y = 0; y < height; y++) {
+            for (int x = 0; x < width; x++) {
+                passable[y * width + x] = island.isPassable(x, y);
+            }
+        }
+        this.entranceSides = new byte[size];
+        this.nodeSlots = new int[size];
+        Arrays.fill(nodeSlots, NONE);
+        this.clusterNodes = new int[clusters][0];
+        this.clusterCosts = new int[clusters][0];
+        this.dirtyClusters = new boolean[clusters];
+        Arrays.fill(dirtyClusters, true);
+        this.dirtyEdges = new boolean[clusters];
+        Arrays.fill(dirtyEdges, true);
+        this.rebuildMarks = new boolean[clusters];
+
+        this.localStamps = new int[size];
+        this.localDistances = new int[size];
+        this.localParents = new int[size];
+        this.queue = new int[size];
+
+        this.goalStamps = new int[size];
+        this.goalDistances = new int[size];
+
+        this.goalNode = size;
+        this.abstractStamps = new int[size + 1];
+        this.abstractCosts = new int[size + 1];
+        this.abstractParents = new int[size + 1];
+        this.openSet = new TileHeap(size + 1);
+    }
+
+    /**
+     * Finds the first step of a route to a tile adjacent to the target, going through the abstract graph.
+     *
+     * @param fromX   X coordinate of the moving actor
+     * @param fromY   Y coordinate of the moving actor
+     * @param targetX X coordinate of the target
+     * @param targetY Y coordinate of the target
+     * @return the orientation of the first step, or null if no path exists or the actor is already adjacent
+     */
+    @Override
+    public Orientation nextStep(int fromX, int fromY, int targetX, int targetY) {
+        if (Math.abs(fromX - targetX) + Math.abs(fromY - targetY) <= 1) return null;
+
+        if (anyDirty) {
+            rebuildDirtyClusters();
+        }
+
+        int start = fromY * width + fromX;
+        int target = targetY * width + targetX;
+
+        // The target tile is occupied, so it is searched as a passable goal: reaching it
+        // means the previous tile was adjacent to the target, which does not change the first step
+        int startCluster = clusterOf(start);
+        int targetCluster = clusterOf(target);
+
+        nextGeneration();
+        int directCost = localSearch(start, startCluster, target, true, localStamps, localDistances, localParents);
+        localSearch(target, targetCluster, NONE, true, goalStamps, goalDistances, null);
+
+        int waypoint = abstractSearch(start, startCluster, target, targetCluster, directCost);
+        return waypoint == NONE ? null : firstStep(start, waypoint);
+    }
+
+    /**
+     * Marks the cluster of a tile as dirty when its terrain or element changed, so the abstract graph
+     * around it is rebuilt before the next query. Its borders are only marked too when the tile lies on
+     * the edge of the cluster. Actors and projectiles entering or leaving the tile are ignored.
+     *
+     * @param x X coordinate of the tile
+     * @param y Y coordinate of the tile
+     */
+    @Override
+    public void onWalkabilityChanged(int x, int y) {
+        int tile = y * width + x;
+        boolean nowPassable = island.isPassable(x, y);
+        if (passable[tile] == nowPassable) return;
+
+        passable[tile] = nowPassable;
+        int cluster = (y / clusterSize) * clustersX + x / clusterSize;
+        dirtyClusters[cluster] = true;
+        int localX = x % clusterSize;
+        int localY = y % clusterSize;
+        if (localX == 0 || localY == 0 || localX == clusterSize - 1 || localY == clusterSize - 1) {
+            dirtyEdges[cluster] = true;
+        }
+        anyDirty = true;
+    }
+
+    /**
+     * Returns the number of entrance tiles of a cluster, mainly for inspection.
+     *
+     * @param clusterX column of the cluster
+     * @param clusterY row of the cluster
+     * @return the number of abstract nodes in the cluster
+     */
+    public int getEntranceCount(int clusterX, int clusterY) {
+        if (anyDirty) {
+            rebuildDirtyClusters();
+        }
+        return clusterNodes[clusterY * clustersX + clusterX].length;
+    }
+
+    /**
+     * @return the number of clusters whose entrance distances were recomputed by the last repair of the graph
+     */
+    public int getRebuiltClusterCount() {
+        return rebuiltClusters;
+    }
+
+    /*//////////////////////////////////////////////////////////////
+                            QUERY
+    //////////////////////////////////////////////////////////////*/
+
+    /**
+     * Breadth-first search from a source tile that never leaves the given cluster.
+     * The source is expanded even though it is occupied; the optional goal tile is recorded but not expanded.
+     * Tiles blocked by actors or projectiles are only avoided when the search refines an actual route.
+     *
+     * @return the distance to the goal tile, or -1 if it was not reached
+     */
+    private int localSearch(int source, int cluster, int goal, boolean avoidOccupants,
+                            int[] stamps, int[] distances, int[] parents) {
+        int minX = (cluster % clustersX) * clusterSize;
+        int minY = (cluster / clustersX) * clusterSize;
+        int maxX = Math.min(minX + clusterSize, width);
+        int maxY = Math.min(minY + clusterSize, height);
+
+        int head = 0, tail = 0;
+        int goalDistance = UNREACHABLE;
+        stamps[source] = generation;
+        distances[source] = 0;
+        if (parents != null) parents[source] = NONE;
+        queue[tail++] = source;
+
+        while (head < tail) {
+            int current = queue[head++];
+            int x = current % width;
+            int y = current / width;
+
+            for (int i = 0; i < ORIENTATIONS.length; i++) {
+                int neighborX = x + DX[i];
+                int neighborY = y + DY[i];
+                if (neighborX < minX || neighborY < minY || neighborX >= maxX || neighborY >= maxY) continue;
+
+                int neighbor = neighborY * width + neighborX;
+                if (stamps[neighbor] == generation) continue;
+
+                boolean isGoal = neighbor == goal;
+                if (!isGoal && !(avoidOccupants ? island.isWalkable(neighborX, neighborY) : passable[neighbor])) continue;
+
+                stamps[neighbor] = generation;
+                distances[neighbor] = distances[current] + 1;
+                if (parents != null) parents[neighbor] = current;
+
+                if (isGoal) {
+                    goalDistance = distances[neighbor];
+                } else {
+                    queue[tail++] = neighbor;
+                }
+            }
+        }
+
+        return goalDistance;
+    }
+
+    /**
+     * A* over the entrance tiles, seeded with the entrances of the start cluster reached by the local search.
+     * A route staying inside a shared start and goal cluster competes as a direct edge to the goal.
+     *
+     * @return the first tile to head for inside the start cluster, or -1 if the target cannot be reached
+     */
+    private int abstractSearch(int start, int startCluster, int target, int targetCluster, int directCost) {
+        openSet.clear();
+        int targetX = target % width;
+        int targetY = target / width;
+
+        if (directCost != UNREACHABLE) {
+            relax(goalNode, NONE, directCost, 0);
+        }
+        for (int node : clusterNodes[startCluster]) {
+            if (node != start && localStamps[node] == generation) {
+                relax(node, NONE, localDistances[node], distance(node, targetX, targetY));
+            }
+        }
+
+        // The start may itself stand on an entrance, in which case it can step straight across the border
+        int startX = start % width;
+        int startY = start / width;
+        for (int i = 0; i < ORIENTATIONS.length; i++) {
+            int neighborX = startX + DX[i];
+            int neighborY = startY + DY[i];
+            if (neighborX < 0 || neighborY < 0 || neighborX >= width || neighborY >= height) continue;
+
+            int neighbor = neighborY * width + neighborX;
+            if (entranceSides[neighbor] == 0 || clusterOf(neighbor) == startCluster) continue;
+            if (island.isWalkable(neighborX, neighborY)) {
+                relax(neighbor, NONE, 1, distance(neighbor, targetX, targetY));
+            }
+        }
+
+        while (!openSet.isEmpty()) {
+            int current = openSet.pop();
+            if (current == goalNode) break;
+
+            int cost = abstractCosts[current];
+            int cluster = clusterOf(current);
+
+            // Exit toward the target from inside its cluster
+            if (cluster == targetCluster && goalStamps[current] == generation) {
+                relax(goalNode, current, cost + goalDistances[current], 0);
+            }
+
+            // Precomputed routes to the other entrances of the cluster
+            int[] nodes = clusterNodes[cluster];
+            int[] costs = clusterCosts[cluster];
+            int row = nodeSlots[current] * nodes.length;
+            for (int j = 0; j < nodes.length; j++) {
+                int edge = costs[row + j];
+                if (edge <= 0) continue;
+                relax(nodes[j], current, cost + edge, distance(nodes[j], targetX, targetY));
+            }
+
+            // Single steps across the border into a neighboring cluster
+            int x = current % width;
+            int y = current / width;
+            for (int i = 0; i < ORIENTATIONS.length; i++) {
+                int neighborX = x + DX[i];
+                int neighborY = y + DY[i];
+                if (neighborX < 0 || neighborY < 0 || neighborX >= width || neighborY >= height) continue;
+
+                int neighbor = neighborY * width + neighborX;
+                if (entranceSides[neighbor] == 0 || clusterOf(neighbor) == cluster) continue;
+                relax(neighbor, current, cost + 1, distance(neighbor, targetX, targetY));
+            }
+        }
+
+        if (abstractStamps[goalNode] != generation) return NONE;
+
+        // The first abstract node of the route was reached directly from the start
+        int waypoint = goalNode;
+        while (abstractParents[waypoint] != NONE) {
+            waypoint = abstractParents[waypoint];
+        }
+        return waypoint == goalNode ? target : waypoint;
+    }
+
+    private void relax(int node, int parent, int cost, int heuristic) {
+        if (abstractStamps[node] == generation && abstractCosts[node] <= cost) return;
+
+        abstractStamps[node] = generation;
+        abstractCosts[node] = cost;
+        abstractParents[node] = parent;
+        openSet.put(node, cost + heuristic, -cost);
+    }
+
+    /**
+     * Walks the local search tree back from a tile of the start cluster to find the first move.
+     * A waypoint across the border is already the first move.
+     */
+    private Orientation firstStep(int start, int waypoint) {
+        int current = waypoint;
+        if (clusterOf(waypoint) == clusterOf(start)) {
+            while (localParents[current] != start) {
+                current = localParents[current];
+            }
+        }
+
+        int dx = current % width - start % width;
+        int dy = current / width - start / width;
+        for (int i = 0; i < ORIENTATIONS.length; i++) {
+            if (DX[i] == dx && DY[i] == dy) return ORIENTATIONS[i];
+        }
+        return null;
+    }
+
+    /*//////////////////////////////////////////////////////////////
+                            ABSTRACT GRAPH
+    //////////////////////////////////////////////////////////////*/
+
+    /**
+     * Recomputes the entrance distances of the dirty clusters. When a tile on the edge of a dirty cluster
+     * changed, the entrances on every border of the cluster are placed again first, and the neighbors,
+     * whose border entrances may have moved, get their distances recomputed as well.
+     */
+    private void rebuildDirtyClusters() {
+        Arrays.fill(rebuildMarks, false);
+
+        for (int cluster = 0; cluster < dirtyClusters.length; cluster++) {
+            if (!dirtyClusters[cluster]) continue;
+
+            dirtyClusters[cluster] = false;
+            rebuildMarks[cluster] = true;
+            if (!dirtyEdges[cluster]) continue;
+
+            int clusterX = cluster % clustersX;
+            int clusterY = cluster / clustersX;
+
+            if (clusterX > 0) {
+                rebuildVerticalBorder(clusterX - 1, clusterY);
+                rebuildMarks[cluster - 1] = true;
+            }
+            if (clusterX < clustersX - 1) {
+                rebuildVerticalBorder(clusterX, clusterY);
+                rebuildMarks[cluster + 1] = true;
+            }
+            if (clusterY > 0) {
+                rebuildHorizontalBorder(clusterX, clusterY - 1);
+                rebuildMarks[cluster - clustersX] = true;
+            }
+            if (clusterY < clustersY - 1) {
+                rebuildHorizontalBorder(clusterX, clusterY);
+                rebuildMarks[cluster + clustersX] = true;
+            }
+            dirtyEdges[cluster] = false;
+        }
+
+        rebuiltClusters = 0;
+        for (int cluster = 0; cluster < rebuildMarks.length; cluster++) {
+            if (rebuildMarks[cluster]) {
+                rebuildCluster(cluster);
+                rebuiltClusters++;
+            }
+        }
+        anyDirty = false;
+    }
+
+    /**
+     * Places the entrances between a cluster and the one to its right.
+     */
+    private void rebuildVerticalBorder(int clusterX, int clusterY) {
+        int leftX = (clusterX + 1) * clusterSize - 1;
+        int minY = clusterY * clusterSize;
+        int maxY = Math.min(minY + clusterSize, height);
+
+        int runStart = NONE;
+        for (int y = minY; y <= maxY; y++) {
+            if (y < maxY) {
+                entranceSides[y * width + leftX] &= ~SIDE_EAST;
+                entranceSides[y * width + leftX + 1] &= ~SIDE_WEST;
+            }
+
+            boolean open = y < maxY && passable[y * width + leftX] && passable[y * width + leftX + 1];
+            if (open && runStart == NONE) {
+                runStart = y;
+            } else if (!open && runStart != NONE) {
+                for (int entranceY : entrancesOf(runStart, y - 1)) {
+                    entranceSides[entranceY * width + leftX] |= SIDE_EAST;
+                    entranceSides[entranceY * width + leftX + 1] |= SIDE_WEST;
+                }
+                runStart = NONE;
+            }
+        }
+    }
+
+    /**
+     * Places the entrances between a cluster and the one below it.
+     */
+    private void rebuildHorizontalBorder(int clusterX, int clusterY) {
+        int topY = (clusterY + 1) * clusterSize - 1;
+        int minX = clusterX * clusterSize;
+        int maxX = Math.min(minX + clusterSize, width);
+
+        int runStart = NONE;
+        for (int x = minX; x <= maxX; x++) {
+            if (x < maxX) {
+                entranceSides[topY * width + x] &= ~SIDE_SOUTH;
+                entranceSides[(topY + 1) * width + x] &= ~SIDE_NORTH;
+            }
+
+            boolean open = x < maxX && passable[topY * width + x] && passable[(topY + 1) * width + x];
+            if (open && runStart == NONE) {
+                runStart = x;
+            } else if (!open && runStart != NONE) {
+                for (int entranceX : entrancesOf(runStart, x - 1)) {
+                    entranceSides[topY * width + entranceX] |= SIDE_SOUTH;
+                    entranceSides[(topY + 1) * width + entranceX] |= SIDE_NORTH;
+                }
+                runStart = NONE;
+            }
+        }
+    }
+
+    /**
+     * @return the positions along a border run that become entrances
+     */
+    private int[] entrancesOf(int first, int last) {
+        if (last - first + 1 < LONG_ENTRANCE) {
+            return new int[]{(first + last) / 2};
+        }
+        return new int[]{first, last};
+    }
+
+    /**
+     * Collects the entrance tiles on the edge of a cluster and computes the walking distance
+     * between each pair of them without leaving the cluster.
+     */
+    private void rebuildCluster(int cluster) {
+        for (int node : clusterNodes[cluster]) {
+            nodeSlots[node] = NONE;
+        }
+
+        int minX = (cluster % clustersX) * clusterSize;
+        int minY = (cluster / clustersX) * clusterSize;
+        int maxX = Math.min(minX + clusterSize, width) - 1;
+        int maxY = Math.min(minY + clusterSize, height) - 1;
+
+        // Entrances can only lie on the edge of the cluster
+        int count = 0;
+        int[] nodes = queue;
+        for (int y = minY; y <= maxY; y++) {
+            for (int x = minX; x <= maxX; x++) {
+                boolean onEdge = x == minX || x == maxX || y == minY || y == maxY;
+                if (!onEdge) {
+                    x = maxX - 1;
+                    continue;
+                }
+                int tile = y * width + x;
+                if (entranceSides[tile] != 0) {
+                    nodes[count++] = tile;
+                }
+            }
+        }
+
+        int[] clusterNodeList = Arrays.copyOf(nodes, count);
+        for (int slot = 0; slot < count; slot++) {
+            nodeSlots[clusterNodeList[slot]] = slot;
+        }
+
+        int[] costs = new int[count * count];
+        for (int slot = 0; slot < count; slot++) {
+            nextGeneration();
+            localSearch(clusterNodeList[slot], cluster, NONE, false, localStamps, localDistances, null);
+            for (int other = 0; other < count; other++) {
+                int node = clusterNodeList[other];
+                costs[slot * count + other] = localStamps[node] == generation ? localDistances[node] : UNREACHABLE;
+            }
+        }
+
+        clusterNodes[cluster] = clusterNodeList;
+        clusterCosts[cluster] = costs;
+    }
+
+    /*//////////////////////////////////////////////////////////////
+                            HELPERS
+    //////////////////////////////////////////////////////////////*/
+
+    private int clusterOf(int tile) {
+        return ((tile / width) / clusterSize) * clustersX + (tile % width) / clusterSize;
+    }
+
+    private int distance(int tile, int targetX, int targetY) {
+        return Math.abs(tile % width - targetX) + Math.abs(tile / width - targetY);
+    }
+
+    /**
+     * Starts a new search. Stamps are only cleared once every 2^31 searches, when the counter wraps.
+     */
+    private void nextGeneration() {
+        generation++;
+        if (generation == Integer.MAX_VALUE) {
+            Arrays.fill(localStamps, 0);
+            Arrays.fill(goalStamps, 0);
+            Arrays.fill(abstractStamps, 0);
+            generation = 1;
+        }
+    }
+}
@@ -0,0 +1,229 @@
+package com.group16.model.area.navigation;
+
+import com.group16.controller.config.GameConfig;
+import com.group16.model.area.Island;
+import com.group16.model.area.Orientation;
+
+import java.util.Arrays;
+
+/**
+ * Distance field to the target kept up to date between ticks with Lifelong Planning A* (LPA*).
+ * Every tile holds its current distance g and a one-step lookahead rhs computed from its neighbors;
+ * a tile whose two values differ is inconsistent and waits in a priority queue. A walkability change
+ * or the target moving one tile only makes the tiles involved inconsistent, and the repair then visits
+ * just the tiles whose distance actually changes instead of searching the whole island again.
+ * <p>
+ * Repairs are lazy: a query only processes the queue until the neighbors of the asking mob are
+ * consistent, so distances far from every mob are fixed when someone needs them.
+ * The resulting steps are the same as those of {@link FlowFieldNavigator}.
+ */
+public class IncrementalFlowField implements Navigator {
+
+    /** Distance of tiles the target cannot be reached from, halved so that adding a step cannot overflow */
+    private static final int INFINITY = Integer.MAX_VALUE / 2;
+
+    private static final int NONE = -1;
+
+    private static final Orientation[] ORIENTATIONS = Orientation.values();
+
+    /** Tile offsets of each orientation, in the order of {@link Orientation#values()} */
+    private static final int[] DX = new int[ORIENTATIONS.length];
+    private static final int[] DY = new int[ORIENTATIONS.length];
+
+    static {
+        for (int i = 0; i < ORIENTATIONS.length; i++) {
+            DX[i] = (int) (ORIENTATIONS[i].toVector().x() / GameConfig.TILE_SIZE);
+            DY[i] = (int) (ORIENTATIONS[i].toVector().y() / GameConfig.TILE_SIZE);
+        }
+    }
+
+    private final Island island;
+    private final int width;
+    private final int height;
+
+    /** Current distance of each tile to the target */
+    private final int[] distances;
+
+    /** Distance each tile should have according to its neighbors */
+    private final int[] lookaheads;
+
+    /** Inconsistent tiles, bucketed by the smaller of their two distances */
+    private final TileBucketQueue inconsistent;
+
+    /** Tile the field is rooted at, or -1 before the first query */
+    private int root = NONE;
+
+    /** Number of tiles whose distance was updated, for inspection */
+    private long repairedTiles;
+
+    /**
+     * Constructs an incremental flow field for an island.
+     *
+     * @param island the island to navigate
+     */
+    public IncrementalFlowField(Island island) {
+        this.island = island;
+        this.width = island.getMapWidth();
+        this.height = island.getMapHeight();
+        this.distances = new int[width * height];
+        this.lookaheads = new int[width * height];
+        this.inconsistent = new TileBucketQueue(width * height, width * height);
+        Arrays.fill(distances, INFINITY);
+        Arrays.fill(lookaheads, INFINITY);
+    }
+
+    /**
+     * Moves the root of the field if needed, repairs the field around the actor and steps toward
+     * the neighbor with the smallest distance. Ties are broken in the order of {@link Orientation#values()}.
+     *
+     * @param fromX   X coordinate of the moving actor
+     * @param fromY   Y coordinate of the moving actor
+     * @param targetX X coordinate of the target
+     * @param targetY Y coordinate of the target
+     * @return the orientation of the first step, or null if the target cannot be reached
+     */
+    @Override
+    public Orientation nextStep(int fromX, int fromY, int targetX, int targetY) {
+        moveRoot(targetY * width + targetX);
+
+        Orientation best = null;
+        int bestDistance = INFINITY;
+
+        for (int i = 0; i < ORIENTATIONS.length; i++) {
+            int neighborX = fromX + DX[i];
+            int neighborY = fromY + DY[i];
+            if (neighborX < 0 || neighborY < 0 || neighborX >= width || neighborY >= height) continue;
+
+            // A blocked neighbor is never stepped on: repairing it first would settle every queued tile,
+            // since nothing can make an unreachable tile consistent early
+            if (!island.isWalkable(neighborX, neighborY)) continue;
+
+            int neighbor = neighborY * width + neighborX;
+            repairUntilConsistent(neighbor);
+
+            int distance = distances[neighbor];
+            if (distance >= bestDistance) continue;
+
+            best = ORIENTATIONS[i];
+            bestDistance = distance;
+        }
+
+        return best;
+    }
+
+    /**
+     * Makes the tile inconsistent so its distance is repaired on the next query.
+     *
+     * @param x X coordinate of the tile
+     * @param y Y coordinate of the tile
+     */
+    @Override
+    public void onWalkabilityChanged(int x, int y) {
+        if (root != NONE) {
+            updateTile(y * width + x);
+        }
+    }
+
+    /**
+     * Returns the exact distance from a tile to the target, repairing the field as far as needed.
+     *
+     * @param x X coordinate of the tile
+     * @param y Y coordinate of the tile
+     * @return the number of steps to the target, or -1 if it cannot be reached
+     */
+    public int getDistance(int x, int y) {
+        int tile = y * width + x;
+        repairUntilConsistent(tile);
+        return distances[tile] == INFINITY ? -1 : distances[tile];
+    }
+
+    /**
+     * @return the number of tile distances rewritten since the field was created
+     */
+    public long getRepairedTiles() {
+        return repairedTiles;
+    }
+
+    /**
+     * Roots the field at a new tile. The old root gets its distance from its neighbors again,
+     * which is all LPA* needs to propagate the change.
+     */
+    private void moveRoot(int newRoot) {
+        if (newRoot == root) return;
+
+        int oldRoot = root;
+        root = newRoot;
+        if (oldRoot != NONE) {
+            updateTile(oldRoot);
+        }
+        updateTile(newRoot);
+    }
+
+    /**
+     * Recomputes the lookahead distance of a tile and queues it if it no longer matches its distance.
+     * Only walkable tiles lead anywhere; the root is the source even though its occupant blocks it.
+     */
+    private void updateTile(int tile) {
+        if (tile == root) {
+            lookaheads[tile] = 0;
+        } else if (!island.isWalkable(tile % width, tile / width)) {
+            lookaheads[tile] = INFINITY;
+        } else {
+            lookaheads[tile] = Math.min(INFINITY, smallestNeighborDistance(tile) + 1);
+        }
+
+        if (distances[tile] != lookaheads[tile]) {
+            inconsistent.put(tile, Math.min(distances[tile], lookaheads[tile]));
+        } else {
+            inconsistent.remove(tile);
+        }
+    }
+
+    /**
+     * Processes inconsistent tiles in order of distance until the given tile is consistent and
+     * no queued tile could still lower its distance.
+     */
+    private void repairUntilConsistent(int tile) {
+        while (!inconsistent.isEmpty()) {
+            int key = Math.min(distances[tile], lookaheads[tile]);
+            if (inconsistent.peekKey() >= key && distances[tile] == lookaheads[tile]) break;
+
+            int current = inconsistent.pop();
+            repairedTiles++;
+
+            if (distances[current] > lookaheads[current]) {
+                // The tile got closer: settle it and let its neighbors use the new distance
+                distances[current] = lookaheads[current];
+            } else {
+                // The tile got farther: forget its distance and queue it again with its new lookahead
+                distances[current] = INFINITY;
+                updateTile(current);
+            }
+            updateNeighbors(current);
+        }
+    }
+
+    private void updateNeighbors(int tile) {
+        int x = tile % width;
+        int y = tile / width;
+        for (int i = 0; i < ORIENTATIONS.length; i++) {
+            int neighborX = x + DX[i];
+            int neighborY = y + DY[i];
+            if (neighborX < 0 || neighborY < 0 || neighborX >= width || neighborY >= height) continue;
+            updateTile(neighborY * width + neighborX);
+        }
+    }
+
+    private int smallestNeighborDistance(int tile) {
+        int x = tile % width;
+        int y = tile / width;
+        int smallest = INFINITY;
+        for (int i = 0; i < ORIENTATIONS.length; i++) {
+            int neighborX = x + DX[i];
+            int neighborY = y + DY[i];
+            if (neighborX < 0 || neighborY < 0 || neighborX >= width || neighborY >= height) continue;
+            smallest = Math.min(smallest, distances[neighborY * width + neighborX]);
+        }
+        return smallest;
+    }
+}
@@ -0,0 +1,57 @@
+package com.group16.model.area.navigation;
+
+import com.group16.model.area.Island;
+
+import java.util.function.Function;
+
+/**
+ * Enum listing the available navigation strategies and how to build each of them for an island.
+ * Switching the mode on an island lets two strategies be compared on the same map.
+ * <p>
+ * FLOW_FIELD and COOPERATIVE take the same memory on a map of any size. The other modes keep a few ints
+ * per tile of the island and are meant for maps up to a few thousand tiles across.
+ */
+public enum NavigationMode {
+
+    /** One breadth-first search per mob and per move (original behaviour) */
+    BREADTH_FIRST(island -> new GridPathfinder(island, GridPathfinder.Mode.BREADTH_FIRST)),
+
+    /** One A* search per mob and per move, guided by the Manhattan distance */
+    A_STAR(GridPathfinder::new),
+
+    /** Jump point search, giving the same steps as BREADTH_FIRST while expanding far fewer tiles */
+    JUMP_POINT(island -> new GridPathfinder(island, GridPathfinder.Mode.JUMP_POINT)),
+
+    /** One distance field from the target shared by every mob */
+    FLOW_FIELD(FlowFieldNavigator::new),
+
+    /** Distance field from the target repaired in place (LPA*) when tiles or the target change */
+    INCREMENTAL_FLOW_FIELD(IncrementalFlowField::new),
+
+    /** A* over cluster entrances, refined inside the start and goal clusters only */
+    HIERARCHICAL(HierarchicalPathfinder::new),
+
+    /** Windowed cooperative A* planning several moves ahead around the moves other mobs reserved */
+    COOPERATIVE(CooperativePlanner::new);
+
+    private final Function<Island, Navigator> factory;
+
+    /**
+     * Constructor for each navigation mode, defining how its navigator is created.
+     *
+     * @param factory function building a navigator for a given island
+     */
+    NavigationMode(Function<Island, Navigator> factory) {
+        this.factory = factory;
+    }
+
+    /**
+     * Creates a navigator of this mode working on the given island.
+     *
+     * @param island the island to navigate
+     * @return a new navigator
+     */
+    public Navigator create(Island island) {
+        return factory.apply(island);
+    }
+}
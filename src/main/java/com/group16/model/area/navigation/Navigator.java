@@ -0,0 +1,52 @@
+package com.group16.model.area.navigation;
+
+import com.group16.model.area.Orientation;
+
+/**
+ * Strategy used by mobs to decide which way to step in order to reach a tile adjacent to their target.
+ * Implementations only answer the first step of the route; the mob asks again on its next move.
+ */
+public interface Navigator {
+
+    /**
+     * Computes the first step of a shortest route from a tile to any tile adjacent to the target.
+     *
+     * @param fromX   X coordinate of the moving actor
+     * @param fromY   Y coordinate of the moving actor
+     * @param targetX X coordinate of the target
+     * @param targetY Y coordinate of the target
+     * @return the orientation of the first step, or null if no tile adjacent to the target is reachable
+     */
+    Orientation nextStep(int fromX, int fromY, int targetX, int targetY);
+
+    /**
+     * Answers a request served by the {@link PathScheduler}. By default, with the first step of the route,
+     * looked up in the cache shared by requests asking the same question.
+     *
+     * @param request the request to answer
+     * @param cache   the scheduler's cache of answers
+     */
+    default void plan(PathRequest request, PathCache cache) {
+        request.complete(cache.nextStep(this,
+                request.getFromX(), request.getFromY(), request.getTargetX(), request.getTargetY()));
+    }
+
+    /**
+     * Drops whatever was kept for a request whose actor stops asking, for instance when it dies.
+     * Does nothing by default.
+     *
+     * @param request the abandoned request
+     */
+    default void release(PathRequest request) {
+    }
+
+    /**
+     * Called by the island when a tile becomes walkable or unwalkable, so navigators keeping
+     * precomputed data can update it. Does nothing by default.
+     *
+     * @param x X coordinate of the tile
+     * @param y Y coordinate of the tile
+     */
+    default void onWalkabilityChanged(int x, int y) {
+    }
+}
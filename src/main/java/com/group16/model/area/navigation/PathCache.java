@@ -0,0 +1,189 @@
+package com.group16.model.area.navigation;
+
+import com.group16.controller.config.GameConfig;
+import com.group16.model.area.Island;
+import com.group16.model.area.Orientation;
+
+import java.util.Arrays;
+
+/**
+ * Bounded cache of navigator answers, keyed by start tile and target tile. Mobs spawned in a clump ask
+ * the same question from the same tile; while the terrain stays the same, only the first of them pays for
+ * a search.
+ * <p>
+ * Answers stay valid for a version of the {@link ConnectivityIndex}, which only changes when terrain or an
+ * element opens or closes a tile: actors walking around do not invalidate the cache. A cached step whose
+ * tile an actor has since stepped on is searched again. A new version, or a switch to another navigator,
+ * invalidates every answer at once by moving to a new generation, without touching the entries.
+ * <p>
+ * Entries are kept in flat primitive arrays, two per set, the least recently used of the two being
+ * replaced. Unreachable answers depend on where the other actors stand and are not cached.
+ */
+public class PathCache {
+
+    private static final Orientation[] ORIENTATIONS = Orientation.values();
+
+    /** Tile offsets of each orientation, in the order of {@link Orientation#values()} */
+    private static final int[] DX = new int[ORIENTATIONS.length];
+    private static final int[] DY = new int[ORIENTATIONS.length];
+
+    static {
+        for (int i = 0; i < ORIENTATIONS.length; i++) {
+            DX[i] = (int) (ORIENTATIONS[i].toVector().x() / GameConfig.TILE_SIZE);
+            DY[i] = (int) (ORIENTATIONS[i].toVector().y() / GameConfig.TILE_SIZE);
+        }
+    }
+
+    /** Number of entries a key may be stored in */
+    private static final int WAYS = 2;
+
+    private final Island island;
+    private final int capacity;
+    private final int setMask;
+
+    // One slot per entry, the ways of a set next to each other
+    private final long[] keys;
+    private final byte[] steps;
+    private final int[] generations;
+
+    /** Way of each set used last, the other one being replaced first */
+    private final byte[] lastUsed;
+
+    /** Generation of the valid entries; older ones are free slots */
+    private int generation = 1;
+
+    // What the current generation is valid for
+    private long version = -1;
+    private Navigator navigator;
+
+    private long hitCount;
+    private long missCount;
+
+    /**
+     * Constructs an empty cache.
+     *
+     * @param island   the island the routes are on
+     * @param capacity the maximum number of answers kept, rounded down to a power of two; 0 disables the cache
+     */
+    public PathCache(Island island, int capacity) {
+        this.island = island;
+        this.capacity = capacity < WAYS ? 0 : Integer.highestOneBit(capacity);
+
+        int sets = Math.max(1, this.capacity / WAYS);
+        this.setMask = sets - 1;
+        this.keys = new long[this.capacity];
+        this.steps = new byte[this.capacity];
+        this.generations = new int[this.capacity];
+        this.lastUsed = new byte[sets];
+    }
+
+    /**
+     * Answers a navigator query from the cache, or asks the navigator and remembers the answer.
+     *
+     * @param navigator the navigator computing answers that are not cached
+     * @param fromX     X coordinate of the moving actor
+     * @param fromY     Y coordinate of the moving actor
+     * @param targetX   X coordinate of the target
+     * @param targetY   Y coordinate of the target
+     * @return the orientation of the first step, or null if the navigator found no route
+     */
+    public Orientation nextStep(Navigator navigator, int fromX, int fromY, int targetX, int targetY) {
+        if (capacity == 0) {
+            missCount++;
+            return navigator.nextStep(fromX, fromY, targetX, targetY);
+        }
+
+        long currentVersion = island.getConnectivity().getVersion();
+        if (currentVersion != version || navigator != this.navigator) {
+            clear();
+            version = currentVersion;
+            this.navigator = navigator;
+        }
+
+        int width = island.getMapWidth();
+        long key = (long) (fromY * width + fromX) << 32 | (targetY * width + targetX) & 0xFFFFFFFFL;
+        int set = (int) ((key * 0x9E3779B97F4A7C15L) >>> 32) & setMask;
+        int first = set * WAYS;
+
+        // Slot to store a new answer in: the matching entry if its step got blocked, else the older way
+        int slot = first + (1 - lastUsed[set]);
+        for (int way = first; way < first + WAYS; way++) {
+            if (generations[way] == generation && keys[way] == key) {
+                int step = steps[way];
+                if (island.isWalkable(fromX + DX[step], fromY + DY[step])) {
+                    hitCount++;
+                    lastUsed[set] = (byte) (way - first);
+                    return ORIENTATIONS[step];
+                }
+                slot = way;
+                break;
+            }
+            if (generations[way] != generation) {
+                slot = way;
+            }
+        }
+
+        missCount++;
+        Orientation step = navigator.nextStep(fromX, fromY, targetX, targetY);
+        if (step != null) {
+            keys[slot] = key;
+            steps[slot] = (byte) step.ordinal();
+            generations[slot] = generation;
+            lastUsed[set] = (byte) (slot - first);
+        } else if (generations[slot] == generation && keys[slot] == key) {
+            generations[slot] = 0;
+        }
+        return step;
+    }
+
+    /**
+     * Empties the cache, keeping the counters.
+     */
+    public void clear() {
+        if (++generation == 0) {
+            // Wrapped around: entries of the first generations could look valid again
+            Arrays.fill(generations, 0);
+            generation = 1;
+        }
+    }
+
+    /**
+     * @return the number of queries answered from the cache
+     */
+    public long getHitCount() {
+        return hitCount;
+    }
+
+    /**
+     * @return the number of queries that had to be searched
+     */
+    public long getMissCount() {
+        return missCount;
+    }
+
+    /**
+     * @return the share of queries answered from the cache, between 0 and 1
+     */
+    public double getHitRate() {
+        long total = hitCount + missCount;
+        return total == 0 ? 0 : (double) hitCount / total;
+    }
+
+    /**
+     * @return the number of answers currently cached
+     */
+    public int size() {
+        int size = 0;
+        for (int slotGeneration : generations) {
+            if (slotGeneration == generation) size++;
+        }
+        return size;
+    }
+
+    /**
+     * @return the maximum number of answers kept
+     */
+    public int getCapacity() {
+        return capacity;
+    }
+}
@@ -0,0 +1,247 @@
+package com.group16.model.area.navigation;
+
+import com.group16.controller.config.GameConfig;
+import com.group16.model.area.Orientation;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * A mob's pending or answered question to the {@link PathScheduler}: which way to step from a tile
+ * to reach the target. Each mob owns one request and submits it again after every move, so serving
+ * requests allocates nothing.
+ * <p>
+ * A {@link CooperativePlanner} answers with a plan of several moves instead, waits included;
+ * the mob follows it and submits the request again once it reaches the replanning point.
+ */
+public final class PathRequest {
+
+    /**
+     * Enum representing where a request is in its life cycle.
+     */
+    public enum Status {
+        /** Never submitted, or cancelled */
+        IDLE,
+
+        /** Waiting in the scheduler queue */
+        PENDING,
+
+        /** Answered; the result is available */
+        READY
+    }
+
+    private static final AtomicInteger NEXT_ID = new AtomicInteger();
+
+    /** Identifies the owner of the request in the cooperative planner's reservations */
+    private final int id = NEXT_ID.getAndIncrement();
+
+    private int fromX;
+    private int fromY;
+    private int targetX;
+    private int targetY;
+
+    private Orientation result;
+    private Status status = Status.IDLE;
+
+    // Queue ordering: smaller priority first, then submission order
+    private long priority;
+    private long sequence;
+
+    /** Scheduler tick the request has been waiting since, kept when it is resubmitted while queued */
+    private long queuedSince;
+
+    /** Position in the scheduler's queue, or -1 when not queued */
+    private int queueIndex = -1;
+
+    // Cooperative plan: moves (null for waits), where it starts and how far it has been followed
+    private Orientation[] planSteps;
+    private int planLength;
+    private int planStartX;
+    private int planStartY;
+    private long planSlot;
+    private int replanAfter;
+    private int planIndex;
+    private int planX;
+    private int planY;
+
+    /**
+     * Checks whether the request holds an answer computed from the given tile.
+     * The target may have moved since, but by less than the time one request waits in the queue.
+     *
+     * @param x X coordinate of the asking actor
+     * @param y Y coordinate of the asking actor
+     * @return true if a result for this tile is ready
+     */
+    public boolean isReadyFor(int x, int y) {
+        return status == Status.READY && fromX == x && fromY == y;
+    }
+
+    /**
+     * Checks whether the request is already waiting to be served from the given tile.
+     *
+     * @param x X coordinate of the asking actor
+     * @param y Y coordinate of the asking actor
+     * @return true if a request from this tile is queued
+     */
+    public boolean isPendingFor(int x, int y) {
+        return status == Status.PENDING && fromX == x && fromY == y;
+    }
+
+    /**
+     * Checks whether the actor stands where its plan expects it and the plan has moves left.
+     * A plan stays valid while the request waits to be planned again.
+     *
+     * @param x X coordinate of the asking actor
+     * @param y Y coordinate of the asking actor
+     * @return true if {@link #getPlannedStep()} can be followed from this tile
+     */
+    public boolean isOnPlan(int x, int y) {
+        return planIndex < planLength && planX == x && planY == y;
+    }
+
+    /**
+     * @return the next move of the plan, or null if the plan is to wait in place for one move
+     */
+    public Orientation getPlannedStep() {
+        return planSteps[planIndex];
+    }
+
+    /**
+     * Moves on to the next step of the plan, once the actor carried out the current one.
+     */
+    public void advancePlan() {
+        Orientation step = planSteps[planIndex++];
+        if (step != null) {
+            planX += (int) (step.toVector().x() / GameConfig.TILE_SIZE);
+            planY += (int) (step.toVector().y() / GameConfig.TILE_SIZE);
+        }
+    }
+
+    /**
+     * @return true if the actor followed enough of its plan, or strayed from it, and should ask again
+     */
+    public boolean shouldReplan() {
+        return planIndex >= replanAfter || planIndex >= planLength;
+    }
+
+    /**
+     * @return the first step toward the target, or null if no route was found; only meaningful once ready
+     */
+    public Orientation getResult() {
+        return result;
+    }
+
+    /**
+     * @return the current status of the request
+     */
+    public Status getStatus() {
+        return status;
+    }
+
+    void prepare(int fromX, int fromY, int targetX, int targetY, long priority, long sequence, long queuedSince) {
+        this.fromX = fromX;
+        this.fromY = fromY;
+        this.targetX = targetX;
+        this.targetY = targetY;
+        this.priority = priority;
+        this.sequence = sequence;
+        this.queuedSince = queuedSince;
+        this.status = Status.PENDING;
+    }
+
+    void complete(Orientation result) {
+        this.result = result;
+        this.status = Status.READY;
+        this.planLength = 0;
+        this.planIndex = 0;
+    }
+
+    /**
+     * Stores a plan of moves computed by the cooperative planner. The steps are copied.
+     */
+    void completePlan(Orientation[] steps, int length, int startX, int startY, long slot, int replanAfter) {
+        if (planSteps == null || planSteps.length < length) {
+            planSteps = new Orientation[steps.length];
+        }
+        System.arraycopy(steps, 0, planSteps, 0, length);
+        this.planLength = length;
+        this.planStartX = startX;
+        this.planStartY = startY;
+        this.planSlot = slot;
+        this.replanAfter = replanAfter;
+        this.planIndex = 0;
+        this.planX = startX;
+        this.planY = startY;
+        this.result = length > 0 ? steps[0] : null;
+        this.status = Status.READY;
+    }
+
+    void cancel() {
+        this.status = Status.IDLE;
+        this.planLength = 0;
+        this.planIndex = 0;
+    }
+
+    boolean hasPlan() {
+        return planLength > 0;
+    }
+
+    int getId() {
+        return id;
+    }
+
+    int getPlanLength() {
+        return planLength;
+    }
+
+    Orientation getPlanStep(int index) {
+        return planSteps[index];
+    }
+
+    int getPlanStartX() {
+        return planStartX;
+    }
+
+    int getPlanStartY() {
+        return planStartY;
+    }
+
+    long getPlanSlot() {
+        return planSlot;
+    }
+
+    int getFromX() {
+        return fromX;
+    }
+
+    int getFromY() {
+        return fromY;
+    }
+
+    int getTargetX() {
+        return targetX;
+    }
+
+    int getTargetY() {
+        return targetY;
+    }
+
+    long getPriority() {
+        return priority;
+    }
+
+    long getSequence() {
+        return sequence;
+    }
+
+    long getQueuedSince() {
+        return queuedSince;
+    }
+
+    int getQueueIndex() {
+        return queueIndex;
+    }
+
+    void setQueueIndex(int queueIndex) {
+        this.queueIndex = queueIndex;
+    }
+}
@@ -0,0 +1,173 @@
+package com.group16.model.area.navigation;
+
+import com.group16.controller.config.GameConfig;
+import com.group16.model.area.Island;
+
+import java.util.function.LongSupplier;
+
+/**
+ * Queue of pathfinding requests served within a time budget at the start of each tick.
+ * Requests from actors closest to their target are served first, since their next moves matter most;
+ * whatever does not fit in the budget waits for the next tick. This spreads the searches of a freshly
+ * spawned wave over several ticks instead of running them all on the tick their move timers expire.
+ * <p>
+ * Waiting requests age: each tick a request waits counts as {@link GameConfig#PATH_REQUEST_AGING} tiles
+ * less of distance, so a far actor is served within a bounded number of ticks even while nearer ones keep
+ * asking. Aging is folded into the priority when a request is queued, as its distance plus the aging times
+ * the tick it started waiting on; every queued request gains the same each tick, so the order never has to
+ * be recomputed. A request resubmitted while still queued keeps the tick it started waiting on.
+ * <p>
+ * Each request is answered by the island's current {@link Navigator}, through {@link Navigator#plan}.
+ * <p>
+ * With a budget of zero or less the scheduler is synchronous and answers each request as it is submitted.
+ */
+public class PathScheduler {
+
+    private final Island island;
+    private final PathCache cache;
+    private final RequestQueue queue = new RequestQueue();
+    private final LongSupplier clock;
+    private long budgetNanos;
+    private long nextSequence;
+
+    /** Number of calls to {@link #serve()} so far, the clock requests age by */
+    private long tick;
+
+    // Statistics of the last call to serve()
+    private int servedLastTick;
+    private long spentLastTickNanos;
+
+    /**
+     * Constructs a scheduler answering requests with the island's current navigator.
+     *
+     * @param island       the island the requests are about
+     * @param budgetMicros time that may be spent serving requests each tick, in microseconds
+     */
+    public PathScheduler(Island island, long budgetMicros) {
+        this(island, budgetMicros, System::nanoTime);
+    }
+
+    /**
+     * Constructs a scheduler answering requests with the island's current navigator.
+     *
+     * @param island       the island the requests are about
+     * @param budgetMicros time that may be spent serving requests each tick, in microseconds
+     * @param clock        source of the current time the budget is measured with, in nanoseconds
+     */
+    public PathScheduler(Island island, long budgetMicros, LongSupplier clock) {
+        this.island = island;
+        this.cache = new PathCache(island, GameConfig.PATH_CACHE_CAPACITY);
+        this.clock = clock;
+        this.budgetNanos = budgetMicros * 1_000;
+    }
+
+    /**
+     * Queues a request, or moves it to its new place if it is already queued.
+     * The priority is the Manhattan distance between the actor and its target, aged by the time the request
+     * has been waiting.
+     *
+     * @param request the request owned by the asking actor
+     * @param fromX   X coordinate of the actor
+     * @param fromY   Y coordinate of the actor
+     * @param targetX X coordinate of the target
+     * @param targetY Y coordinate of the target
+     */
+    public void submit(PathRequest request, int fromX, int fromY, int targetX, int targetY) {
+        long queuedSince = request.getQueueIndex() >= 0 ? request.getQueuedSince() : tick;
+        long priority = Math.abs(fromX - targetX) + Math.abs(fromY - targetY)
+                + GameConfig.PATH_REQUEST_AGING * queuedSince;
+        request.prepare(fromX, fromY, targetX, targetY, priority, nextSequence++, queuedSince);
+
+        if (isSynchronous()) {
+            queue.remove(request);
+            answer(request);
+        } else {
+            queue.offer(request);
+        }
+    }
+
+    /**
+     * Removes a request from the queue and drops what the navigator keeps for it, for instance when its
+     * actor dies.
+     *
+     * @param request the request to drop
+     */
+    public void cancel(PathRequest request) {
+        queue.remove(request);
+        island.getNavigator().release(request);
+        request.cancel();
+    }
+
+    /**
+     * Answers queued requests in priority order until the budget is spent.
+     * At least one request is answered per call, so a budget shorter than a single search cannot stall mobs.
+     */
+    public void serve() {
+        long start = clock.getAsLong();
+        long elapsed = 0;
+        int served = 0;
+
+        while (!queue.isEmpty() && (served == 0 || elapsed < budgetNanos)) {
+            answer(queue.poll());
+            served++;
+            elapsed = clock.getAsLong() - start;
+        }
+        tick++;
+
+        servedLastTick = served;
+        spentLastTickNanos = elapsed;
+    }
+
+    /**
+     * Changes the time budget per tick. A budget of zero or less answers requests synchronously.
+     *
+     * @param budgetMicros time that may be spent serving requests each tick, in microseconds
+     */
+    public void setBudgetMicros(long budgetMicros) {
+        this.budgetNanos = budgetMicros * 1_000;
+        if (isSynchronous()) {
+            while (!queue.isEmpty()) {
+                answer(queue.poll());
+            }
+        }
+    }
+
+    /**
+     * @return true if requests are answered as soon as they are submitted
+     */
+    public boolean isSynchronous() {
+        return budgetNanos <= 0;
+    }
+
+    /**
+     * @return the cache of answers shared by requests asking the same question
+     */
+    public PathCache getCache() {
+        return cache;
+    }
+
+    /**
+     * @return the number of requests waiting for a later tick
+     */
+    public int getPendingCount() {
+        return queue.size();
+    }
+
+    /**
+     * @return the number of requests answered during the last tick
+     */
+    public int getServedLastTick() {
+        return servedLastTick;
+    }
+
+    /**
+     * @return the time spent answering requests during the last tick, in nanoseconds
+     */
+    public long getSpentLastTickNanos() {
+        return spentLastTickNanos;
+    }
+
+    private void answer(PathRequest request) {
+        island.getNavigator().plan(request, cache);
+    }
+}
@@ -0,0 +1,118 @@
+package com.group16.model.area.navigation;
+
+import java.util.Arrays;
+
+/**
+ * Binary min-heap of path requests, smallest (aged) priority first, then submission order.
+ * <p>
+ * Each request remembers its position in the heap, so a request that is resubmitted or cancelled while
+ * queued is moved or removed in logarithmic time, where {@link java.util.PriorityQueue#remove(Object)}
+ * would search the whole queue for it.
+ */
+final class RequestQueue {
+
+    private PathRequest[] heap = new PathRequest[16];
+    private int size;
+
+    /**
+     * Queues a request, or moves it to its new place if it is already queued and its priority changed.
+     *
+     * @param request the request to queue
+     */
+    void offer(PathRequest request) {
+        int index = request.getQueueIndex();
+        if (index >= 0) {
+            siftUp(index);
+            siftDown(request.getQueueIndex());
+            return;
+        }
+
+        if (size == heap.length) {
+            heap = Arrays.copyOf(heap, size * 2);
+        }
+        heap[size] = request;
+        request.setQueueIndex(size);
+        siftUp(size++);
+    }
+
+    /**
+     * Removes and returns the request to serve first.
+     *
+     * @return the request with the smallest priority, or null if the queue is empty
+     */
+    PathRequest poll() {
+        if (size == 0) return null;
+        PathRequest first = heap[0];
+        removeAt(0);
+        return first;
+    }
+
+    /**
+     * Removes a request from the queue. Does nothing if it is not queued.
+     *
+     * @param request the request to remove
+     */
+    void remove(PathRequest request) {
+        int index = request.getQueueIndex();
+        if (index >= 0) {
+            removeAt(index);
+        }
+    }
+
+    boolean isEmpty() {
+        return size == 0;
+    }
+
+    int size() {
+        return size;
+    }
+
+    private void removeAt(int index) {
+        heap[index].setQueueIndex(-1);
+        PathRequest last = heap[--size];
+        heap[size] = null;
+        if (index == size) return;
+
+        place(last, index);
+        siftDown(index);
+        if (heap[index] == last) {
+            siftUp(index);
+        }
+    }
+
+    private void siftUp(int index) {
+        PathRequest request = heap[index];
+        while (index > 0) {
+            int parent = (index - 1) >>> 1;
+            if (!isBefore(request, heap[parent])) break;
+            place(heap[parent], index);
+            index = parent;
+        }
+        place(request, index);
+    }
+
+    private void siftDown(int index) {
+        PathRequest request = heap[index];
+        int half = size >>> 1;
+        while (index < half) {
+            int child = 2 * index + 1;
+            if (child + 1 < size && isBefore(heap[child + 1], heap[child])) {
+                child++;
+            }
+            if (!isBefore(heap[child], request)) break;
+            place(heap[child], index);
+            index = child;
+        }
+        place(request, index);
+    }
+
+    private void place(PathRequest request, int index) {
+        heap[index] = request;
+        request.setQueueIndex(index);
+    }
+
+    private static boolean isBefore(PathRequest a, PathRequest b) {
+        return a.getPriority() < b.getPriority()
+                || a.getPriority() == b.getPriority() && a.getSequence() < b.getSequence();
+    }
+}
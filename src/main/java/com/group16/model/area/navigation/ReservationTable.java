@@ -0,0 +1,98 @@
+package com.group16.model.area.navigation;
+
+import com.group16.model.area.tiles.TileGrid;
+
+import java.util.Arrays;
+
+/**
+ * Space-time reservation table of the cooperative planner: which actor intends to stand on which tile
+ * at which move slot. Slots live in a ring a few windows deep; each entry remembers the slot it was
+ * written for, so reservations from the past are ignored without ever being cleared.
+ * <p>
+ * Entries are stored per chunk of {@link TileGrid#CHUNK_SIZE} tiles, created when a tile of the chunk is
+ * first reserved. Mobs only plan near the player, so only a few chunks of a large map ever get any.
+ */
+final class ReservationTable {
+
+    /** Owner of a slot nobody reserved */
+    static final int FREE = -1;
+
+    private static final int SHIFT = Integer.numberOfTrailingZeros(TileGrid.CHUNK_SIZE);
+    private static final int MASK = TileGrid.CHUNK_SIZE - 1;
+    private static final int CHUNK_TILES = TileGrid.CHUNK_SIZE * TileGrid.CHUNK_SIZE;
+
+    private final int width;
+    private final int chunkColumns;
+    private final int depth;
+
+    // Per chunk, indexed by ring position * CHUNK_TILES + tile in the chunk; null while nothing was reserved
+    private final int[][] owners;
+    private final long[][] slots;
+
+    /**
+     * Constructs an empty table.
+     *
+     * @param width  number of columns of the island
+     * @param height number of rows of the island
+     * @param depth  number of consecutive slots that can be reserved at once
+     */
+    ReservationTable(int width, int height, int depth) {
+        this.width = width;
+        this.chunkColumns = (width + MASK) >> SHIFT;
+        this.depth = depth;
+        int chunkCount = chunkColumns * ((height + MASK) >> SHIFT);
+        this.owners = new int[chunkCount][];
+        this.slots = new long[chunkCount][];
+    }
+
+    /**
+     * @return the actor holding the tile at the given slot, or {@link #FREE}
+     */
+    int getOwner(int tile, long slot) {
+        int chunk = chunkOf(tile);
+        if (slots[chunk] == null) return FREE;
+        int index = index(tile, slot);
+        return slots[chunk][index] == slot ? owners[chunk][index] : FREE;
+    }
+
+    /**
+     * @return true if nobody but the given actor holds the tile at the given slot
+     */
+    boolean isFree(int tile, long slot, int owner) {
+        int holder = getOwner(tile, slot);
+        return holder == FREE || holder == owner;
+    }
+
+    void reserve(int tile, long slot, int owner) {
+        int chunk = chunkOf(tile);
+        if (slots[chunk] == null) {
+            owners[chunk] = new int[CHUNK_TILES * depth];
+            slots[chunk] = new long[CHUNK_TILES * depth];
+            Arrays.fill(slots[chunk], -1);
+        }
+        int index = index(tile, slot);
+        slots[chunk][index] = slot;
+        owners[chunk][index] = owner;
+    }
+
+    /**
+     * Frees the tile at the given slot if the given actor holds it.
+     */
+    void release(int tile, long slot, int owner) {
+        int chunk = chunkOf(tile);
+        if (slots[chunk] == null) return;
+        int index = index(tile, slot);
+        if (slots[chunk][index] == slot && owners[chunk][index] == owner) {
+            slots[chunk][index] = -1;
+        }
+    }
+
+    private int chunkOf(int tile) {
+        return (tile / width >> SHIFT) * chunkColumns + (tile % width >> SHIFT);
+    }
+
+    private int index(int tile, long slot) {
+        int local = (tile / width & MASK) << SHIFT | tile % width & MASK;
+        return (int) (slot % depth) * CHUNK_TILES + local;
+    }
+}
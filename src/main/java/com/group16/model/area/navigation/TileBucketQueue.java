@@ -0,0 +1,112 @@
+package com.group16.model.area.navigation;
+
+import java.util.Arrays;
+
+/**
+ * Monotone priority queue of tile indices for small integer keys such as step distances.
+ * Each key owns a bucket, a doubly linked list threaded through int arrays, so inserting, moving and
+ * removing a tile are constant time and popping only scans forward over empty buckets.
+ * Unlike {@link TileHeap}, ties are served in no particular order.
+ */
+final class TileBucketQueue {
+
+    private static final int NONE = -1;
+
+    private final int[] bucketHeads;
+    private final int[] next;
+    private final int[] previous;
+    private final int[] keys;
+    private int size;
+
+    /** No bucket below this key holds a tile */
+    private int lowestKey;
+
+    /**
+     * Constructs a queue for tile indices below the given capacity and keys up to the given maximum.
+     *
+     * @param capacity number of distinct tile indices
+     * @param maxKey   largest key a tile can be queued with
+     */
+    TileBucketQueue(int capacity, int maxKey) {
+        bucketHeads = new int[maxKey + 1];
+        next = new int[capacity];
+        previous = new int[capacity];
+        keys = new int[capacity];
+        Arrays.fill(bucketHeads, NONE);
+        Arrays.fill(keys, NONE);
+    }
+
+    boolean isEmpty() {
+        return size == 0;
+    }
+
+    boolean contains(int tile) {
+        return keys[tile] != NONE;
+    }
+
+    /**
+     * @return the smallest key in the queue, which must not be empty
+     */
+    int peekKey() {
+        while (bucketHeads[lowestKey] == NONE) {
+            lowestKey++;
+        }
+        return lowestKey;
+    }
+
+    /**
+     * Inserts a tile, or moves it to another bucket if it is already present.
+     *
+     * @param tile the tile index
+     * @param key  the priority, smaller first
+     */
+    void put(int tile, int key) {
+        if (keys[tile] == key) return;
+        remove(tile);
+
+        keys[tile] = key;
+        previous[tile] = NONE;
+        next[tile] = bucketHeads[key];
+        if (bucketHeads[key] != NONE) {
+            previous[bucketHeads[key]] = tile;
+        }
+        bucketHeads[key] = tile;
+
+        if (size++ == 0 || key < lowestKey) {
+            lowestKey = key;
+        }
+    }
+
+    /**
+     * Removes and returns a tile with the smallest key.
+     *
+     * @return the removed tile
+     */
+    int pop() {
+        int tile = bucketHeads[peekKey()];
+        remove(tile);
+        return tile;
+    }
+
+    /**
+     * Removes a tile if it is present.
+     *
+     * @param tile the tile index
+     */
+    void remove(int tile) {
+        int key = keys[tile];
+        if (key == NONE) return;
+
+        if (previous[tile] != NONE) {
+            next[previous[tile]] = next[tile];
+        } else {
+            bucketHeads[key] = next[tile];
+        }
+        if (next[tile] != NONE) {
+            previous[next[tile]] = previous[tile];
+        }
+
+        keys[tile] = NONE;
+        size--;
+    }
+}
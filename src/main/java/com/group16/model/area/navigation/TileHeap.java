@@ -0,0 +1,156 @@
+package com.group16.model.area.navigation;
+
+import java.util.Arrays;
+
+/**
+ * Indexed binary min-heap of tile indices, used as the open set of the grid searches.
+ * A tile is present at most once and its priority can be changed in place, so the heap
+ * never holds more entries than there are tiles and never allocates after construction.
+ * Entries are ordered by their primary key, then by their secondary key.
+ */
+final class TileHeap {
+
+    private static final int ABSENT = -1;
+
+    private final int[] heap;
+    private final int[] positions;
+    private final int[] primaryKeys;
+    private final int[] secondaryKeys;
+    private int size;
+
+    /**
+     * Constructs a heap able to hold every tile index below the given capacity.
+     *
+     * @param capacity number of distinct tile indices
+     */
+    TileHeap(int capacity) {
+        heap = new int[capacity];
+        positions = new int[capacity];
+        primaryKeys = new int[capacity];
+        secondaryKeys = new int[capacity];
+        Arrays.fill(positions, ABSENT);
+    }
+
+    /**
+     * Removes every entry, in time proportional to the current size.
+     */
+    void clear() {
+        for (int i = 0; i < size; i++) {
+            positions[heap[i]] = ABSENT;
+        }
+        size = 0;
+    }
+
+    boolean isEmpty() {
+        return size == 0;
+    }
+
+    boolean contains(int tile) {
+        return positions[tile] != ABSENT;
+    }
+
+    /**
+     * @return the tile with the smallest keys, without removing it
+     */
+    int peek() {
+        return heap[0];
+    }
+
+    /**
+     * @return the primary key of the tile with the smallest keys
+     */
+    int peekPrimaryKey() {
+        return primaryKeys[heap[0]];
+    }
+
+    /**
+     * Inserts a tile, or moves it to its new place if it is already present.
+     *
+     * @param tile      the tile index
+     * @param primary   the main priority, smaller first
+     * @param secondary the tie-breaking priority, smaller first
+     */
+    void put(int tile, int primary, int secondary) {
+        primaryKeys[tile] = primary;
+        secondaryKeys[tile] = secondary;
+
+        if (positions[tile] == ABSENT) {
+            heap[size] = tile;
+            positions[tile] = size;
+            siftUp(size++);
+        } else {
+            int position = positions[tile];
+            siftUp(position);
+            siftDown(positions[tile]);
+        }
+    }
+
+    /**
+     * Removes and returns the tile with the smallest keys.
+     *
+     * @return the removed tile
+     */
+    int pop() {
+        int top = heap[0];
+        removeAt(0);
+        return top;
+    }
+
+    /**
+     * Removes a tile if it is present.
+     *
+     * @param tile the tile index
+     */
+    void remove(int tile) {
+        if (positions[tile] != ABSENT) {
+            removeAt(positions[tile]);
+        }
+    }
+
+    private void removeAt(int position) {
+        int removed = heap[position];
+        positions[removed] = ABSENT;
+        size--;
+
+        if (position < size) {
+            int moved = heap[size];
+            heap[position] = moved;
+            positions[moved] = position;
+            siftUp(position);
+            siftDown(positions[moved]);
+        }
+    }
+
+    private boolean before(int a, int b) {
+        if (primaryKeys[a] != primaryKeys[b]) return primaryKeys[a] < primaryKeys[b];
+        return secondaryKeys[a] < secondaryKeys[b];
+    }
+
+    private void siftUp(int position) {
+        int tile = heap[position];
+        while (position > 0) {
+            int parent = (position - 1) >> 1;
+            if (!before(tile, heap[parent])) break;
+            heap[position] = heap[parent];
+            positions[heap[position]] = position;
+            position = parent;
+        }
+        heap[position] = tile;
+        positions[tile] = position;
+    }
+
+    private void siftDown(int position) {
+        int tile = heap[position];
+        while (true) {
+            int child = 2 * position + 1;
+            if (child >= size) break;
+            if (child + 1 < size && before(heap[child + 1], heap[child])) child++;
+            if (!before(heap[child], tile)) break;
+            heap[position] = heap[child];
+            positions[heap[position]] = position;
+            position = child;
+        }
+        heap[position] = tile;
+        positions[tile] = position;
+    }
+}
@@ -0,0 +1,43 @@
+package com.group16.model.area.navigation;
+
+/**
+ * First-in first-out queue of tile indices for breadth-first searches, kept in a ring that doubles when full.
+ * A search over a grid only ever holds its frontier, so the ring stays far smaller than the map.
+ */
+final class TileQueue {
+
+    private int[] tiles = new int[256];
+    private int head;
+    private int size;
+
+    boolean isEmpty() {
+        return size == 0;
+    }
+
+    void clear() {
+        head = 0;
+        size = 0;
+    }
+
+    void add(int tile) {
+        if (size == tiles.length) {
+            int[] grown = new int[tiles.length * 2];
+            int firstPart = tiles.length - head;
+            System.arraycopy(tiles, head, grown, 0, firstPart);
+            System.arraycopy(tiles, 0, grown, firstPart, head);
+            tiles = grown;
+            head = 0;
+        }
+        tiles[(head + size++) & tiles.length - 1] = tile;
+    }
+
+    /**
+     * @return the oldest tile, removed from the queue, which must not be empty
+     */
+    int poll() {
+        int tile = tiles[head];
+        head = (head + 1) & tiles.length - 1;
+        size--;
+        return tile;
+    }
+}
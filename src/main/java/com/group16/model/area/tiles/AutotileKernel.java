@@ -0,0 +1,190 @@
+package com.group16.model.area.tiles;
+
+import java.util.Arrays;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+
+/**
+ * Computes, in one pass over a grid, the mask of water tiles around every tile, shared by the map generator
+ * (grass next to water becomes hill) and the tile views (which hill sprite to draw).
+ * <p>
+ * Bits 0 to 3 are the north, east, south and west neighbors; bits 4 to 7 the north-east, north-west,
+ * south-east and south-west ones. Diagonal neighbors only count when no side neighbor is water, and only
+ * tiles at most one tile into the water border are looked at. Masks are stored row by row,
+ * at {@code y * width + x}.
+ * <p>
+ * Masks are built a row at a time from precomputed water flags with branch-free bit arithmetic.
+ * Large grids are split into stripes of rows computed on the common fork-join pool.
+ */
+public final class AutotileKernel {
+
+    /** Row offsets of the neighbors, in bit order */
+    private static final int[] DY = {-1, 0, 1, 0, -1, -1, 1, 1};
+
+    /** Column offsets of the neighbors, in bit order */
+    private static final int[] DX = {0, 1, 0, -1, 1, -1, 1, -1};
+
+    /** Terrain of a grass tile for each mask */
+    private static final TileType[] GRASS_TERRAIN = new TileType[256];
+
+    static {
+        for (int mask = 0; mask < 256; mask++) {
+            GRASS_TERRAIN[mask] = switch (mask) {
+                case 0b0000001, 0b0000010, 0b0000100, 0b0001000,
+                     0b0000011, 0b0001001, 0b0000110, 0b0001100,
+                     0b0010000, 0b0100000, 0b01000000, 0b10000000 -> TileType.HILL;
+                default -> TileType.GRASS;
+            };
+        }
+    }
+
+    /** Number of tiles from which the rows are computed in parallel */
+    static final int PARALLEL_THRESHOLD = 1 << 16;
+
+    /** Rows computed by a single task */
+    private static final int ROWS_PER_STRIPE = 64;
+
+    private AutotileKernel() {
+    }
+
+    /**
+     * Computes the water mask of every tile.
+     *
+     * @param grid   the tiles
+     * @param border width of the water border around the map
+     * @return the mask of each tile, row by row
+     */
+    public static byte[] computeWaterMasks(TileGrid grid, int border) {
+        byte[] masks = new byte[grid.getWidth() * grid.getHeight()];
+        if (masks.length < PARALLEL_THRESHOLD) {
+            computeRows(grid, border, masks, 0, grid.getHeight());
+        } else {
+            ForkJoinPool.commonPool().invoke(new Stripe(grid, border, masks, 0, grid.getHeight()));
+        }
+        return masks;
+    }
+
+    /**
+     * Computes the water mask of a single tile, as {@link #computeWaterMasks} would. Used to retile
+     * the neighborhood of a tile that changed at runtime.
+     *
+     * @param grid   the tiles
+     * @param border width of the water border around the map
+     * @param x      x-coordinate of the tile
+     * @param y      y-coordinate of the tile
+     * @return the mask of the tile
+     */
+    public static int computeWaterMask(TileGrid grid, int border, int x, int y) {
+        int minRow = Math.max(0, border - 1), maxRow = Math.min(grid.getHeight() - 1, grid.getHeight() - border);
+        int minColumn = Math.max(0, border - 1), maxColumn = Math.min(grid.getWidth() - 1, grid.getWidth() - border);
+
+        int mask = 0;
+        for (int bit = 0; bit < 8; bit++) {
+            // Diagonals only matter when no side is water
+            if (bit == 4 && mask != 0) break;
+
+            int ny = y + DY[bit], nx = x + DX[bit];
+            if (ny >= minRow && ny <= maxRow && nx >= minColumn && nx <= maxColumn
+                    && grid.getType(nx, ny) == TileType.WATER) {
+                mask |= 1 << bit;
+            }
+        }
+        return mask;
+    }
+
+    /**
+     * Returns the terrain of a grass tile with the given water mask.
+     *
+     * @param mask the water mask of the tile
+     * @return {@link TileType#HILL} along the coast, {@link TileType#GRASS} elsewhere
+     */
+    public static TileType grassTerrain(int mask) {
+        return GRASS_TERRAIN[mask & 0xFF];
+    }
+
+    /**
+     * Computes the masks of rows {@code [fromRow, toRow)}. The water flags of the row above, the row itself
+     * and the row below are kept in three rolling buffers, so each tile is read from the grid once per row
+     * it borders instead of once per neighbor.
+     */
+    private static void computeRows(TileGrid grid, int border, byte[] masks, int fromRow, int toRow) {
+        int width = grid.getWidth();
+
+        // Neighbors outside this window are never counted
+        int minRow = border - 1, maxRow = grid.getHeight() - border;
+        int minColumn = Math.max(0, border - 1), maxColumn = Math.min(width - 1, width - border);
+
+        // One padding column on each side, so x - 1 and x + 1 never need a bounds check
+        boolean[] above = new boolean[width + 2];
+        boolean[] row = new boolean[width + 2];
+        boolean[] below = new boolean[width + 2];
+        readWater(grid, fromRow - 1, minRow, maxRow, minColumn, maxColumn, above);
+        readWater(grid, fromRow, minRow, maxRow, minColumn, maxColumn, row);
+
+        for (int y = fromRow; y < toRow; y++) {
+            readWater(grid, y + 1, minRow, maxRow, minColumn, maxColumn, below);
+
+            int out = y * width;
+            for (int x = 1; x <= width; x++) {
+                int mask = (above[x] ? 1 : 0) | (row[x + 1] ? 2 : 0) | (below[x] ? 4 : 0) | (row[x - 1] ? 8 : 0);
+
+                // Diagonals only matter when no side is water
+                if (mask == 0) {
+                    mask = (above[x + 1] ? 16 : 0) | (above[x - 1] ? 32 : 0)
+                            | (below[x + 1] ? 64 : 0) | (below[x - 1] ? 128 : 0);
+                }
+                masks[out + x - 1] = (byte) mask;
+            }
+
+            boolean[] recycled = above;
+            above = row;
+            row = below;
+            below = recycled;
+        }
+    }
+
+    /**
+     * Fills a padded buffer with the water flags of a row; tiles outside the window read as dry.
+     */
+    private static void readWater(TileGrid grid, int y, int minRow, int maxRow,
+                                  int minColumn, int maxColumn, boolean[] out) {
+        Arrays.fill(out, false);
+        if (y < minRow || y > maxRow || y < 0 || y >= grid.getHeight()) return;
+        for (int x = minColumn; x <= maxColumn; x++) {
+            out[x + 1] = grid.getType(x, y) == TileType.WATER;
+        }
+    }
+
+    /**
+     * Splits a range of rows in halves until it is small enough to compute directly.
+     * Tasks only live for one computation and are never serialized.
+     */
+    @SuppressWarnings("serial")
+    private static final class Stripe extends RecursiveAction {
+
+        private final TileGrid grid;
+        private final int border;
+        private final byte[] masks;
+        private final int fromRow;
+        private final int toRow;
+
+        Stripe(TileGrid grid, int border, byte[] masks, int fromRow, int toRow) {
+            this.grid = grid;
+            this.border = border;
+            this.masks = masks;
+            this.fromRow = fromRow;
+            this.toRow = toRow;
+        }
+
+        @Override
+        protected void compute() {
+            if (toRow - fromRow <= ROWS_PER_STRIPE) {
+                computeRows(grid, border, masks, fromRow, toRow);
+                return;
+            }
+            int middle = (fromRow + toRow) >>> 1;
+            invokeAll(new Stripe(grid, border, masks, fromRow, middle),
+                      new Stripe(grid, border, masks, middle, toRow));
+        }
+    }
+}
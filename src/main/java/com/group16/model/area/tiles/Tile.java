@@ -11,25 +11,35 @@ import com.group16.model.items.resources.Resources;
 /**
  * Represents a single tile in the game map.
  * A tile can hold one entity at a time and may or may not be walkable depending on its type and content.
+ * <p>
+ * A tile is a view on one cell of a {@link TileGrid}, which holds the actual state; several tile objects
+ * may stand for the same cell, and are then equal.
  */
 public class Tile implements Interactable {
 
-    /** Type of the tile (e.g. GRASS, WATER, etc.) */
-    private final TileType type;
+    /** Grid holding the state of the tile */
+    private final TileGrid grid;
 
-    /** Indicates whether the tile is walkable */
-    private boolean isWalkable;
-
-    /** Entity currently occupying the tile, if any */
-    private GameEntity entity;
+    /** Index of the tile in its grid */
+    private final int index;
 
     /**
-     * Constructs a tile of a specific type.
+     * Constructs a standalone tile of a specific type, in a grid of its own.
      * @param type the type of the tile
      */
     public Tile(TileType type) {
-        this.type = type;
-        this.isWalkable = type.isWalkable;
+        this(new TileGrid(1, 1), 0);
+        grid.setType(0, type);
+    }
+
+    /**
+     * Constructs a view on a cell of a grid.
+     * @param grid the grid holding the tile
+     * @param index the index of the tile in the grid
+     */
+    public Tile(TileGrid grid, int index) {
+        this.grid = grid;
+        this.index = index;
     }
 
     /**
@@ -37,7 +47,7 @@ public class Tile implements Interactable {
      * @return the occupying GameEntity, or null if the tile is empty
      */
     public GameEntity getEntity() {
-        return entity;
+        return grid.getOccupant(index);
     }
 
     /**
@@ -45,7 +55,16 @@ public class Tile implements Interactable {
      * @return true if the tile can be walked on
      */
     public boolean isWalkable() {
-        return isWalkable;
+        return grid.isWalkable(index);
+    }
+
+    /**
+     * Checks whether the tile can be walked through once moving entities (actors, projectiles) are ignored.
+     * Unlike {@link #isWalkable()}, this only changes when the terrain or an element changes.
+     * @return true if nothing but a moving entity, or nothing at all, blocks the tile
+     */
+    public boolean isPassable() {
+        return grid.isPassable(index);
     }
 
     /**
@@ -53,7 +72,7 @@ public class Tile implements Interactable {
      * @return the tile's type
      */
     public TileType getType() {
-        return type;
+        return grid.getType(index);
     }
 
     /**
@@ -61,20 +80,14 @@ public class Tile implements Interactable {
      * @param entity the GameEntity to add
      */
     public void addEntity(GameEntity entity) {
-        if (this.entity == null) {
-            this.entity = entity;
-            isWalkable = !entity.takeCellSpace();
-        }
+        grid.place(index, entity);
     }
 
     /**
      * Removes the current entity from the tile, restoring walkability based on tile type.
      */
     public void removeEntity() {
-        if (entity != null) {
-            entity = null;
-            isWalkable = type.isWalkable;
-        }
+        grid.clear(index);
     }
 
     /**
@@ -87,7 +100,7 @@ public class Tile implements Interactable {
     public void acceptInteraction(Interactor i, boolean isWood) {
         assert(i instanceof Player) : "Only player can build on tiles";
         Player player = (Player) i;
-        boolean isPlaceable = this.type != TileType.WATER && this.entity == null;
+        boolean isPlaceable = getType() != TileType.WATER && getEntity() == null;
         if (!isPlaceable) {
             System.out.println("Can't build on this tile");
             return;
@@ -108,6 +121,15 @@ public class Tile implements Interactable {
         player.build(this, element);
         if (isWood) player.getInventory().remove(new Resources(ResourceType.WOOD, 1));
         else player.getInventory().remove(new Resources(ResourceType.STONE, 1));
-        this.isWalkable = false;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        return o instanceof Tile other && other.grid == grid && other.index == index;
+    }
+
+    @Override
+    public int hashCode() {
+        return System.identityHashCode(grid) * 31 + index;
     }
 }
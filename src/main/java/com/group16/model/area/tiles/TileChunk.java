@@ -0,0 +1,88 @@
+package com.group16.model.area.tiles;
+
+import java.util.Arrays;
+
+/**
+ * Tiles of one square chunk of a {@link TileGrid}, indexed row-major inside the chunk.
+ * A chunk whose tiles all share a type and hold no entity can be compacted down to that single type;
+ * its arrays are created again on the next change.
+ */
+final class TileChunk {
+
+    static final int SIZE = TileGrid.CHUNK_SIZE * TileGrid.CHUNK_SIZE;
+
+    /** Type ordinal of every tile while the chunk is compacted */
+    byte uniformType;
+
+    /** Ordinal of the {@link TileType} of each tile, or null while compacted */
+    byte[] types;
+
+    /** Bit set for each walkable tile, or null while compacted */
+    long[] walkable;
+
+    /** Occupant id of each tile, or null while compacted */
+    int[] occupants;
+
+    /**
+     * Constructs a compacted chunk whose tiles all have the given type.
+     */
+    TileChunk(TileType type) {
+        this.uniformType = (byte) type.ordinal();
+    }
+
+    boolean isCompact() {
+        return types == null;
+    }
+
+    /**
+     * Creates the arrays of a compacted chunk from its uniform type.
+     */
+    void expand() {
+        if (!isCompact()) return;
+        types = new byte[SIZE];
+        walkable = new long[SIZE >>> 6];
+        occupants = new int[SIZE];
+        Arrays.fill(types, uniformType);
+        Arrays.fill(occupants, TileGrid.NO_OCCUPANT);
+        if (TileType.values()[uniformType].isWalkable) {
+            Arrays.fill(walkable, -1L);
+        }
+    }
+
+    /**
+     * Drops the arrays if every tile has the same type and no entity.
+     *
+     * @return true if the chunk is compacted
+     */
+    boolean compact() {
+        if (isCompact()) return true;
+        byte first = types[0];
+        for (int i = 0; i < SIZE; i++) {
+            if (types[i] != first || occupants[i] != TileGrid.NO_OCCUPANT) return false;
+        }
+        uniformType = first;
+        types = null;
+        walkable = null;
+        occupants = null;
+        return true;
+    }
+
+    /**
+     * @return a chunk with the same tile types and no occupants
+     */
+    TileChunk copy() {
+        TileChunk copy = new TileChunk(TileType.values()[uniformType]);
+        if (!isCompact()) {
+            copy.expand();
+            Arrays.fill(copy.walkable, 0L);
+            TileType[] values = TileType.values();
+            for (int i = 0; i < SIZE; i++) {
+                copy.types[i] = types[i];
+                if (values[types[i]].isWalkable) {
+                    copy.walkable[i >>> 6] |= 1L << i;
+                }
+            }
+        }
+        return copy;
+    }
+}
@@ -0,0 +1,396 @@
+package com.group16.model.area.tiles;
+
+import com.group16.model.area.Island;
+import com.group16.model.entity.GameEntity;
+import com.group16.model.entity.elements.Element;
+
+import java.util.Arrays;
+
+/**
+ * Compact storage of every tile of a map, split into square chunks of {@value #CHUNK_SIZE} tiles per side.
+ * A tile costs a byte for its type, a bit for its walkability and an int for the id of its occupant.
+ * Chunks are created the first time one of their tiles changes; until then they are open water.
+ * A chunk whose tiles all share a type and hold no entity can be compacted back to that single type.
+ * <p>
+ * Tiles are addressed by an index from {@link #index(int, int)}, which packs the chunk and the position
+ * inside it, so the accessors taking an index allocate nothing and only shift and mask.
+ * They are meant for hot loops such as pathfinding; {@link Tile} objects are lightweight views on a cell
+ * for the interaction code, created once per cell on first use.
+ */
+public final class TileGrid {
+
+    /** Occupant id of tiles holding no entity */
+    public static final int NO_OCCUPANT = -1;
+
+    /** Side of a chunk in tiles */
+    public static final int CHUNK_SIZE = 32;
+
+    private static final int CHUNK_SHIFT = 5;
+    private static final int LOCAL_BITS = 2 * CHUNK_SHIFT;
+    private static final int LOCAL_MASK = (1 << LOCAL_BITS) - 1;
+    private static final int COORDINATE_MASK = CHUNK_SIZE - 1;
+
+    private static final TileType[] TYPES = TileType.values();
+
+    /** Walkability bits of a chunk of walkable tiles, shared by snapshots and never written to */
+    private static final long[] ALL_WALKABLE = new long[TileChunk.SIZE >>> 6];
+
+    static {
+        Arrays.fill(ALL_WALKABLE, -1L);
+    }
+
+    private final int width;
+    private final int height;
+    private final int chunkColumns;
+    private final int chunkRows;
+
+    /** Chunks in row-major order, null until one of their tiles changes */
+    private final TileChunk[] chunks;
+
+    /** Tile views of each chunk, null until one of them is asked for */
+    private final Tile[][] tiles;
+
+    // Entities standing on tiles, by occupant id; ids freed by departures are reused first
+    private GameEntity[] entities = new GameEntity[64];
+    private int[] freeIds = new int[16];
+    private int freeIdCount;
+    private int nextId;
+
+    /** Island notified when the walkability or passability of a tile changes, if any */
+    private Island island;
+
+    /**
+     * Constructs a grid of water tiles. No chunk is allocated yet.
+     *
+     * @param width  number of columns
+     * @param height number of rows
+     */
+    public TileGrid(int width, int height) {
+        this.width = width;
+        this.height = height;
+        this.chunkColumns = (width + CHUNK_SIZE - 1) >> CHUNK_SHIFT;
+        this.chunkRows = (height + CHUNK_SIZE - 1) >> CHUNK_SHIFT;
+        this.chunks = new TileChunk[chunkColumns * chunkRows];
+        this.tiles = new Tile[chunks.length][];
+    }
+
+    /**
+     * Builds a grid holding the types of a matrix of tiles. Entities on the tiles are not copied.
+     *
+     * @param map the tiles, indexed by row then column
+     * @return the grid
+     */
+    public static TileGrid of(Tile[][] map) {
+        TileGrid grid = new TileGrid(map[0].length, map.length);
+        for (int y = 0; y < grid.height; y++) {
+            for (int x = 0; x < grid.width; x++) {
+                TileType type = map[y][x].getType();
+                if (type != TileType.WATER) {
+                    grid.setType(grid.index(x, y), type);
+                }
+            }
+        }
+        return grid;
+    }
+
+    /**
+     * @return a grid with the same tile types and no occupants, attached to no island
+     */
+    public TileGrid copy() {
+        TileGrid copy = new TileGrid(width, height);
+        for (int chunk = 0; chunk < chunks.length; chunk++) {
+            if (chunks[chunk] != null) {
+                copy.chunks[chunk] = chunks[chunk].copy();
+            }
+        }
+        return copy;
+    }
+
+    /**
+     * Reports later walkability changes to an island.
+     *
+     * @param island the island the grid belongs to
+     */
+    public void attachTo(Island island) {
+        this.island = island;
+    }
+
+    public int getWidth() {
+        return width;
+    }
+
+    public int getHeight() {
+        return height;
+    }
+
+    /**
+     * @return the index of the tile at the given coordinates
+     */
+    public int index(int x, int y) {
+        int chunk = (y >> CHUNK_SHIFT) * chunkColumns + (x >> CHUNK_SHIFT);
+        return chunk << LOCAL_BITS | (y & COORDINATE_MASK) << CHUNK_SHIFT | (x & COORDINATE_MASK);
+    }
+
+    /**
+     * Returns the view on a tile. Views are cached, so asking twice for a tile allocates nothing.
+     *
+     * @param index the tile index
+     * @return the view on the tile
+     */
+    public Tile tileAt(int index) {
+        int chunk = index >>> LOCAL_BITS;
+        Tile[] views = tiles[chunk];
+        if (views == null) {
+            views = new Tile[TileChunk.SIZE];
+            tiles[chunk] = views;
+        }
+        Tile tile = views[index & LOCAL_MASK];
+        if (tile == null) {
+            tile = new Tile(this, index);
+            views[index & LOCAL_MASK] = tile;
+        }
+        return tile;
+    }
+
+    /**
+     * @return true if the coordinates lie on the grid
+     */
+    public boolean contains(int x, int y) {
+        return x >= 0 && y >= 0 && x < width && y < height;
+    }
+
+    /*//////////////////////////////////////////////////////////////
+                               TYPES
+    //////////////////////////////////////////////////////////////*/
+
+    public TileType getType(int index) {
+        TileChunk chunk = chunks[index >>> LOCAL_BITS];
+        if (chunk == null) return TileType.WATER;
+        return TYPES[chunk.isCompact() ? chunk.uniformType : chunk.types[index & LOCAL_MASK]];
+    }
+
+    public TileType getType(int x, int y) {
+        return getType(index(x, y));
+    }
+
+    /**
+     * Changes the type of a tile and updates its walkability.
+     *
+     * @param index the tile index
+     * @param type  the new type
+     */
+    public void setType(int index, TileType type) {
+        boolean wasPassable = isPassable(index);
+        TileChunk chunk = writableChunk(index);
+        chunk.types[index & LOCAL_MASK] = (byte) type.ordinal();
+        refreshWalkable(chunk, index, wasPassable);
+    }
+
+    /*//////////////////////////////////////////////////////////////
+                            WALKABILITY
+    //////////////////////////////////////////////////////////////*/
+
+    public boolean isWalkable(int index) {
+        TileChunk chunk = chunks[index >>> LOCAL_BITS];
+        if (chunk == null) return false;
+        if (chunk.isCompact()) return TYPES[chunk.uniformType].isWalkable;
+        int local = index & LOCAL_MASK;
+        return (chunk.walkable[local >>> 6] & (1L << local)) != 0;
+    }
+
+    public boolean isWalkable(int x, int y) {
+        return isWalkable(index(x, y));
+    }
+
+    /**
+     * Checks whether the tile can be walked through once moving entities (actors, projectiles) are ignored.
+     *
+     * @param index the tile index
+     * @return true if nothing but a moving entity, or nothing at all, blocks the tile
+     */
+    public boolean isPassable(int index) {
+        if (!getType(index).isWalkable) return false;
+        GameEntity occupant = getOccupant(index);
+        return !(occupant instanceof Element) || !occupant.takeCellSpace();
+    }
+
+    /**
+     * Copies the walkability bits of a chunk.
+     *
+     * @param chunk the chunk, in row-major order
+     * @return one bit per tile set when the tile is walkable (indexed by {@link #localIndex(int)}),
+     *         or null if no tile of the chunk is walkable; must not be modified
+     */
+    public long[] copyWalkable(int chunk) {
+        TileChunk c = chunks[chunk];
+        if (c == null) return null;
+        if (!c.isCompact()) return c.walkable.clone();
+        return TYPES[c.uniformType].isWalkable ? ALL_WALKABLE : null;
+    }
+
+    /*//////////////////////////////////////////////////////////////
+                             OCCUPANTS
+    //////////////////////////////////////////////////////////////*/
+
+    /**
+     * @return the id of the entity on the tile, or {@link #NO_OCCUPANT}
+     */
+    public int getOccupantId(int index) {
+        TileChunk chunk = chunks[index >>> LOCAL_BITS];
+        if (chunk == null || chunk.isCompact()) return NO_OCCUPANT;
+        return chunk.occupants[index & LOCAL_MASK];
+    }
+
+    /**
+     * @return the entity on the tile, or null if the tile is empty
+     */
+    public GameEntity getOccupant(int index) {
+        int id = getOccupantId(index);
+        return id == NO_OCCUPANT ? null : entities[id];
+    }
+
+    /**
+     * Puts an entity on an empty tile, marking it as not walkable if the entity takes up space.
+     *
+     * @param index  the tile index
+     * @param entity the entity to place
+     * @return false if the tile was already occupied
+     */
+    public boolean place(int index, GameEntity entity) {
+        if (getOccupantId(index) != NO_OCCUPANT) return false;
+        boolean wasPassable = isPassable(index);
+        TileChunk chunk = writableChunk(index);
+        chunk.occupants[index & LOCAL_MASK] = allocateId(entity);
+        refreshWalkable(chunk, index, wasPassable);
+        return true;
+    }
+
+    /**
+     * Removes the entity on a tile, if any, restoring walkability based on the tile type.
+     *
+     * @param index the tile index
+     */
+    public void clear(int index) {
+        int id = getOccupantId(index);
+        if (id == NO_OCCUPANT) return;
+        boolean wasPassable = isPassable(index);
+        TileChunk chunk = chunks[index >>> LOCAL_BITS];
+        chunk.occupants[index & LOCAL_MASK] = NO_OCCUPANT;
+        releaseId(id);
+        refreshWalkable(chunk, index, wasPassable);
+    }
+
+    /*//////////////////////////////////////////////////////////////
+                              CHUNKS
+    //////////////////////////////////////////////////////////////*/
+
+    public int getChunkColumns() {
+        return chunkColumns;
+    }
+
+    public int getChunkRows() {
+        return chunkRows;
+    }
+
+    /**
+     * @return the chunk holding the tile at the given index
+     */
+    public static int chunkOf(int index) {
+        return index >>> LOCAL_BITS;
+    }
+
+    /**
+     * @return the position of the tile at the given index inside its chunk
+     */
+    public static int localIndex(int index) {
+        return index & LOCAL_MASK;
+    }
+
+    /**
+     * Drops the arrays of a chunk whose tiles all share a type and hold no entity.
+     *
+     * @param chunk the chunk, in row-major order
+     * @return true if the chunk takes no more than a few bytes
+     */
+    public boolean compactChunk(int chunk) {
+        return chunks[chunk] == null || chunks[chunk].compact();
+    }
+
+    /**
+     * @return the number of chunks holding their tiles in arrays
+     */
+    public int getExpandedChunkCount() {
+        int count = 0;
+        for (TileChunk chunk : chunks) {
+            if (chunk != null && !chunk.isCompact()) count++;
+        }
+        return count;
+    }
+
+    /*//////////////////////////////////////////////////////////////
+                              HELPERS
+    //////////////////////////////////////////////////////////////*/
+
+    /**
+     * Returns the chunk of a tile with its arrays, creating it on the first change.
+     */
+    private TileChunk writableChunk(int index) {
+        int id = index >>> LOCAL_BITS;
+        TileChunk chunk = chunks[id];
+        if (chunk == null) {
+            chunk = new TileChunk(TileType.WATER);
+            chunks[id] = chunk;
+        }
+        chunk.expand();
+        return chunk;
+    }
+
+    /**
+     * Recomputes the walkability bit of a tile and reports a change to the island. The passability, which
+     * ignores actors, is compared too: terrain flooded under an actor leaves the tile unwalkable but closes it
+     * for navigation all the same.
+     *
+     * @param wasPassable whether the tile was passable before the change
+     */
+    private void refreshWalkable(TileChunk chunk, int index, boolean wasPassable) {
+        int local = index & LOCAL_MASK;
+        int id = chunk.occupants[local];
+        GameEntity occupant = id == NO_OCCUPANT ? null : entities[id];
+        boolean now = TYPES[chunk.types[local]].isWalkable && (occupant == null || !occupant.takeCellSpace());
+        boolean before = (chunk.walkable[local >>> 6] & (1L << local)) != 0;
+        if (now != before) {
+            chunk.walkable[local >>> 6] ^= 1L << local;
+        } else if (isPassable(index) == wasPassable) {
+            return;
+        }
+
+        if (island != null) {
+            int chunkId = index >>> LOCAL_BITS;
+            int x = (chunkId % chunkColumns << CHUNK_SHIFT) + (local & COORDINATE_MASK);
+            int y = (chunkId / chunkColumns << CHUNK_SHIFT) + (local >>> CHUNK_SHIFT);
+            island.onWalkabilityChanged(x, y);
+        }
+    }
+
+    private int allocateId(GameEntity entity) {
+        int id;
+        if (freeIdCount > 0) {
+            id = freeIds[--freeIdCount];
+        } else {
+            if (nextId == entities.length) {
+                entities = Arrays.copyOf(entities, nextId * 2);
+            }
+            id = nextId++;
+        }
+        entities[id] = entity;
+        return id;
+    }
+
+    private void releaseId(int id) {
+        entities[id] = null;
+        if (freeIdCount == freeIds.length) {
+            freeIds = Arrays.copyOf(freeIds, freeIdCount * 2);
+        }
+        freeIds[freeIdCount++] = id;
+    }
+}
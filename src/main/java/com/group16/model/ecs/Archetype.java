@@ -0,0 +1,16 @@
+package com.group16.model.ecs;
+
+/**
+ * Enum representing the kinds of entities kept in an {@link EntityStore}.
+ * Every archetype has its own table of components, so systems iterate only the entities they handle.
+ */
+public enum Archetype {
+    /** Entities flying in a straight line and hitting what they meet, such as bullets */
+    PROJECTILE,
+
+    /** Hostile actors chasing the player, moved by the {@link MobSystem} */
+    MOB,
+
+    /** The actor driven by the keyboard, updated by the island like other entities */
+    PLAYER
+}
@@ -0,0 +1,78 @@
+package com.group16.model.ecs;
+
+import com.group16.model.entity.GameEntity;
+
+import java.util.Arrays;
+
+/**
+ * Components of every entity of one archetype, one primitive array per component.
+ * Rows are kept dense: removing an entity moves the last row into its place.
+ * Systems of this package read and write the arrays directly.
+ */
+final class ComponentTable {
+
+    private static final int INITIAL_CAPACITY = 64;
+
+    int count;
+
+    int[] ids = new int[INITIAL_CAPACITY];
+    float[] x = new float[INITIAL_CAPACITY];
+    float[] y = new float[INITIAL_CAPACITY];
+    int[] health = new int[INITIAL_CAPACITY];
+
+    /** Time left before the next move, in nanoseconds */
+    float[] moveTimers = new float[INITIAL_CAPACITY];
+
+    /** Time between two moves, in nanoseconds */
+    float[] moveIntervals = new float[INITIAL_CAPACITY];
+
+    /** Ordinal of the entity's {@link com.group16.model.area.Orientation} */
+    byte[] orientations = new byte[INITIAL_CAPACITY];
+
+    /** Objects standing for the rows, observed by the views */
+    GameEntity[] handles = new GameEntity[INITIAL_CAPACITY];
+
+    /**
+     * Appends a row, growing the arrays if needed.
+     *
+     * @return the index of the new row
+     */
+    int add() {
+        if (count == ids.length) {
+            int capacity = count * 2;
+            ids = Arrays.copyOf(ids, capacity);
+            x = Arrays.copyOf(x, capacity);
+            y = Arrays.copyOf(y, capacity);
+            health = Arrays.copyOf(health, capacity);
+            moveTimers = Arrays.copyOf(moveTimers, capacity);
+            moveIntervals = Arrays.copyOf(moveIntervals, capacity);
+            orientations = Arrays.copyOf(orientations, capacity);
+            handles = Arrays.copyOf(handles, capacity);
+        }
+        return count++;
+    }
+
+    /**
+     * Removes a row by moving the last row into its place.
+     *
+     * @param row the row to remove
+     * @return the entity id now stored at that row, or -1 if the removed row was the last one
+     */
+    int remove(int row) {
+        int last = --count;
+        int moved = -1;
+        if (row != last) {
+            ids[row] = ids[last];
+            x[row] = x[last];
+            y[row] = y[last];
+            health[row] = health[last];
+            moveTimers[row] = moveTimers[last];
+            moveIntervals[row] = moveIntervals[last];
+            orientations[row] = orientations[last];
+            handles[row] = handles[last];
+            moved = ids[row];
+        }
+        handles[last] = null;
+        return moved;
+    }
+}
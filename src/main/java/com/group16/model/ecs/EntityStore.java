@@ -0,0 +1,186 @@
+package com.group16.model.ecs;
+
+import com.group16.model.area.Orientation;
+import com.group16.model.entity.GameEntity;
+
+import java.util.Arrays;
+import java.util.EnumMap;
+import java.util.Map;
+
+/**
+ * Struct-of-arrays storage of entity state. Each archetype keeps its components in dense primitive
+ * arrays, so systems update thousands of entities in one linear pass without chasing object pointers.
+ * <p>
+ * Entities are identified by an int id, reused after the entity is destroyed. The {@link GameEntity}
+ * objects of stored entities are thin handles reading their state from here, so views keep observing
+ * them as before.
+ */
+public class EntityStore {
+
+    private static final int NO_ROW = -1;
+
+    private static final Orientation[] ORIENTATIONS = Orientation.values();
+
+    private final Map<Archetype, ComponentTable> tables = new EnumMap<>(Archetype.class);
+
+    // Where each id lives
+    private Archetype[] archetypes = new Archetype[64];
+    private int[] rows = new int[64];
+
+    // Ids released by destroyed entities, reused first
+    private int[] freeIds = new int[16];
+    private int freeIdCount;
+    private int nextId;
+
+    /**
+     * Constructs an empty store with a table for every archetype.
+     */
+    public EntityStore() {
+        for (Archetype archetype : Archetype.values()) {
+            tables.put(archetype, new ComponentTable());
+        }
+        Arrays.fill(rows, NO_ROW);
+    }
+
+    /**
+     * Adds an entity.
+     *
+     * @param archetype    the table to store the entity in
+     * @param handle       the object standing for the entity
+     * @param x            the starting x-coordinate
+     * @param y            the starting y-coordinate
+     * @param health       the starting health
+     * @param orientation  the direction the entity faces or moves in
+     * @param moveInterval time between two moves, in nanoseconds
+     * @param moveTimer    time left before the first move, in nanoseconds
+     * @return the id of the new entity
+     */
+    public int create(Archetype archetype, GameEntity handle, float x, float y, int health,
+                      Orientation orientation, float moveInterval, float moveTimer) {
+        int id = allocateId();
+        ComponentTable table = tables.get(archetype);
+        int row = table.add();
+
+        table.ids[row] = id;
+        table.x[row] = x;
+        table.y[row] = y;
+        table.health[row] = health;
+        table.orientations[row] = (byte) orientation.ordinal();
+        table.moveIntervals[row] = moveInterval;
+        table.moveTimers[row] = moveTimer;
+        table.handles[row] = handle;
+
+        archetypes[id] = archetype;
+        rows[id] = row;
+        return id;
+    }
+
+    /**
+     * Removes an entity. The last entity of its table takes its row.
+     *
+     * @param id the entity to remove
+     */
+    public void destroy(int id) {
+        if (!contains(id)) return;
+
+        ComponentTable table = tables.get(archetypes[id]);
+        int moved = table.remove(rows[id]);
+        if (moved != NO_ROW) {
+            rows[moved] = rows[id];
+        }
+
+        archetypes[id] = null;
+        rows[id] = NO_ROW;
+        releaseId(id);
+    }
+
+    /**
+     * @return true if the id belongs to a stored entity
+     */
+    public boolean contains(int id) {
+        return id >= 0 && id < nextId && rows[id] != NO_ROW;
+    }
+
+    /**
+     * @return the number of entities of an archetype
+     */
+    public int size(Archetype archetype) {
+        return tables.get(archetype).count;
+    }
+
+    /*//////////////////////////////////////////////////////////////
+                             COMPONENTS
+    //////////////////////////////////////////////////////////////*/
+
+    public float getX(int id) {
+        return table(id).x[rows[id]];
+    }
+
+    public float getY(int id) {
+        return table(id).y[rows[id]];
+    }
+
+    public void setPosition(int id, float x, float y) {
+        ComponentTable table = table(id);
+        table.x[rows[id]] = x;
+        table.y[rows[id]] = y;
+    }
+
+    public int getHealth(int id) {
+        return table(id).health[rows[id]];
+    }
+
+    public void setHealth(int id, int health) {
+        table(id).health[rows[id]] = health;
+    }
+
+    public float getMoveTimer(int id) {
+        return table(id).moveTimers[rows[id]];
+    }
+
+    public void setMoveTimer(int id, float moveTimer) {
+        table(id).moveTimers[rows[id]] = moveTimer;
+    }
+
+    public Orientation getOrientation(int id) {
+        return ORIENTATIONS[table(id).orientations[rows[id]]];
+    }
+
+    public void setOrientation(int id, Orientation orientation) {
+        table(id).orientations[rows[id]] = (byte) orientation.ordinal();
+    }
+
+    /**
+     * @return the table of an archetype, for the systems of this package
+     */
+    ComponentTable table(Archetype archetype) {
+        return tables.get(archetype);
+    }
+
+    private ComponentTable table(int id) {
+        return tables.get(archetypes[id]);
+    }
+
+    /*//////////////////////////////////////////////////////////////
+                                IDS
+    //////////////////////////////////////////////////////////////*/
+
+    private int allocateId() {
+        if (freeIdCount > 0) {
+            return freeIds[--freeIdCount];
+        }
+        if (nextId == rows.length) {
+            archetypes = Arrays.copyOf(archetypes, nextId * 2);
+            rows = Arrays.copyOf(rows, nextId * 2);
+            Arrays.fill(rows, nextId, rows.length, NO_ROW);
+        }
+        return nextId++;
+    }
+
+    private void releaseId(int id) {
+        if (freeIdCount == freeIds.length) {
+            freeIds = Arrays.copyOf(freeIds, freeIdCount * 2);
+        }
+        freeIds[freeIdCount++] = id;
+    }
+}
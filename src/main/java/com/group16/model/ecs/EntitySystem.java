@@ -0,0 +1,14 @@
+package com.group16.model.ecs;
+
+/**
+ * Logic run once per tick over the components of an {@link EntityStore}.
+ */
+public interface EntitySystem {
+
+    /**
+     * Updates every entity the system handles.
+     *
+     * @param deltaTime time elapsed since the last update, in nanoseconds
+     */
+    void update(float deltaTime);
+}
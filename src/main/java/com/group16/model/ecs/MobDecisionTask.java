@@ -0,0 +1,58 @@
+package com.group16.model.ecs;
+
+import com.group16.model.area.OccupancySnapshot;
+import com.group16.model.entity.actors.MobIntent;
+import com.group16.model.entity.actors.Mobs;
+
+import java.util.List;
+import java.util.concurrent.RecursiveAction;
+
+/**
+ * Fork-join task computing the intents of a range of mobs against the same occupancy snapshot.
+ * Ranges are halved until they are small enough to be decided on one thread; each mob only writes
+ * its own slot of the intents array, so no locking is needed.
+ * Tasks only live for one invocation of the pool and are never serialized.
+ */
+@SuppressWarnings("serial")
+class MobDecisionTask extends RecursiveAction {
+
+    /** Number of mobs below which a range is not split any further */
+    private static final int LEAF_SIZE = 16;
+
+    private final List<Mobs> mobs;
+    private final MobIntent[] intents;
+    private final OccupancySnapshot occupancy;
+    private final int from;
+    private final int to;
+
+    /**
+     * Constructs a task deciding the mobs in {@code [from, to)}.
+     *
+     * @param mobs      the mobs acting this tick
+     * @param intents   the array receiving one intent per mob, in the same order
+     * @param occupancy the snapshot the mobs decide against
+     * @param from      index of the first mob of the range
+     * @param to        index after the last mob of the range
+     */
+    MobDecisionTask(List<Mobs> mobs, MobIntent[] intents, OccupancySnapshot occupancy, int from, int to) {
+        this.mobs = mobs;
+        this.intents = intents;
+        this.occupancy = occupancy;
+        this.from = from;
+        this.to = to;
+    }
+
+    @Override
+    protected void compute() {
+        if (to - from <= LEAF_SIZE) {
+            for (int i = from; i < to; i++) {
+                intents[i] = mobs.get(i).decide(occupancy);
+            }
+            return;
+        }
+
+        int middle = (from + to) >>> 1;
+        invokeAll(new MobDecisionTask(mobs, intents, occupancy, from, middle),
+                new MobDecisionTask(mobs, intents, occupancy, middle, to));
+    }
+}
@@ -0,0 +1,128 @@
+package com.group16.model.ecs;
+
+import com.group16.controller.config.GameConfig;
+import com.group16.model.area.Island;
+import com.group16.model.area.OccupancySnapshot;
+import com.group16.model.entity.actors.MobIntent;
+import com.group16.model.entity.actors.Mobs;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+
+/**
+ * Moves every mob of an island in one pass over the mob table of its {@link EntityStore}.
+ * Mobs in inactive chunks of the island wait where they are; dead ones are taken off the island.
+ * <p>
+ * The pass advances the move timers and collects the mobs whose timer ran out. Those then act in two phases:
+ * they all first decide what to do against the same tiles, then apply their decisions one by one in table
+ * order, so that conflicts such as two mobs stepping onto the same tile resolve the same way every time.
+ * Below a threshold of acting mobs, they decide one after another against the live tiles; from it on,
+ * they decide on a fork-join pool against a snapshot of the tiles around them.
+ */
+public class MobSystem implements EntitySystem {
+
+    /** Pool deciding mob moves in parallel, shared by all islands */
+    private static final ForkJoinPool MOB_AI_POOL = new ForkJoinPool(GameConfig.MOB_AI_PARALLELISM);
+
+    private final Island island;
+    private final ComponentTable table;
+
+    /** Number of acting mobs from which their decisions are computed on {@link #MOB_AI_POOL} */
+    private int parallelThreshold = GameConfig.PARALLEL_MOB_THRESHOLD;
+
+    // Mobs acting in the current update and their decisions, reused by every update
+    private final List<Mobs> actingMobs = new ArrayList<>();
+    private MobIntent[] intents = new MobIntent[16];
+
+    // Tiles spanned by the acting mobs
+    private int minX, minY, maxX, maxY;
+
+    /**
+     * Constructs the system for the mobs of an island.
+     *
+     * @param island the island the mobs walk on
+     * @param store  the store holding the island's mobs
+     */
+    public MobSystem(Island island, EntityStore store) {
+        this.island = island;
+        this.table = store.table(Archetype.MOB);
+    }
+
+    @Override
+    public void update(float deltaTime) {
+        actingMobs.clear();
+        minX = minY = Integer.MAX_VALUE;
+        maxX = maxY = Integer.MIN_VALUE;
+        for (int row = 0; row < table.count; row++) {
+            int x = (int) table.x[row];
+            int y = (int) table.y[row];
+            if (!island.isActive(x, y)) continue;
+
+            Mobs mob = (Mobs) table.handles[row];
+            if (table.health[row] <= 0) {
+                remove(mob, x, y);
+                continue;
+            }
+            if (mob.getTarget().getHealth() <= 0) continue;
+
+            table.moveTimers[row] -= deltaTime;
+            if (table.moveTimers[row] < 0) {
+                actingMobs.add(mob);
+                minX = Math.min(minX, x);
+                minY = Math.min(minY, y);
+                maxX = Math.max(maxX, x);
+                maxY = Math.max(maxY, y);
+            }
+        }
+
+        if (!actingMobs.isEmpty()) {
+            act();
+        }
+    }
+
+    /**
+     * Sets the number of acting mobs from which their decisions are computed on the fork-join pool.
+     *
+     * @param threshold the minimum number of mobs decided in parallel; 0 always uses the pool
+     */
+    public void setParallelThreshold(int threshold) {
+        this.parallelThreshold = threshold;
+    }
+
+    /**
+     * Lets the acting mobs decide against the tiles as they are now, then applies their decisions in order.
+     */
+    private void act() {
+        int count = actingMobs.size();
+        if (intents.length < count) {
+            intents = new MobIntent[Math.max(count, intents.length * 2)];
+        }
+
+        // Decide phase: read-only, so every mob sees the tiles as they were before any of them moved
+        if (count >= parallelThreshold) {
+            // The acting mobs all stand in active chunks, so the copy never spans more than the active area
+            OccupancySnapshot occupancy = OccupancySnapshot.capture(island, minX, minY, maxX, maxY);
+            MOB_AI_POOL.invoke(new MobDecisionTask(actingMobs, intents, occupancy, 0, count));
+        } else {
+            for (int i = 0; i < count; i++) {
+                intents[i] = actingMobs.get(i).decide(island);
+            }
+        }
+
+        // Apply phase: earlier mobs win contested tiles
+        for (int i = 0; i < count; i++) {
+            actingMobs.get(i).apply(intents[i]);
+            intents[i] = null;
+        }
+    }
+
+    /**
+     * Takes a dead mob off its tile and the island, and drops its pending path request.
+     */
+    private void remove(Mobs mob, int x, int y) {
+        island.clearTile(x, y);
+        island.removeEntity(mob);
+        island.getPathScheduler().cancel(mob.getPathRequest());
+    }
+}
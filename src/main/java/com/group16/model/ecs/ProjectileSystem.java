@@ -0,0 +1,114 @@
+package com.group16.model.ecs;
+
+import com.group16.controller.config.GameConfig;
+import com.group16.model.area.Island;
+import com.group16.model.area.Orientation;
+import com.group16.model.area.tiles.TileGrid;
+import com.group16.model.entity.GameEntity;
+import com.group16.model.entity.actors.Actors;
+import com.group16.model.entity.elements.Element;
+import com.group16.model.items.weapons.Projectiles;
+
+/**
+ * Moves every projectile of an island in one pass over the projectile table of its {@link EntityStore}.
+ * A projectile moves one tile each time its timer runs out: it damages the actor it flies into,
+ * stops on elements and at the edge of the map, and otherwise moves on.
+ * Projectiles in inactive chunks of the island wait where they are.
+ * <p>
+ * The table is walked from its last row down, so a projectile leaving the island mid-pass
+ * swaps in a row that was already updated.
+ */
+public class ProjectileSystem implements EntitySystem {
+
+    private static final Orientation[] ORIENTATIONS = Orientation.values();
+
+    /** Tile offsets of each orientation, in the order of {@link Orientation#values()} */
+    private static final int[] DX = new int[ORIENTATIONS.length];
+    private static final int[] DY = new int[ORIENTATIONS.length];
+
+    static {
+        for (int i = 0; i < ORIENTATIONS.length; i++) {
+            DX[i] = (int) (ORIENTATIONS[i].toVector().x() / GameConfig.TILE_SIZE);
+            DY[i] = (int) (ORIENTATIONS[i].toVector().y() / GameConfig.TILE_SIZE);
+        }
+    }
+
+    private final Island island;
+    private final TileGrid grid;
+    private final ComponentTable table;
+
+    /**
+     * Constructs the system for the projectiles of an island.
+     *
+     * @param island the island the projectiles fly over
+     * @param store  the store holding the island's projectiles
+     */
+    public ProjectileSystem(Island island, EntityStore store) {
+        this.island = island;
+        this.grid = island.getGrid();
+        this.table = store.table(Archetype.PROJECTILE);
+    }
+
+    @Override
+    public void update(float deltaTime) {
+        for (int row = table.count - 1; row >= 0; row--) {
+            if (table.health[row] <= 0) continue;
+            if (!island.isActive((int) table.x[row], (int) table.y[row])) continue;
+
+            table.moveTimers[row] -= deltaTime;
+            if (table.moveTimers[row] >= 0) continue;
+
+            move(row);
+        }
+    }
+
+    /**
+     * Moves a projectile one tile ahead, or ends its flight if something is in the way.
+     */
+    private void move(int row) {
+        int currX = (int) table.x[row];
+        int currY = (int) table.y[row];
+        int targetX = currX + DX[table.orientations[row]];
+        int targetY = currY + DY[table.orientations[row]];
+        GameEntity handle = table.handles[row];
+
+        // Out of bounds, destroy the projectile
+        if (!grid.contains(targetX, targetY)) {
+            kill(row);
+            return;
+        }
+
+        int current = grid.index(currX, currY);
+        int target = grid.index(targetX, targetY);
+        GameEntity entity = grid.getOccupant(target);
+
+        // Collides with actor (mob or player)
+        if (entity instanceof Actors actor) {
+            ((Projectiles) handle).hit(actor);
+            kill(row);
+            grid.clear(current);
+            island.removeEntity(handle);
+            return;
+        }
+
+        // Collides with obstacle like element (e.g., tree or rock)
+        if (entity instanceof Element) {
+            kill(row);
+            return;
+        }
+
+        // Move forward on the map
+        grid.clear(current);
+        table.x[row] = targetX;
+        table.y[row] = targetY;
+        table.moveTimers[row] = table.moveIntervals[row];
+        grid.place(target, handle);
+        island.onEntityMoved(handle);
+        handle.notifyObserver();
+    }
+
+    private void kill(int row) {
+        table.health[row] = 0;
+        table.handles[row].notifyObserver();
+    }
+}
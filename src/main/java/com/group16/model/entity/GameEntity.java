@@ -1,5 +1,6 @@
 package com.group16.model.entity;
 
+import com.group16.model.area.ChangeJournal;
 import com.group16.model.utils.maths.Vector;
 import com.group16.model.Subject;
 import com.group16.view.Observer;
@@ -23,6 +24,10 @@ public abstract class GameEntity implements Subject {
     // List of observers that will be notified on state changes
     private List<Observer> observers = new ArrayList<>();
 
+    // Journal of the island the entity is on, and its id there
+    private ChangeJournal journal;
+    private int journalId = -1;
+
     /**
      * Constructs a game entity with a given position and health.
      *
@@ -68,10 +73,50 @@ public abstract class GameEntity implements Subject {
      * @param health new health value
      */
     protected void setHealth(int health) {
+        recordDamage(this.health, health);
         this.health = health;
         notifyObserver();
     }
 
+    /**
+     * Records a loss of health in the journal of the entity's island, if it is on one.
+     *
+     * @param before health before the change
+     * @param after  health after the change
+     */
+    protected void recordDamage(int before, int after) {
+        if (journal != null && after < before) {
+            Vector p = getPosition();
+            journal.append(ChangeJournal.Kind.DAMAGE, journalId, (int) p.x(), (int) p.y(), before - after);
+        }
+    }
+
+    /**
+     * Called by an island when the entity joins it.
+     *
+     * @param journal the island's change journal
+     * @param id      the entity's id in that journal
+     */
+    public void attachJournal(ChangeJournal journal, int id) {
+        this.journal = journal;
+        this.journalId = id;
+    }
+
+    /**
+     * Called by an island when the entity leaves it.
+     */
+    public void detachJournal() {
+        journal = null;
+        journalId = -1;
+    }
+
+    /**
+     * @return the entity's id in the journal of its island, or -1 if it is not on one
+     */
+    public int getJournalId() {
+        return journalId;
+    }
+
     /**
      * Indicates whether the entity blocks movement on its tile.
      * Override to allow entities like projectiles to pass through.
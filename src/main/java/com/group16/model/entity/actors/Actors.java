@@ -1,5 +1,7 @@
 package com.group16.model.entity.actors;
 
+import com.group16.model.ecs.Archetype;
+import com.group16.model.ecs.EntityStore;
 import com.group16.model.entity.GameEntity;
 import com.group16.model.area.Island;
 import com.group16.model.area.Orientation;
@@ -12,6 +14,10 @@ import com.group16.model.entity.Interactor;
 /**
  * Abstract class representing all moving and interacting entities in the game world,
  * such as players and mobs.
+ * <p>
+ * Once added to an island, an actor is a handle on a row of the island's {@link EntityStore}:
+ * its position, health, orientation and move timer live there, next to those of the other actors
+ * of its archetype.
  */
 public abstract class Actors extends GameEntity implements Updatable, Interactor, Interactable {
 
@@ -30,6 +36,10 @@ public abstract class Actors extends GameEntity implements Updatable, Interactor
     /** Current animation or logical state (idle, walking, attacking). */
     private State state;
 
+    // Store holding the actor's state while it is on an island, and its id there
+    private EntityStore store;
+    private int storeId = -1;
+
     /**
      * Constructs an Actor with given position, movement interval and health.
      *
@@ -47,25 +57,26 @@ public abstract class Actors extends GameEntity implements Updatable, Interactor
 
     /**
      * Attempts to move the actor in the given direction if the target tile is walkable.
-     * Updates tile occupancy and orientation.
+     * Updates tile occupancy, the island's spatial index and orientation.
      *
      * @param direction the direction to move
      */
     public void move(Orientation direction) {
-        this.orientation = direction;
+        storeOrientation(direction);
         int currentTileX = (int) getPosition().x();
         int currentTileY = (int) getPosition().y();
 
-        int targetTileX = (int) (currentTileX + this.orientation.toVector().x() / GameConfig.TILE_SIZE);
-        int targetTileY = (int) (currentTileY + this.orientation.toVector().y() / GameConfig.TILE_SIZE);
+        int targetTileX = (int) (currentTileX + direction.toVector().x() / GameConfig.TILE_SIZE);
+        int targetTileY = (int) (currentTileY + direction.toVector().y() / GameConfig.TILE_SIZE);
 
-        if (this.island.getTile(targetTileX, targetTileY).isWalkable()) {
+        if (this.island.isWalkable(targetTileX, targetTileY)) {
             setPosition(getPosition().add(
-                    this.orientation.toVector().x() / GameConfig.TILE_SIZE,
-                    this.orientation.toVector().y() / GameConfig.TILE_SIZE
+                    direction.toVector().x() / GameConfig.TILE_SIZE,
+                    direction.toVector().y() / GameConfig.TILE_SIZE
             ));
-            this.island.getTile(currentTileX, currentTileY).removeEntity();
-            this.island.getTile(targetTileX, targetTileY).addEntity(this);
+            this.island.clearTile(currentTileX, currentTileY);
+            this.island.placeEntity(targetTileX, targetTileY, this);
+            this.island.onEntityMoved(this);
         }
         notifyObserver();
     }
@@ -78,7 +89,58 @@ public abstract class Actors extends GameEntity implements Updatable, Interactor
     @Override
     public void update(float deltaTime) {
         if (getHealth() <= 0) return;
-        this.lastMoveTime -= deltaTime;
+        storeMoveTimer(getLastMoveTime() - deltaTime);
+    }
+
+    /*//////////////////////////////////////////////////////////////
+                                STORAGE
+    //////////////////////////////////////////////////////////////*/
+
+    /**
+     * @return the table of the entity store this kind of actor is kept in
+     */
+    protected abstract Archetype getArchetype();
+
+    /**
+     * Moves the actor's state into a store, which becomes its only copy.
+     *
+     * @param store the store of the island the actor is added to
+     */
+    public void attach(EntityStore store) {
+        if (this.store != null) return;
+        Vector position = super.getPosition();
+        this.storeId = store.create(getArchetype(), this, position.x(), position.y(),
+                super.getHealth(), orientation, MOVE_INTERVAL, lastMoveTime);
+        this.store = store;
+    }
+
+    /**
+     * Copies the actor's state back out of its store and frees its row.
+     */
+    public void detach() {
+        if (store == null) return;
+        EntityStore current = store;
+        int id = storeId;
+        Vector position = getPosition();
+        int remainingHealth = getHealth();
+        Orientation currentOrientation = getCurrentOrientation();
+        float remainingTime = getLastMoveTime();
+
+        store = null;
+        storeId = -1;
+        current.destroy(id);
+
+        super.setPosition(position);
+        this.health = remainingHealth;
+        this.orientation = currentOrientation;
+        this.lastMoveTime = remainingTime;
+    }
+
+    /**
+     * @return the actor's id in its store, or -1 if it is not on an island
+     */
+    public int getStoreId() {
+        return storeId;
     }
 
     /*//////////////////////////////////////////////////////////////
@@ -105,7 +167,7 @@ public abstract class Actors extends GameEntity implements Updatable, Interactor
      * @return current orientation
      */
     public Orientation getCurrentOrientation() {
-        return orientation;
+        return store == null ? orientation : store.getOrientation(storeId);
     }
 
     /**
@@ -114,7 +176,17 @@ public abstract class Actors extends GameEntity implements Updatable, Interactor
      * @return time in nanoseconds
      */
     public float getLastMoveTime() {
-        return this.lastMoveTime;
+        return store == null ? this.lastMoveTime : store.getMoveTimer(storeId);
+    }
+
+    @Override
+    public Vector getPosition() {
+        return store == null ? super.getPosition() : new Vector(store.getX(storeId), store.getY(storeId));
+    }
+
+    @Override
+    public int getHealth() {
+        return store == null ? super.getHealth() : store.getHealth(storeId);
     }
 
     /**
@@ -135,7 +207,7 @@ public abstract class Actors extends GameEntity implements Updatable, Interactor
      * enabling regulated movement frequency.
      */
     protected void setLastMoveTimeToMoveInterval() {
-        this.lastMoveTime = MOVE_INTERVAL;
+        storeMoveTimer(MOVE_INTERVAL);
     }
 
     /**
@@ -144,10 +216,31 @@ public abstract class Actors extends GameEntity implements Updatable, Interactor
      * @param orientation new orientation
      */
     protected void setOrientation(Orientation orientation) {
-        this.orientation = orientation;
+        storeOrientation(orientation);
         notifyObserver();
     }
 
+    @Override
+    protected void setPosition(Vector position) {
+        if (store == null) {
+            super.setPosition(position);
+        } else {
+            store.setPosition(storeId, position.x(), position.y());
+            notifyObserver();
+        }
+    }
+
+    @Override
+    protected void setHealth(int health) {
+        if (store == null) {
+            super.setHealth(health);
+        } else {
+            recordDamage(store.getHealth(storeId), health);
+            store.setHealth(storeId, health);
+            notifyObserver();
+        }
+    }
+
     /**
      * Sets the actor's current animation or logical state.
      *
@@ -157,4 +250,20 @@ public abstract class Actors extends GameEntity implements Updatable, Interactor
         this.state = state;
         notifyObserver();
     }
+
+    private void storeOrientation(Orientation orientation) {
+        if (store == null) {
+            this.orientation = orientation;
+        } else {
+            store.setOrientation(storeId, orientation);
+        }
+    }
+
+    private void storeMoveTimer(float moveTimer) {
+        if (store == null) {
+            this.lastMoveTime = moveTimer;
+        } else {
+            store.setMoveTimer(storeId, moveTimer);
+        }
+    }
 }
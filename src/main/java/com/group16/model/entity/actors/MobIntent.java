@@ -0,0 +1,48 @@
+package com.group16.model.entity.actors;
+
+import com.group16.model.area.Orientation;
+
+/**
+ * What a mob decided to do this tick, computed without touching the island
+ * and carried out later by {@link Mobs#apply(MobIntent)}.
+ *
+ * @param action    the kind of action
+ * @param direction the direction to turn, attack or step in, or null for {@link Action#IDLE}, {@link Action#HOLD} and {@link Action#WAIT}
+ */
+public record MobIntent(Action action, Orientation direction) {
+
+    /** Intent of a mob that does nothing this tick but still waits a full move interval */
+    public static final MobIntent IDLE = new MobIntent(Action.IDLE, null);
+
+    /** Intent of a mob whose cooperative plan is to stay in place for one move */
+    public static final MobIntent HOLD = new MobIntent(Action.HOLD, null);
+
+    /** Intent of a mob that waits for its path request to be answered */
+    public static final MobIntent WAIT = new MobIntent(Action.WAIT, null);
+
+    /**
+     * Enum representing the actions a mob can decide on.
+     */
+    public enum Action {
+        /** Nothing to do, for instance when boxed in */
+        IDLE,
+
+        /** Turn to face the adjacent player */
+        TURN,
+
+        /** Hit the adjacent player it is facing */
+        ATTACK,
+
+        /** Step toward the player */
+        CHASE,
+
+        /** Stay in place for one move, as planned, to let another mob pass */
+        HOLD,
+
+        /** Step in a random direction, when the player is out of reach */
+        WANDER,
+
+        /** Retry on the next tick, once the path request is answered */
+        WAIT
+    }
+}
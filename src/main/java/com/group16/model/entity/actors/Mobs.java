@@ -2,28 +2,41 @@ package com.group16.model.entity.actors;
 
 import com.group16.model.area.Island;
 import com.group16.model.area.Orientation;
+import com.group16.model.area.TileOccupancy;
+import com.group16.model.ecs.Archetype;
+import com.group16.model.ecs.MobSystem;
+import com.group16.model.area.navigation.PathRequest;
+import com.group16.model.area.navigation.PathScheduler;
 import com.group16.model.entity.Interactable;
 import com.group16.model.entity.Interactor;
 import com.group16.model.items.weapons.Projectiles;
 import com.group16.model.items.weapons.Sword;
-import com.group16.model.area.tiles.Tile;
 import com.group16.controller.config.GameConfig;
 import com.group16.model.utils.maths.Vector;
 
 import java.util.*;
+import java.util.concurrent.ThreadLocalRandom;
 
 /**
  * Represents an enemy Mob in the game. Mobs are hostile entities that move toward the player and attack them.
- * They use a basic BFS pathfinding algorithm to find a path to the player.
+ * They ask the island's {@link PathScheduler} for a path to the player, unless the island's
+ * connectivity index already tells the player is out of reach. Answers arrive within a few ticks;
+ * meanwhile a mob keeps following its last step, or heads straight for the player.
  */
-public class Mobs extends Actors implements Interactable, Interactor {
+public final class Mobs extends Actors implements Interactable, Interactor {
 
     private static final int DAMAGE = 10;
     private static final int MOB_HEALTH = 150;
-    private static final float MOB_SPEED = 4E8f;
+    private static final float MOB_SPEED = GameConfig.MOB_MOVE_INTERVAL;
 
     private final Actors target;
 
+    /** Request this mob submits to the island's path scheduler, reused for every move */
+    private final PathRequest pathRequest = new PathRequest();
+
+    /** Direction of the last step toward the player, followed while waiting for a new answer */
+    private Orientation lastStep;
+
     /**
      * Constructs a new Mob targeting a specific player.
      *
@@ -38,135 +51,210 @@ public class Mobs extends Actors implements Interactable, Interactor {
     }
 
     /**
-     * Updates the mob’s state. Handles chasing the player using BFS, attacking, or turning to face them.
+     * Updates the mob’s state. Handles chasing the player, attacking, or turning to face them.
+     * On an island, the {@link MobSystem} updates mobs in two phases instead (see {@link #decide} and
+     * {@link #apply}); this runs the same phases for a single mob.
      *
      * @param deltaTime Time since last update (in nanoseconds)
      */
     @Override
     public void update(float deltaTime) {
-        if (target.getHealth() <= 0) return;
+        if (prepare(deltaTime)) {
+            apply(decide(island));
+        }
+    }
+
+    @Override
+    protected Archetype getArchetype() {
+        return Archetype.MOB;
+    }
+
+    /**
+     * Advances the mob's move cooldown.
+     *
+     * @param deltaTime Time since last update (in nanoseconds)
+     * @return true if the mob acts this tick
+     */
+    public boolean prepare(float deltaTime) {
+        if (target.getHealth() <= 0) return false;
         super.update(deltaTime);
+        return getLastMoveTime() < 0;
+    }
 
-        if (getLastMoveTime() < 0) {
-            Vector mobPosition = getPosition();
-
-            int playerX = (int) target.getPosition().x();
-            int playerY = (int) target.getPosition().y();
-            int mobX    = (int) mobPosition.x();
-            int mobY    = (int) mobPosition.y();
-
-            int dx = playerX - mobX;
-            int dy = playerY - mobY;
-
-            // Check if the mob is adjacent to the player
-            if ((Math.abs(dx) == 1 && dy == 0) || (dx == 0 && Math.abs(dy) == 1)) {
-                Orientation faceDirection = (Math.abs(dx) == 1)
-                        ? (dx > 0 ? Orientation.EAST : Orientation.WEST)
-                        : (dy > 0 ? Orientation.SOUTH : Orientation.NORTH);
-
-                if (getCurrentOrientation() != faceDirection) {
-                    // Turn to face the player
-                    move(faceDirection);
-                } else {
-                    // Already facing the player – attack
-                    Tile t = island.getTile(playerX, playerY);
-                    if (t.getEntity() instanceof Player p) {
-                        interactWith(p, true);
-                    }
-                }
-            } else {
-                // Use BFS to pathfind toward the player
-                Orientation step = findNextStepToAdjacent(mobX, mobY, playerX, playerY);
-                if (step != null) move(step);
+    /**
+     * Decides what the mob does this tick. Reads the island, the player and the mob's path request
+     * but changes nothing, so all the mobs acting in a tick decide against the same tiles,
+     * possibly in parallel against a snapshot of them.
+     *
+     * @param occupancy walkability of the tiles at the start of the phase
+     * @return the intended action
+     */
+    public MobIntent decide(TileOccupancy occupancy) {
+        Vector mobPosition = getPosition();
+
+        int playerX = (int) target.getPosition().x();
+        int playerY = (int) target.getPosition().y();
+        int mobX    = (int) mobPosition.x();
+        int mobY    = (int) mobPosition.y();
+
+        int dx = playerX - mobX;
+        int dy = playerY - mobY;
+
+        // Check if the mob is adjacent to the player
+        if ((Math.abs(dx) == 1 && dy == 0) || (dx == 0 && Math.abs(dy) == 1)) {
+            Orientation faceDirection = (Math.abs(dx) == 1)
+                    ? (dx > 0 ? Orientation.EAST : Orientation.WEST)
+                    : (dy > 0 ? Orientation.SOUTH : Orientation.NORTH);
+
+            // Turn to face the player, or attack if already facing them
+            return getCurrentOrientation() != faceDirection
+                    ? new MobIntent(MobIntent.Action.TURN, faceDirection)
+                    : new MobIntent(MobIntent.Action.ATTACK, faceDirection);
+        }
+
+        if (!island.isReachable(mobX, mobY, playerX, playerY)) {
+            // A player in another walkable region cannot be reached, so no search is requested
+            Orientation step = moveRandomly(occupancy, mobX, mobY);
+            return step == null ? MobIntent.IDLE : new MobIntent(MobIntent.Action.WANDER, step);
+        }
+
+        // A cooperative plan is followed as long as the mob stands where the plan expects it
+        if (pathRequest.isOnPlan(mobX, mobY)) {
+            Orientation planned = pathRequest.getPlannedStep();
+            if (planned == null) return MobIntent.HOLD;
+            if (isWalkable(occupancy, mobX, mobY, planned)) {
+                return new MobIntent(MobIntent.Action.CHASE, planned);
             }
+        }
 
-            setLastMoveTimeToMoveInterval();
+        // Use the scheduler's answer for this tile, else keep following the last step or head straight on
+        Orientation step;
+        if (pathRequest.isReadyFor(mobX, mobY)) {
+            step = pathRequest.getResult();
+            if (step == null) step = moveRandomly(occupancy, mobX, mobY);
+        } else if (lastStep != null && isWalkable(occupancy, mobX, mobY, lastStep)) {
+            step = lastStep;
+        } else {
+            step = moveStraight(occupancy, mobX, mobY, dx, dy);
+            if (step == null) return MobIntent.WAIT;
         }
+        return step == null ? MobIntent.IDLE : new MobIntent(MobIntent.Action.CHASE, step);
     }
 
     /**
-     * Finds the first step toward the tile adjacent to the player using BFS.
+     * Carries out a decision on the island. Mobs apply their intents one at a time, in the order of the
+     * island's mob table; a mob whose target tile was taken by an earlier mob in the meantime tries again on the next tick.
+     * After a step toward the player, the next step is requested from the new tile, unless the mob
+     * is following a cooperative plan that still has steps to go.
      *
-     * @param mobX     mob’s X coordinate
-     * @param mobY     mob’s Y coordinate
-     * @param playerX  player’s X coordinate
-     * @param playerY  player’s Y coordinate
-     * @return Orientation for the next step, or random if no path
-     */
-    private Orientation findNextStepToAdjacent(int mobX, int mobY, int playerX, int playerY) {
-        int width = island.getMapWidth();
-        int height = island.getMapHeight();
-        boolean[][] seen = new boolean[width][height];
-        Map<Vector, Vector> parent = new HashMap<>();
-        Queue<Vector> toExplore = new LinkedList<>();
-
-        Vector start = new Vector(mobX, mobY);
-        seen[mobX][mobY] = true;
-        toExplore.add(start);
-
-        while (!toExplore.isEmpty()) {
-            Vector nextTile = toExplore.poll();
-            int x = (int) nextTile.x();
-            int y = (int) nextTile.y();
-
-            // If adjacent to player, trace back the first move
-            if ((Math.abs(x - playerX) == 1 && y == playerY) || (x == playerX && Math.abs(y - playerY) == 1)) {
-                Vector currentTile = nextTile;
-                Vector parentTile = parent.get(currentTile);
-                while (!parentTile.equals(start)) {
-                    currentTile = parentTile;
-                    parentTile = parent.get(currentTile);
+     * @param intent the decision returned by {@link #decide}
+     */
+    public void apply(MobIntent intent) {
+        if (getHealth() <= 0) return;
+
+        int playerX = (int) target.getPosition().x();
+        int playerY = (int) target.getPosition().y();
+        int mobX    = (int) getPosition().x();
+        int mobY    = (int) getPosition().y();
+
+        switch (intent.action()) {
+            case TURN -> move(intent.direction());
+            case ATTACK -> {
+                if (island.getOccupant(playerX, playerY) instanceof Player p) {
+                    interactWith(p, true);
                 }
-
-                int dx = (int) currentTile.x() - mobX;
-                int dy = (int) currentTile.y() - mobY;
-                if (dx > 0) return Orientation.EAST;
-                if (dx < 0) return Orientation.WEST;
-                if (dy > 0) return Orientation.SOUTH;
-                if (dy < 0) return Orientation.NORTH;
             }
+            case WANDER -> {
+                if (!isWalkable(mobX, mobY, intent.direction())) return;
+                move(intent.direction());
+                lastStep = null;
+            }
+            case CHASE -> {
+                if (!isWalkable(mobX, mobY, intent.direction())) {
+                    requestPath(mobX, mobY, playerX, playerY);
+                    return;
+                }
+                boolean planned = pathRequest.isOnPlan(mobX, mobY)
+                        && pathRequest.getPlannedStep() == intent.direction();
+                move(intent.direction());
+                lastStep = intent.direction();
+                afterStep(planned, playerX, playerY);
+            }
+            case HOLD -> afterStep(true, playerX, playerY);
+            case WAIT -> {
+                // Nothing to do until the scheduler answers; try again on the next tick
+                requestPath(mobX, mobY, playerX, playerY);
+                return;
+            }
+            case IDLE -> { }
+        }
 
-            for (Orientation orientation : Orientation.values()) {
-                int neighborX = x + (int) (orientation.toVector().x() / GameConfig.TILE_SIZE);
-                int neighborY = y + (int) (orientation.toVector().y() / GameConfig.TILE_SIZE);
+        setLastMoveTimeToMoveInterval();
+    }
 
-                if (neighborX < 0 || neighborY < 0 || neighborX >= width || neighborY >= height) continue;
-                if (seen[neighborX][neighborY]) continue;
+    /**
+     * @return the pathfinding request this mob submits to the island's scheduler
+     */
+    public PathRequest getPathRequest() {
+        return pathRequest;
+    }
 
-                Tile t = island.getTile(neighborX, neighborY);
-                if (!t.isWalkable()) continue;
+    /**
+     * Asks for the next step from the mob's new tile. A mob following a plan only asks again
+     * once it reached the planner's replanning point.
+     */
+    private void afterStep(boolean planned, int playerX, int playerY) {
+        if (planned) {
+            pathRequest.advancePlan();
+            if (!pathRequest.shouldReplan()) return;
+        }
+        requestPath((int) getPosition().x(), (int) getPosition().y(), playerX, playerY);
+    }
 
-                Vector validNeighbor = new Vector(neighborX, neighborY);
-                seen[neighborX][neighborY] = true;
-                parent.put(validNeighbor, nextTile);
-                toExplore.add(validNeighbor);
-            }
+    /**
+     * Submits the path request from the given tile unless it is already waiting there.
+     */
+    private void requestPath(int mobX, int mobY, int playerX, int playerY) {
+        if (!pathRequest.isPendingFor(mobX, mobY)) {
+            island.getPathScheduler().submit(pathRequest, mobX, mobY, playerX, playerY);
         }
+    }
 
-        // Fall back to random movement
-        return moveRandomly(mobX, mobY);
+    /**
+     * Chooses a walkable direction that brings the mob closer to the player, along the longer axis first.
+     * Used by mobs with nothing to follow until the scheduler answers, such as freshly spawned ones.
+     *
+     * @param occupancy walkability of the tiles
+     * @param mobX      X position
+     * @param mobY      Y position
+     * @param dx        horizontal distance to the player
+     * @param dy        vertical distance to the player
+     * @return a direction toward the player, or null if both are blocked
+     */
+    private Orientation moveStraight(TileOccupancy occupancy, int mobX, int mobY, int dx, int dy) {
+        Orientation horizontal = dx > 0 ? Orientation.EAST : dx < 0 ? Orientation.WEST : null;
+        Orientation vertical = dy > 0 ? Orientation.SOUTH : dy < 0 ? Orientation.NORTH : null;
+        Orientation first = Math.abs(dx) >= Math.abs(dy) ? horizontal : vertical;
+        Orientation second = first == horizontal ? vertical : horizontal;
+
+        if (first != null && isWalkable(occupancy, mobX, mobY, first)) return first;
+        if (second != null && isWalkable(occupancy, mobX, mobY, second)) return second;
+        return null;
     }
 
     /**
      * Chooses a random walkable direction when no path to the player is found.
      *
-     * @param mobX X position
-     * @param mobY Y position
+     * @param occupancy walkability of the tiles
+     * @param mobX      X position
+     * @param mobY      Y position
      * @return A valid random orientation or null if blocked
      */
-    private Orientation moveRandomly(int mobX, int mobY) {
+    private Orientation moveRandomly(TileOccupancy occupancy, int mobX, int mobY) {
         List<Orientation> possibleMoves = new ArrayList<>();
 
         for (Orientation orientation : Orientation.values()) {
-            int neighborX = mobX + (int) (orientation.toVector().x() / GameConfig.TILE_SIZE);
-            int neighborY = mobY + (int) (orientation.toVector().y() / GameConfig.TILE_SIZE);
-
-            if (neighborX < 0 || neighborY < 0 || neighborX >= island.getMapWidth() || neighborY >= island.getMapHeight()) {
-                continue;
-            }
-
-            Tile t = island.getTile(neighborX, neighborY);
-            if (t.isWalkable()) {
+            if (isWalkable(occupancy, mobX, mobY, orientation)) {
                 possibleMoves.add(orientation);
             }
         }
@@ -174,11 +262,45 @@ public class Mobs extends Actors implements Interactable, Interactor {
         if (possibleMoves.isEmpty()) {
             return null;
         } else {
-            int randomIndex = new Random().nextInt(possibleMoves.size());
+            int randomIndex = ThreadLocalRandom.current().nextInt(possibleMoves.size());
             return possibleMoves.get(randomIndex);
         }
     }
 
+    /**
+     * Checks the live tile next to the mob, which may have been taken since the mob decided.
+     */
+    private boolean isWalkable(int mobX, int mobY, Orientation direction) {
+        return isWalkable(island, mobX, mobY, direction);
+    }
+
+    /**
+     * Checks the tile next to the mob as the given occupancy sees it.
+     */
+    private boolean isWalkable(TileOccupancy occupancy, int mobX, int mobY, Orientation direction) {
+        int x = neighborX(mobX, direction);
+        int y = neighborY(mobY, direction);
+        if (x < 0 || y < 0 || x >= island.getMapWidth() || y >= island.getMapHeight()) {
+            return false;
+        }
+        return occupancy.isWalkable(x, y);
+    }
+
+    private static int neighborX(int mobX, Orientation direction) {
+        return mobX + (int) (direction.toVector().x() / GameConfig.TILE_SIZE);
+    }
+
+    private static int neighborY(int mobY, Orientation direction) {
+        return mobY + (int) (direction.toVector().y() / GameConfig.TILE_SIZE);
+    }
+
+    /**
+     * @return the actor the mob chases
+     */
+    public Actors getTarget() {
+        return target;
+    }
+
     /**
      * Gets the fixed damage this mob deals to the player.
      *
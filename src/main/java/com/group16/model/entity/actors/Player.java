@@ -1,6 +1,7 @@
 package com.group16.model.entity.actors;
 
 import com.group16.model.area.Island;
+import com.group16.model.ecs.Archetype;
 import com.group16.model.entity.GameEntity;
 import com.group16.model.entity.Interactable;
 import com.group16.model.entity.Interactor;
@@ -66,16 +67,15 @@ public final class Player extends Actors {
                 this::getPosition,
                 this::getCurrentOrientation,
                 bullet -> {
-                    bullet.setIsland(this.island);
                     Vector pos = bullet.getPosition();
                     int x = (int) pos.x();
                     int y = (int) pos.y();
 
-                    if (island.getTile(x, y).getEntity() == null) {
+                    GameEntity target = island.getOccupant(x, y);
+                    if (target == null) {
                         island.addEntity(bullet);
-                        island.getTile(x, y).addEntity(bullet);
+                        island.placeEntity(x, y, bullet);
                     } else {
-                        GameEntity target = island.getTile(x, y).getEntity();
                         if (target instanceof Interactable i) {
                             bullet.interactWith(i, true);
                         }
@@ -98,6 +98,11 @@ public final class Player extends Actors {
         this.inventory.setPocketItem(1, gun);
     }
 
+    @Override
+    protected Archetype getArchetype() {
+        return Archetype.PLAYER;
+    }
+
     /**
      * Updates player state each game tick.
      * @param deltaTime Elapsed time since last update
@@ -248,7 +253,7 @@ public final class Player extends Actors {
             setHealth(newHp);
             if (newHp <= 0) {
                 Vector p = getPosition();
-                island.getTile((int)p.x(), (int)p.y()).removeEntity();
+                island.clearTile((int) p.x(), (int) p.y());
             }
         }
     }
@@ -6,13 +6,19 @@ import com.group16.model.entity.Interactor;
 import com.group16.model.items.Inventory;
 import com.group16.model.utils.maths.Vector;
 
+import java.util.function.Consumer;
+
 /**
  * Represent an element in the game which has a position and is damageable.
  * This is an abstract class serving as the base for all static objects (like trees or rocks)
  * that players can interact with and gather resources from.
+ * Elements do nothing on their own: islands let them sleep and only hear from them when they take damage.
  */
 public abstract class Element extends GameEntity implements Interactable {
 
+    // Told whenever the element takes damage, if set
+    private Consumer<Element> wakeListener;
+
     /**
      * Construct an element with a position and an initial health value.
      *
@@ -30,7 +36,19 @@ public abstract class Element extends GameEntity implements Interactable {
      * @param damage the amount of damage to apply to the element
      */
     public void takeDamage(int damage) {
-        this.health -= damage;
+        setHealth(getHealth() - damage);
+        if (wakeListener != null) {
+            wakeListener.accept(this);
+        }
+    }
+
+    /**
+     * Sets who is told when the element takes damage, typically the island it sleeps on.
+     *
+     * @param wakeListener the listener, or null to stop telling anyone
+     */
+    public void setWakeListener(Consumer<Element> wakeListener) {
+        this.wakeListener = wakeListener;
     }
 
     /**
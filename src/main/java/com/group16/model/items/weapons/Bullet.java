@@ -1,28 +1,21 @@
 package com.group16.model.items.weapons;
 
-import com.group16.model.entity.GameEntity;
 import com.group16.model.entity.actors.Actors;
 import com.group16.model.entity.Interactable;
 import com.group16.model.entity.Interactor;
 import com.group16.model.area.Orientation;
-import com.group16.model.area.tiles.Tile;
-import com.group16.model.area.tiles.TileType;
-import com.group16.model.entity.elements.Element;
-import com.group16.model.area.Island;
-import com.group16.controller.config.GameConfig;
 import com.group16.model.utils.maths.Vector;
 
 /**
  * Represents a bullet projectile that moves in a given direction
  * and interacts with other entities on collision.
+ * Bullets on an island are moved by the island's {@link com.group16.model.ecs.ProjectileSystem}.
  */
-public class Bullet extends Projectiles implements Interactor {
+public final class Bullet extends Projectiles implements Interactor {
 
     // Time between moves in nanoseconds
     private static final float MOVE_INTERVAL = 1e8F;
 
-    private Island island;
-
     /**
      * Constructs a bullet with specified damage, starting position, and direction.
      *
@@ -36,62 +29,13 @@ public class Bullet extends Projectiles implements Interactor {
     }
 
     /**
-     * Sets the island where the bullet is moving.
-     *
-     * @param island The island instance.
-     */
-    public void setIsland(Island island) {
-        this.island = island;
-    }
-
-    /**
-     * Updates bullet's movement and handles interaction with entities.
+     * Damages the actor the bullet flew into.
      *
-     * @param deltaTime Time passed since last update in nanoseconds.
+     * @param actor the actor hit
      */
     @Override
-    public void update(float deltaTime) {
-        // If the bullet is inactive or not assigned an island, skip update
-        if (getHealth() <= 0 || island == null) return;
-
-        setLastMoveTime(getLastMoveTime() - deltaTime);
-
-        if (getLastMoveTime() < 0) {
-            int currX = (int) getPosition().x();
-            int currY = (int) getPosition().y();
-            int targetX = (int) (currX + getOrientation().toVector().x() / GameConfig.TILE_SIZE);
-            int targetY = (int) (currY + getOrientation().toVector().y() / GameConfig.TILE_SIZE);
-
-            // Check bounds
-            if (targetY >= 0 && targetY < island.getMapHeight() && targetX >= 0 && targetX < island.getMapWidth()) {
-                Tile targetTile = island.getTile(targetX, targetY);
-                GameEntity entity = targetTile.getEntity();
-
-                // Collides with actor (mob or player)
-                if (entity instanceof Actors actor) {
-                    this.interactWith(actor, true);
-                    removeProjectile(currX, currY, island);
-                    setHealth(0);
-                    return;
-                }
-
-                // Collides with obstacle like element (e.g., tree or rock)
-                if (entity instanceof Element) {
-                    setHealth(0);
-                    return;
-                }
-            } else {
-                // Out of bounds, destroy the bullet
-                setHealth(0);
-                return;
-            }
-
-            // Move forward on the map
-            island.getTile(currX, currY).removeEntity();
-            setPosition(new Vector(targetX, targetY));
-            island.getTile(targetX, targetY).addEntity(this);
-            setLastMoveTime(getMoveInterval());
-        }
+    public void hit(Actors actor) {
+        interactWith(actor, true);
     }
 
     /**
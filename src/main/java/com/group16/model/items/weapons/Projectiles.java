@@ -1,16 +1,20 @@
 package com.group16.model.items.weapons;
 
+import com.group16.model.ecs.Archetype;
+import com.group16.model.ecs.EntityStore;
 import com.group16.model.entity.GameEntity;
-import com.group16.model.area.Island;
+import com.group16.model.entity.actors.Actors;
 import com.group16.model.area.Orientation;
-import com.group16.controller.Updatable;
 import com.group16.model.utils.maths.Vector;
 
 /**
  * Abstract class representing a projectile in the game, such as a bullet.
  * Projectiles move in a specific direction and have a fixed damage value.
+ * <p>
+ * Once added to an island, a projectile is a handle on a row of the island's {@link EntityStore}:
+ * its position, health and move timer live there, and the island's projectile system moves it.
  */
-public abstract class Projectiles extends GameEntity implements Updatable {
+public abstract class Projectiles extends GameEntity {
 
     // Direction the projectile is moving in
     private final Orientation orientation;
@@ -24,6 +28,10 @@ public abstract class Projectiles extends GameEntity implements Updatable {
     // Amount of damage this projectile deals
     private final int damage;
 
+    // Store holding the projectile's state while it is on an island, and its id there
+    private EntityStore store;
+    private int storeId = -1;
+
     /**
      * Constructs a projectile.
      *
@@ -40,23 +48,54 @@ public abstract class Projectiles extends GameEntity implements Updatable {
     }
 
     /**
-     * Updates the projectile's state. Subclasses must define how the projectile behaves.
+     * Applies the projectile's effect to the actor it flew into.
      *
-     * @param deltaTime time elapsed since last update (in nanoseconds)
+     * @param actor the actor hit
      */
-    public abstract void update(float deltaTime);
+    public abstract void hit(Actors actor);
+
+    /*//////////////////////////////////////////////////////////////
+                              STORAGE
+    //////////////////////////////////////////////////////////////*/
 
     /**
-     * Removes the projectile from the island (both logically and visually).
+     * Moves the projectile's state into a store, which becomes its only copy.
      *
-     * @param x      the x-coordinate of the projectile
-     * @param y      the y-coordinate of the projectile
-     * @param island the island containing the projectile
+     * @param store the store of the island the projectile is added to
+     */
+    public void attach(EntityStore store) {
+        if (this.store != null) return;
+        Vector position = super.getPosition();
+        this.storeId = store.create(Archetype.PROJECTILE, this, position.x(), position.y(),
+                super.getHealth(), orientation, MOVE_INTERVAL, lastMoveTime);
+        this.store = store;
+    }
+
+    /**
+     * Copies the projectile's state back out of its store and frees its row.
+     */
+    public void detach() {
+        if (store == null) return;
+        EntityStore current = store;
+        int id = storeId;
+        Vector position = getPosition();
+        int remainingHealth = getHealth();
+        float remainingTime = getLastMoveTime();
+
+        store = null;
+        storeId = -1;
+        current.destroy(id);
+
+        super.setPosition(position);
+        super.setHealth(remainingHealth);
+        this.lastMoveTime = remainingTime;
+    }
+
+    /**
+     * @return the projectile's id in its store, or -1 if it is not on an island
      */
-    protected void removeProjectile(int x, int y, Island island) {
-        island.getTile(x, y).removeEntity();
-        island.removeEntity(this);
-        setLastMoveTime(getMoveInterval());
+    public int getStoreId() {
+        return storeId;
     }
 
     /* ==================== Getters ==================== */
@@ -68,11 +107,21 @@ public abstract class Projectiles extends GameEntity implements Updatable {
         return this.orientation;
     }
 
+    @Override
+    public Vector getPosition() {
+        return store == null ? super.getPosition() : new Vector(store.getX(storeId), store.getY(storeId));
+    }
+
+    @Override
+    public int getHealth() {
+        return store == null ? super.getHealth() : store.getHealth(storeId);
+    }
+
     /**
      * @return the time remaining until the next movement
      */
     public float getLastMoveTime() {
-        return this.lastMoveTime;
+        return store == null ? this.lastMoveTime : store.getMoveTimer(storeId);
     }
 
     /**
@@ -97,7 +146,32 @@ public abstract class Projectiles extends GameEntity implements Updatable {
      * @param lastMoveTime time in nanoseconds
      */
     protected void setLastMoveTime(float lastMoveTime) {
-        this.lastMoveTime = lastMoveTime;
+        if (store == null) {
+            this.lastMoveTime = lastMoveTime;
+        } else {
+            store.setMoveTimer(storeId, lastMoveTime);
+        }
         notifyObserver();
     }
+
+    @Override
+    protected void setPosition(Vector position) {
+        if (store == null) {
+            super.setPosition(position);
+        } else {
+            store.setPosition(storeId, position.x(), position.y());
+            notifyObserver();
+        }
+    }
+
+    @Override
+    protected void setHealth(int health) {
+        if (store == null) {
+            super.setHealth(health);
+        } else {
+            recordDamage(store.getHealth(storeId), health);
+            store.setHealth(storeId, health);
+            notifyObserver();
+        }
+    }
 }
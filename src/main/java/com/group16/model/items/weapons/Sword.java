@@ -7,7 +7,6 @@ import com.group16.model.entity.elements.Element;
 import com.group16.model.entity.Interactable;
 import com.group16.model.entity.Interactor;
 import com.group16.model.items.Inventory;
-import com.group16.model.area.tiles.Tile;
 import com.group16.controller.config.GameConfig;
 import com.group16.model.utils.maths.Vector;
 
@@ -61,8 +60,7 @@ public class Sword extends Weapon implements Interactor {
             return;
         }
 
-        Tile targetTile = island.getTile(targetX, targetY);
-        GameEntity entity = targetTile.getEntity();
+        GameEntity entity = island.getOccupant(targetX, targetY);
 
         if (entity == null) {
             System.out.println("No entity to interact with");
@@ -5,11 +5,17 @@ import com.group16.controller.config.GameConfig;
 
 /**
  * Camera class abstraction responsible for calculating the offset needed to center the view on the player.
+ * Records the player's positions at the last two simulation steps, which the world view's snapshots carry
+ * to the rendering thread to follow the player smoothly in between.
  */
 public class Camera {
 
     private final Player player;
 
+    // Player position at the last two simulation steps
+    private float previousX, previousY;
+    private float stepX, stepY;
+
     /**
      * Constructs a Camera that follows the given player.
      *
@@ -17,24 +23,46 @@ public class Camera {
      */
     public Camera(Player player) {
         this.player = player;
+        this.previousX = this.stepX = player.getPosition().x();
+        this.previousY = this.stepY = player.getPosition().y();
+    }
+
+    /**
+     * Called once at the end of every simulation step to record where the player got to.
+     */
+    public void commitStep() {
+        previousX = stepX;
+        previousY = stepY;
+        stepX = player.getPosition().x();
+        stepY = player.getPosition().y();
     }
 
     /**
-     * Calculates the horizontal offset required to center the player on screen.
+     * Copies the followed position at the last two steps into a snapshot for the rendering thread.
      *
+     * @param snapshot the snapshot being filled
+     */
+    void snapshot(WorldSnapshot snapshot) {
+        snapshot.setCamera(previousX, previousY, stepX, stepY);
+    }
+
+    /**
+     * Calculates the horizontal offset required to center the followed position on screen.
+     *
+     * @param x the followed x-coordinate, in tiles
      * @return the X-axis offset in pixels
      */
-    public int getOffsetX() {
-        return (int) (player.getPosition().x() * GameConfig.TILE_SIZE - GameConfig.PANEL_CENTER.x());
+    static int offsetX(float x) {
+        return Math.round(x * GameConfig.TILE_SIZE - GameConfig.PANEL_CENTER.x());
     }
 
     /**
-     * Calculates the vertical offset required to center the player on screen.
+     * Calculates the vertical offset required to center the followed position on screen.
      *
+     * @param y the followed y-coordinate, in tiles
      * @return the Y-axis offset in pixels
      */
-    public int getOffsetY() {
-        return (int) (player.getPosition().y() * GameConfig.TILE_SIZE - GameConfig.PANEL_CENTER.y());
+    static int offsetY(float y) {
+        return Math.round(y * GameConfig.TILE_SIZE - GameConfig.PANEL_CENTER.y());
     }
-
 }
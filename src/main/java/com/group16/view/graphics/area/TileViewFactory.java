@@ -1,37 +1,59 @@
 package com.group16.view.graphics.area;
 
-import com.group16.model.area.tiles.Tile;
+import com.group16.model.area.tiles.AutotileKernel;
+import com.group16.model.area.tiles.TileGrid;
 import com.group16.model.area.tiles.TileType;
 
 /**
- * Factory class responsible for generating a 2D array of TileViews based on a Tile map.
+ * Factory class responsible for generating a 2D array of TileViews based on a tile grid.
  * It assigns visual representations (sprites) for tiles based on their type and neighbors.
+ * Hill sprites are looked up from the water masks of the {@link AutotileKernel}.
  */
 public class TileViewFactory {
 
     private static final float GRASS_BASE_CHANCE = 0.65f; // Threshold for selecting main grass tile variant
 
-    private final int mapBorder;
+    /** Hill sprite for each water mask */
+    private static final TileView[] HILL_VIEWS = new TileView[256];
+
+    static {
+        for (int mask = 0; mask < 256; mask++) {
+            HILL_VIEWS[mask] = determineType(mask);
+        }
+    }
+
     private final int mapHeight;
     private final int mapWidth;
 
-    private final Tile[][] tileMap;
+    private final TileGrid tileMap;
+    private final byte[] waterMasks;
     private final TileView[][] tileViews;
 
     /**
      * Private constructor to enforce static factory pattern.
      *
-     * @param tileMap   2D array of Tile objects
-     * @param mapBorder border size around the map
+     * @param tileMap    grid of the map's tiles
+     * @param waterMasks water mask of each tile, row by row
      */
-    private TileViewFactory(Tile[][] tileMap, int mapBorder) {
-        this.mapBorder = mapBorder;
-        this.mapHeight = tileMap.length;
-        this.mapWidth = tileMap[0].length;
+    private TileViewFactory(TileGrid tileMap, byte[] waterMasks) {
+        this.mapHeight = tileMap.getHeight();
+        this.mapWidth = tileMap.getWidth();
         this.tileMap = tileMap;
+        this.waterMasks = waterMasks;
         this.tileViews = new TileView[mapHeight][mapWidth];
     }
 
+    /**
+     * Public factory method to create the 2D TileView map, reusing masks already computed for the map.
+     *
+     * @param tileMap    tile data to interpret
+     * @param waterMasks water mask of each tile, as computed by {@link AutotileKernel#computeWaterMasks}
+     * @return a TileView 2D array based on the tile types
+     */
+    public static TileView[][] createTileViewMap(TileGrid tileMap, byte[] waterMasks) {
+        return new TileViewFactory(tileMap, waterMasks).generateTileViews();
+    }
+
     /**
      * Public factory method to create the 2D TileView map.
      *
@@ -39,8 +61,8 @@ public class TileViewFactory {
      * @param mapBorder the border padding used in tile computation
      * @return a TileView 2D array based on the tile types
      */
-    public static TileView[][] createTileViewMap(Tile[][] tileMap, int mapBorder) {
-        return new TileViewFactory(tileMap, mapBorder).generateTileViews();
+    public static TileView[][] createTileViewMap(TileGrid tileMap, int mapBorder) {
+        return createTileViewMap(tileMap, AutotileKernel.computeWaterMasks(tileMap, mapBorder));
     }
 
     /**
@@ -51,63 +73,53 @@ public class TileViewFactory {
     private TileView[][] generateTileViews() {
         for (int i = 0; i < mapHeight; i++) {
             for (int j = 0; j < mapWidth; j++) {
-                Tile tile = tileMap[i][j];
-                tileViews[i][j] = switch (tile.getType()) {
-                    case WATER -> Math.random() < 0.95 ? TileView.WATER_MIDDLE : TileView.WATER_MIDDLE_WAVE;
-                    case SAND  -> TileView.SAND_MIDDLE;
-                    case HILL  -> determineType(countHillNeighbors(i, j));
-                    default -> {
-                        // Randomize grass style for visual variety
-                        float rand = (float) Math.random();
-                        if (rand < GRASS_BASE_CHANCE) yield TileView.GRASS_MIDDLE;
-                        else if (rand < 0.9) yield TileView.GRASS_WEED;
-                        else if (rand < 0.95) yield TileView.GRASS_RED_FLOWER;
-                        else yield TileView.GRASS_YELLOW_FLOWER;
-                    }
-                };
+                tileViews[i][j] = createTileView(tileMap.getType(j, i), waterMasks[i * mapWidth + j]);
             }
         }
         return tileViews;
     }
 
     /**
-     * Count the water neighbors around a hill tile and generate a bitmask.
-     * The bitmask is used to identify a matching hill sprite.
+     * Picks the sprite of a single tile. Water and grass get a random variant.
      *
-     * @param i tile row index
-     * @param j tile column index
-     * @return a bitmask of adjacent WATER tiles
+     * @param type the type of the tile
+     * @param mask the water mask of the tile
+     * @return the sprite to draw for the tile
      */
-    private int countHillNeighbors(int i, int j) {
-        int bitmask = 0;
-        int[][] dirs = {
-                {-1, 0}, {0, 1}, {1, 0}, {0, -1},   // 4 cardinal directions
-                {-1, 1}, {-1, -1}, {1, 1}, {1, -1}  // diagonals
-        };
-
-        int k = 1, count = 0;
-
-        for (int[] d : dirs) {
-            if (count == 4 && bitmask != 0) break;
-
-            int nx = i + d[0], ny = j + d[1];
-            if (inBounds(nx, ny) && tileMap[nx][ny].getType() == TileType.WATER) {
-                bitmask |= k;
+    public static TileView createTileView(TileType type, int mask) {
+        return switch (type) {
+            case WATER -> Math.random() < 0.95 ? TileView.WATER_MIDDLE : TileView.WATER_MIDDLE_WAVE;
+            case SAND  -> TileView.SAND_MIDDLE;
+            case HILL  -> HILL_VIEWS[mask & 0xFF];
+            default -> {
+                // Randomize grass style for visual variety
+                float rand = (float) Math.random();
+                if (rand < GRASS_BASE_CHANCE) yield TileView.GRASS_MIDDLE;
+                else if (rand < 0.9) yield TileView.GRASS_WEED;
+                else if (rand < 0.95) yield TileView.GRASS_RED_FLOWER;
+                else yield TileView.GRASS_YELLOW_FLOWER;
             }
-
-            count++;
-            k <<= 1;
-        }
-
-        return bitmask;
+        };
     }
 
     /**
-     * Checks whether the tile coordinates are within the visible/active bounds of the map.
+     * Re-picks the sprite of a tile whose terrain may have changed. A sprite that still fits the type and mask
+     * is kept, so water and grass keep their variant and only the tiles whose look changed are re-skinned.
+     *
+     * @param current the sprite drawn for the tile until now
+     * @param type    the type of the tile
+     * @param mask    the water mask of the tile
+     * @return the sprite to draw for the tile
      */
-    private boolean inBounds(int x, int y) {
-        return x >= mapBorder - 1 && x < mapHeight - mapBorder + 1 &&
-                y >= mapBorder - 1 && y < mapWidth - mapBorder + 1;
+    public static TileView refreshTileView(TileView current, TileType type, int mask) {
+        boolean fits = switch (type) {
+            case WATER -> current == TileView.WATER_MIDDLE || current == TileView.WATER_MIDDLE_WAVE;
+            case SAND -> current == TileView.SAND_MIDDLE;
+            case HILL -> current == HILL_VIEWS[mask & 0xFF];
+            default -> current == TileView.GRASS_MIDDLE || current == TileView.GRASS_WEED
+                    || current == TileView.GRASS_RED_FLOWER || current == TileView.GRASS_YELLOW_FLOWER;
+        };
+        return fits ? current : createTileView(type, mask);
     }
 
     /**
@@ -116,7 +128,7 @@ public class TileViewFactory {
      * @param mask integer bitmask representing surrounding water tiles
      * @return a corresponding TileView enum value
      */
-    private TileView determineType(int mask) {
+    private static TileView determineType(int mask) {
         return switch (mask) {
             case 0b0000001 -> TileView.HILL_34;
             case 0b0000010 -> TileView.HILL_23;
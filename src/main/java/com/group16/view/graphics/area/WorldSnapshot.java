@@ -0,0 +1,99 @@
+package com.group16.view.graphics.area;
+
+import com.group16.view.Sprite;
+
+import java.util.Arrays;
+
+/**
+ * Everything needed to draw the world at one simulation step, copied out of the entity views so that
+ * the rendering thread never touches the model or the views the simulation updates.
+ * For each entity: its sprite (which already encodes orientation and animation frame) and its tile position
+ * at the last two steps, in drawing order. For the camera: the followed position at the last two steps.
+ * <p>
+ * Snapshots are reused by a {@link com.group16.view.utils.TripleBuffer}: filled by the simulation, then only
+ * read once published.
+ */
+public final class WorldSnapshot {
+
+    private int entityCount;
+    private Sprite[] sprites = new Sprite[64];
+    private float[] previousX = new float[64];
+    private float[] previousY = new float[64];
+    private float[] stepX = new float[64];
+    private float[] stepY = new float[64];
+
+    float cameraPreviousX, cameraPreviousY;
+    float cameraStepX, cameraStepY;
+
+    /**
+     * Empties the snapshot, keeping its storage.
+     */
+    void clear() {
+        Arrays.fill(sprites, 0, entityCount, null);
+        entityCount = 0;
+    }
+
+    /**
+     * Appends an entity; entities are drawn in the order they are added.
+     *
+     * @param sprite    the sprite to draw
+     * @param previousX x-coordinate at the previous step, in tiles
+     * @param previousY y-coordinate at the previous step, in tiles
+     * @param x         x-coordinate at the last step, in tiles
+     * @param y         y-coordinate at the last step, in tiles
+     */
+    public void addEntity(Sprite sprite, float previousX, float previousY, float x, float y) {
+        if (entityCount == sprites.length) {
+            int capacity = entityCount * 2;
+            sprites = Arrays.copyOf(sprites, capacity);
+            this.previousX = Arrays.copyOf(this.previousX, capacity);
+            this.previousY = Arrays.copyOf(this.previousY, capacity);
+            stepX = Arrays.copyOf(stepX, capacity);
+            stepY = Arrays.copyOf(stepY, capacity);
+        }
+        sprites[entityCount] = sprite;
+        this.previousX[entityCount] = previousX;
+        this.previousY[entityCount] = previousY;
+        stepX[entityCount] = x;
+        stepY[entityCount] = y;
+        entityCount++;
+    }
+
+    /**
+     * Sets the position the camera follows at the last two steps, in tiles.
+     */
+    void setCamera(float previousX, float previousY, float x, float y) {
+        cameraPreviousX = previousX;
+        cameraPreviousY = previousY;
+        cameraStepX = x;
+        cameraStepY = y;
+    }
+
+    int getEntityCount() {
+        return entityCount;
+    }
+
+    Sprite getSprite(int i) {
+        return sprites[i];
+    }
+
+    /**
+     * Returns the x-coordinate of an entity between the last two steps. Jumps of more than one tile,
+     * such as respawns, are not interpolated.
+     */
+    float getX(int i, float alpha) {
+        return interpolate(previousX[i], stepX[i], previousY[i], stepY[i], alpha);
+    }
+
+    /**
+     * Returns the y-coordinate of an entity between the last two steps, like {@link #getX}.
+     */
+    float getY(int i, float alpha) {
+        return interpolate(previousY[i], stepY[i], previousX[i], stepX[i], alpha);
+    }
+
+    private static float interpolate(float from, float to, float otherFrom, float otherTo, float alpha) {
+        if (Math.abs(to - from) > 1 || Math.abs(otherTo - otherFrom) > 1) return to;
+        return from + (to - from) * alpha;
+    }
+}
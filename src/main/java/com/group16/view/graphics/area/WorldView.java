@@ -1,7 +1,11 @@
 package com.group16.view.graphics.area;
 
 import com.group16.model.entity.GameEntity;
+import com.group16.model.area.ChangeJournal;
 import com.group16.model.area.Island;
+import com.group16.model.area.TerrainChangeSet;
+import com.group16.model.area.tiles.AutotileKernel;
+import com.group16.model.area.tiles.TileGrid;
 import com.group16.controller.config.GameConfig;
 import com.group16.controller.Updatable;
 import com.group16.model.Subject;
@@ -9,24 +13,47 @@ import com.group16.view.graphics.Drawable;
 import com.group16.view.Observer;
 import com.group16.view.graphics.entity.EntityView;
 import com.group16.view.graphics.entity.EntityViewFactory;
+import com.group16.view.utils.TripleBuffer;
 
 import java.awt.*;
 import java.util.ArrayList;
+import java.util.Comparator;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 
 /**
  * WorldView handles the rendering of the entire game world including background tiles and all entities.
- * It observes the Island model for entity changes and maintains a corresponding view map.
+ * It drains the Island's change journal once per step to maintain a corresponding view map,
+ * and observes the Island to re-skin the tiles whose terrain changed.
+ * <p>
+ * The simulation thread owns the views: after every step it copies what is needed to draw them into a
+ * {@link WorldSnapshot} published through a {@link TripleBuffer}. The rendering thread only draws the latest
+ * snapshot, so neither thread ever blocks or sees the other's half-done work.
  */
 public class WorldView implements Observer, Drawable, Updatable {
 
     private final Camera camera;
 
+    // The island shown, and where this view stands in its change journal
+    private final Island island;
+    private final ChangeJournal.Cursor journalCursor;
+
     // Maps each GameEntity to its corresponding visual representation
     private final Map<GameEntity, EntityView> entityViewMap = new HashMap<>();
 
+    // Entities with a view, by journal id
+    private final Map<Integer, GameEntity> entitiesById = new HashMap<>();
+
+    // Frames handed to the rendering thread, and how far between two of them it draws
+    private final TripleBuffer<WorldSnapshot> snapshots = new TripleBuffer<>(WorldSnapshot::new);
+    private volatile float alpha = 1;
+
+    // Entities in drawing order, reused by every snapshot
+    private final List<Map.Entry<GameEntity, EntityView>> drawOrder = new ArrayList<>();
+    private static final Comparator<Map.Entry<GameEntity, EntityView>> BY_Y =
+            Comparator.comparingDouble(entry -> entry.getKey().getPosition().y());
+
     // World dimensions and tiles
     private final int worldHeight;
     private final int worldWidth;
@@ -37,56 +64,84 @@ public class WorldView implements Observer, Drawable, Updatable {
      *
      * @param camera     the camera responsible for translating world to screen coordinates
      * @param tileWorld  the 2D tile layout of the world
+     * @param island     the island whose entities are shown
      */
-    public WorldView(Camera camera, TileView[][] tileWorld) {
+    public WorldView(Camera camera, TileView[][] tileWorld, Island island) {
         this.camera = camera;
         this.tileWorld = tileWorld;
         this.worldHeight = tileWorld.length;
         this.worldWidth = tileWorld[0].length;
+        this.island = island;
+        this.journalCursor = island.getJournal().newCursor();
+        island.getEntities().forEach(this::addView);
+        publishSnapshot();
+    }
+
+    /**
+     * Fills the back snapshot with the entities sorted by Y-coordinate, to ensure correct rendering order
+     * (lower entities drawn last), and the camera, then hands it to the rendering thread.
+     * Runs on the simulation thread, the only one touching the model and the entity views.
+     */
+    private void publishSnapshot() {
+        WorldSnapshot snapshot = snapshots.getBack();
+        snapshot.clear();
+        camera.snapshot(snapshot);
+
+        drawOrder.clear();
+        drawOrder.addAll(entityViewMap.entrySet());
+        drawOrder.sort(BY_Y);
+        for (Map.Entry<GameEntity, EntityView> entry : drawOrder) {
+            entry.getValue().snapshot(snapshot);
+        }
+        drawOrder.clear();
+
+        snapshots.publish();
     }
 
     /**
-     * Draws all entities in the game world. Entities are sorted by Y-coordinate
-     * to ensure correct rendering order (lower entities drawn last).
+     * Draws the entities of a snapshot between their last two simulated positions.
      *
-     * @param g2 the graphics context
+     * @param g2       the graphics context
+     * @param snapshot the snapshot to draw
+     * @param cameraX  the X offset of the camera
+     * @param cameraY  the Y offset of the camera
+     * @param alpha    how far between the two steps, from 0 to 1
      */
-    public void drawEntities(Graphics2D g2) {
-        List<Map.Entry<GameEntity, EntityView>> entries = new ArrayList<>(entityViewMap.entrySet());
-
-        // Sort entities by vertical position (Y-axis)
-        entries.sort((entry1, entry2) ->
-                Float.compare(
-                        entry1.getKey().getPosition().y(),
-                        entry2.getKey().getPosition().y()
-                )
-        );
-
-        for (Map.Entry<GameEntity, EntityView> entry : entries) {
-            entry.getValue().draw(g2, camera.getOffsetX(), camera.getOffsetY());
+    private void drawEntities(Graphics2D g2, WorldSnapshot snapshot, int cameraX, int cameraY, float alpha) {
+        for (int i = 0; i < snapshot.getEntityCount(); i++) {
+            g2.drawImage(
+                    snapshot.getSprite(i).getImage(),
+                    Math.round(snapshot.getX(i, alpha) * GameConfig.TILE_SIZE) - cameraX,
+                    Math.round(snapshot.getY(i, alpha) * GameConfig.TILE_SIZE) - cameraY,
+                    GameConfig.TILE_SIZE,
+                    GameConfig.TILE_SIZE,
+                    null
+            );
         }
     }
 
     /**
      * Draws the background tile map.
      *
-     * @param g2 the graphics context
+     * @param g2      the graphics context
+     * @param cameraX the X offset of the camera
+     * @param cameraY the Y offset of the camera
      */
-    private void drawTiles(Graphics2D g2) {
+    private void drawTiles(Graphics2D g2, int cameraX, int cameraY) {
         for (int y = 0; y < worldHeight; y++) {
             for (int x = 0; x < worldWidth; x++) {
                 TileView tile = tileWorld[y][x];
                 tile.draw(
                         g2,
-                        x * GameConfig.TILE_SIZE - camera.getOffsetX(),
-                        y * GameConfig.TILE_SIZE - camera.getOffsetY()
+                        x * GameConfig.TILE_SIZE - cameraX,
+                        y * GameConfig.TILE_SIZE - cameraY
                 );
             }
         }
     }
 
     /**
-     * Observer callback when the Island model changes (e.g., entities are added or removed).
+     * Observer callback when the Island model changes (e.g., its terrain is edited).
      *
      * @param s the subject (should be of type Island)
      */
@@ -94,43 +149,115 @@ public class WorldView implements Observer, Drawable, Updatable {
     public void update(Subject s) {
         if (!(s instanceof Island island)) return;
 
-        GameEntity entity = island.getLastChangedEntity();
-        Island.ChangeType change = island.getLastChangeType();
+        if (island.getLastChangeType() == Island.ChangeType.TERRAIN) {
+            refreshTiles(island);
+        }
+
+        island.clearLastChange();
+    }
+
+    /**
+     * Creates and removes entity views from the island's change journal, in one pass over the records
+     * written since the last frame. Moves and damage are shown by the entity views themselves.
+     * If the journal overwrote records before they were read, the views are rebuilt from the island.
+     */
+    private void drainJournal() {
+        journalCursor.drain(this::applyChange);
 
-        switch (change) {
+        if (journalCursor.getLostCount() > 0) {
+            entityViewMap.forEach((entity, view) -> entity.removeObserver(view));
+            entityViewMap.clear();
+            entitiesById.clear();
+            island.getEntities().forEach(this::addView);
+            journalCursor.resetLostCount();
+        }
+    }
+
+    private void applyChange(ChangeJournal.Kind kind, long tick, int entityId, int x, int y, int value) {
+        switch (kind) {
             case ADD -> {
-                EntityView view = EntityViewFactory.createView(entity, entity.getPosition());
-                entity.registerObserver(view);
-                entityViewMap.put(entity, view);
+                // Null if the entity already left the island; its REMOVE record follows
+                GameEntity entity = island.getEntity(entityId);
+                if (entity != null) addView(entity);
+            }
+            case REMOVE -> {
+                GameEntity entity = entitiesById.remove(entityId);
+                if (entity != null) entity.removeObserver(entityViewMap.remove(entity));
+            }
+            default -> {
             }
-            case REMOVE -> entityViewMap.remove(entity);
         }
+    }
 
-        island.clearLastChange();
+    private void addView(GameEntity entity) {
+        if (entityViewMap.containsKey(entity)) return;
+        EntityView view = EntityViewFactory.createView(entity, entity.getPosition());
+        entity.registerObserver(view);
+        entityViewMap.put(entity, view);
+        entitiesById.put(entity.getJournalId(), entity);
+    }
+
+    /**
+     * Picks new sprites for the listed tiles whose type or coast shape changed. The other listed tiles keep
+     * their sprite and variant, and the rest of the map is left untouched.
+     *
+     * @param island the island whose terrain changed
+     */
+    private void refreshTiles(Island island) {
+        TerrainChangeSet changes = island.getTerrainChanges();
+        TileGrid grid = island.getGrid();
+        for (int i = 0; i < changes.size(); i++) {
+            int x = changes.getX(i), y = changes.getY(i);
+            int mask = AutotileKernel.computeWaterMask(grid, island.getMAP_BORDER(), x, y);
+            tileWorld[y][x] = TileViewFactory.refreshTileView(tileWorld[y][x], grid.getType(x, y), mask);
+        }
     }
 
     /**
-     * Updates the visual representation of entities that are themselves updatable.
+     * Called after every simulation step. Catches up with the island's change journal, records the positions
+     * reached for interpolation, then updates the visual representation of entities that are themselves
+     * updatable.
      *
      * @param deltaTime the time passed since last frame in nanoseconds
      */
     @Override
     public void update(float deltaTime) {
+        drainJournal();
+        camera.commitStep();
+        entityViewMap.values().forEach(EntityView::commitStep);
         entityViewMap.forEach((entity, view) -> {
             if (view instanceof Updatable) {
                 ((Updatable) view).update(deltaTime);
             }
         });
+
+        publishSnapshot();
+    }
+
+    /**
+     * Sets how far between the last two simulation steps the world is drawn.
+     *
+     * @param alpha a value from 0 (previous step) to 1 (last step)
+     */
+    public void setInterpolation(float alpha) {
+        this.alpha = alpha;
     }
 
     /**
-     * Draws the full world view: tiles followed by entities.
+     * Draws the full world view from the latest snapshot: tiles followed by entities.
+     * Runs on the rendering thread and never waits for the simulation.
      *
      * @param g2 the graphics context
      */
     @Override
     public void draw(Graphics2D g2) {
-        drawTiles(g2);
-        drawEntities(g2);
+        WorldSnapshot snapshot = snapshots.read();
+        float alpha = this.alpha;
+
+        int cameraX = Camera.offsetX(snapshot.cameraPreviousX + (snapshot.cameraStepX - snapshot.cameraPreviousX) * alpha);
+        int cameraY = Camera.offsetY(snapshot.cameraPreviousY + (snapshot.cameraStepY - snapshot.cameraPreviousY) * alpha);
+
+        drawTiles(g2, cameraX, cameraY);
+        drawEntities(g2, snapshot, cameraX, cameraY, alpha);
     }
 }
@@ -4,6 +4,7 @@ import com.group16.model.utils.maths.Vector;
 import com.group16.model.entity.GameEntity;
 import com.group16.controller.config.GameConfig;
 import com.group16.view.graphics.PositionedDrawable;
+import com.group16.view.graphics.area.WorldSnapshot;
 import com.group16.model.Subject;
 import com.group16.view.Sprite;
 import com.group16.view.Observer;
@@ -19,6 +20,10 @@ public class EntityView implements Observer, PositionedDrawable {
     protected Sprite sprite;
     protected int posX, posY;
 
+    // Position at the last two simulation steps, copied into world snapshots
+    private float previousX, previousY;
+    private float stepX, stepY;
+
     /**
      * Constructs a visual representation of an entity at a given position.
      *
@@ -29,6 +34,31 @@ public class EntityView implements Observer, PositionedDrawable {
         this.sprite = sprite;
         this.posX = (int) initialPosition.x();
         this.posY = (int) initialPosition.y();
+        this.previousX = this.stepX = posX;
+        this.previousY = this.stepY = posY;
+    }
+
+    /**
+     * Called once at the end of every simulation step: the position the entity reached becomes the one
+     * interpolated towards, and the previous one the one interpolated from.
+     */
+    public void commitStep() {
+        previousX = stepX;
+        previousY = stepY;
+        stepX = posX;
+        stepY = posY;
+    }
+
+    /**
+     * Adds the entity, as of the last simulation step, to a snapshot for the rendering thread.
+     *
+     * @param snapshot the snapshot being filled
+     */
+    public void snapshot(WorldSnapshot snapshot) {
+        if (sprite.getImage() == null) {
+            return;
+        }
+        snapshot.addEntity(sprite, previousX, previousY, stepX, stepY);
     }
 
     /**
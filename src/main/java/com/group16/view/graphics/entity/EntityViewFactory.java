@@ -46,6 +46,7 @@ public class EntityViewFactory {
      * @param constructor A function that takes the entity and its position to construct a view.
      * @param <T>         A type extending GameEntity.
      */
+    @SuppressWarnings("unchecked")
     private static <T extends GameEntity> void register(Class<T> entityClass, BiFunction<T, Vector, EntityView> constructor) {
         // Unchecked cast needed for generic handling
         registry.put(entityClass, (BiFunction<GameEntity, Vector, EntityView>) constructor);
@@ -17,7 +17,8 @@ import java.util.Objects;
  * Implements {@link Updatable} to be compatible with the game's update loop,
  * although it does not update anything per frame.
  */
-public class EndPanel extends JPanel implements Updatable {
+@SuppressWarnings("serial")
+public final class EndPanel extends JPanel implements Updatable {
 
     private final BufferedImage backGroundImage;
     private final BufferedImage gameOverImage;
@@ -14,16 +14,21 @@ import java.util.List;
 /**
  * GamePanel is responsible for rendering the main game interface including
  * all Drawable views and overlay UI like wave numbers and preparation timers.
+ * The panel is never serialized, so its views and wave values are not either.
  */
-public class GamePanel extends JPanel implements Observer, Updatable {
+@SuppressWarnings("serial")
+public final class GamePanel extends JPanel implements Observer, Updatable {
 
     private List<Drawable> views;
 
-    private int waveNumber;
-    private float waveStartDisplayTime;
-    private float preparationTime;
+    /**
+     * Wave values shown over the world, read from the game logic on the simulation thread and
+     * drawn on the rendering thread as a whole.
+     */
+    private record Hud(int waveNumber, float waveStartDisplayTime, float preparationTime, boolean isPreparing) {
+    }
 
-    private boolean isPreparing;
+    private volatile Hud hud = new Hud(0, 0, 0, false);
 
     // Constants for UI layout and sizing
     private final int ICON_WAVE_SIZE = 50;
@@ -64,30 +69,32 @@ public class GamePanel extends JPanel implements Observer, Updatable {
         super.paintComponent(g);
 
         Graphics2D g2 = (Graphics2D) g;
+        Hud hud = this.hud;
 
         // Draw the views in order
         for (Drawable view : views) {
             view.draw(g2);
         }
 
-        if (isPreparing) {
-            drawTimerBox(g2);
+        if (hud.isPreparing()) {
+            drawTimerBox(g2, hud.preparationTime());
         }
 
         // Either show level title or persistent wave number
-        if (waveStartDisplayTime > 0) {
-            drawLevelIndicator(g2);
+        if (hud.waveStartDisplayTime() > 0) {
+            drawLevelIndicator(g2, hud.waveNumber());
         } else {
-            drawWaveNumber(g2);
+            drawWaveNumber(g2, hud.waveNumber());
         }
     }
 
     /**
      * Draws a semi-transparent banner in the center with the current wave number.
      *
-     * @param g2 The graphics context.
+     * @param g2         The graphics context.
+     * @param waveNumber The wave to show.
      */
-    private void drawLevelIndicator(Graphics2D g2) {
+    private void drawLevelIndicator(Graphics2D g2, int waveNumber) {
         g2.setColor(new Color(0, 0, 0, 200));
         g2.fillRect(0, GameConfig.SCREEN_HEIGHT / 2 - 100, GameConfig.SCREEN_WIDTH, 100);
 
@@ -101,9 +108,10 @@ public class GamePanel extends JPanel implements Observer, Updatable {
     /**
      * Draws a circular icon with the wave number at the bottom right.
      *
-     * @param g2 The graphics context.
+     * @param g2         The graphics context.
+     * @param waveNumber The wave to show.
      */
-    private void drawWaveNumber(Graphics2D g2) {
+    private void drawWaveNumber(Graphics2D g2, int waveNumber) {
         int iconX = GameConfig.SCREEN_WIDTH - ICON_WAVE_SIZE - BORDER_WIDTH_SIZE;
         int iconY = GameConfig.SCREEN_HEIGHT - ICON_WAVE_SIZE - BORDER_HEIGHT_SIZE;
 
@@ -122,9 +130,10 @@ public class GamePanel extends JPanel implements Observer, Updatable {
     /**
      * Draws the timer box indicating preparation countdown before a wave starts.
      *
-     * @param g2 The graphics context.
+     * @param g2              The graphics context.
+     * @param preparationTime The time left before the wave, in seconds.
      */
-    private void drawTimerBox(Graphics2D g2) {
+    private void drawTimerBox(Graphics2D g2, float preparationTime) {
         int boxX = GameConfig.SCREEN_WIDTH - BOX_TIMER_WIDTH - ICON_WAVE_SIZE - 2 * BORDER_WIDTH_SIZE;
         int boxY = GameConfig.SCREEN_HEIGHT - BOX_TIMER_HEIGHT - BORDER_HEIGHT_SIZE;
 
@@ -156,10 +165,12 @@ public class GamePanel extends JPanel implements Observer, Updatable {
 
         GameLogic gameLogic = (GameLogic) s;
 
-        waveNumber = gameLogic.getWaveNumber();
-        waveStartDisplayTime = gameLogic.getWaveStartDisplayTime();
-        preparationTime = gameLogic.getPreparationTime();
-        isPreparing = gameLogic.getIsPreparing();
+        hud = new Hud(
+                gameLogic.getWaveNumber(),
+                gameLogic.getWaveStartDisplayTime(),
+                gameLogic.getPreparationTime(),
+                gameLogic.getIsPreparing()
+        );
     }
 
     /**
@@ -26,7 +26,8 @@ public class HealthBarView implements Observer, Drawable {
     private final int maxHealth;
     private final int hpPerState;
     private final Sprite[] healthSprites;
-    private int currentHealth;
+    // Written by the simulation thread, read by the rendering thread
+    private volatile int currentHealth;
 
     /**
      * Constructs a health bar view with the given max health.
@@ -55,6 +56,7 @@ public class HealthBarView implements Observer, Drawable {
      */
     @Override
     public void draw(Graphics2D g2) {
+        int currentHealth = this.currentHealth;
         int state = (maxHealth - currentHealth) / hpPerState;
 
         // Clamp the state value within sprite array bounds
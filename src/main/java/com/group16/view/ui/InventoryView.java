@@ -32,11 +32,11 @@ public class InventoryView implements Observer, Drawable {
             new RegionOfInterest(28, 0, 75, 75)
     );
 
-    // Views of inventory items
-    private final List<ItemView> itemViews = new ArrayList<>();
+    // Views of inventory items, replaced as a whole on each change so the rendering thread never sees half of one
+    private volatile List<ItemView> itemViews = List.of();
 
-    // Views of pocket items (e.g. hotbar)
-    private final PocketView[] pocketViews = new PocketView[Inventory.NB_OF_POCKETS];
+    // Views of pocket items (e.g. hotbar), replaced as a whole as well
+    private volatile List<PocketView> pocketViews;
 
     // Layout constants
     private final int COLUMNS = 4;
@@ -50,7 +50,7 @@ public class InventoryView implements Observer, Drawable {
     private final int START_X;
     private final int START_Y;
 
-    private boolean isOpen = false;
+    private volatile boolean isOpen = false;
 
     /**
      * Constructs the inventory view, calculating its layout and initializing pocket views.
@@ -62,9 +62,11 @@ public class InventoryView implements Observer, Drawable {
         START_X = (GameConfig.SCREEN_WIDTH - INVENTORY_WIDTH) / 2;
         START_Y = (GameConfig.SCREEN_HEIGHT - INVENTORY_HEIGHT) / 2;
 
+        List<PocketView> pockets = new ArrayList<>();
         for (int i = 0; i < Inventory.NB_OF_POCKETS; i++) {
-            pocketViews[i] = new PocketView(null, 1, i);
+            pockets.add(new PocketView(null, 1, i));
         }
+        pocketViews = List.copyOf(pockets);
     }
 
     /**
@@ -94,6 +96,7 @@ public class InventoryView implements Observer, Drawable {
      * Draws the individual items inside the inventory grid.
      */
     private void drawItems(Graphics2D g2) {
+        List<ItemView> itemViews = this.itemViews;
         for (int i = 0; i < itemViews.size(); i++) {
             int row = i / COLUMNS;
             int col = i % COLUMNS;
@@ -115,12 +118,10 @@ public class InventoryView implements Observer, Drawable {
         int startX = pocketSize / 2;
         int y = GameConfig.SCREEN_HEIGHT - 2 * pocketSize;
 
-        for (int i = 0; i < Inventory.NB_OF_POCKETS; i++) {
-            PocketView pocketView = pocketViews[i];
-            if (pocketView != null) {
-                int x = startX + i * (pocketSize + spacing);
-                pocketView.draw(g2, x, y);
-            }
+        List<PocketView> pocketViews = this.pocketViews;
+        for (int i = 0; i < pocketViews.size(); i++) {
+            int x = startX + i * (pocketSize + spacing);
+            pocketViews.get(i).draw(g2, x, y);
         }
     }
 
@@ -134,22 +135,24 @@ public class InventoryView implements Observer, Drawable {
     public void update(Subject s) {
         if (!(s instanceof Inventory inventory)) return;
 
-        itemViews.clear();
-
+        List<ItemView> items = new ArrayList<>();
         for (Item item : inventory.getContents()) {
             ItemView view = ItemViewFactory.createView(item);
             item.registerObserver(view);
-            itemViews.add(view);
+            items.add(view);
         }
 
-        isOpen = inventory.isOpen();
-
+        List<PocketView> pockets = new ArrayList<>();
         for (int i = 0; i < Inventory.NB_OF_POCKETS; i++) {
             Item item = (Item) inventory.getPocketItem(i);
             ItemView itemView = (item != null) ? ItemViewFactory.createView(item) : null;
             int quantity = (item != null) ? item.getQuantity() : 0;
 
-            pocketViews[i] = new PocketView(itemView, quantity, i);
+            pockets.add(new PocketView(itemView, quantity, i));
         }
+
+        itemViews = List.copyOf(items);
+        pocketViews = List.copyOf(pockets);
+        isOpen = inventory.isOpen();
     }
 }
@@ -15,7 +15,8 @@ import java.util.Objects;
  * TitlePanel displays the main title screen and map selection menu.
  * It observes the {@link TitleLogic} to render the current state and selected option.
  */
-public class TitlePanel extends JPanel implements Observer {
+@SuppressWarnings("serial")
+public final class TitlePanel extends JPanel implements Observer {
 
     private TitleLogic.MenuState menuState;
     private int selectedOption = 0;
@@ -0,0 +1,67 @@
+package com.group16.view.utils;
+
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+/**
+ * Lock-free hand-over of frames from one writer thread to one reader thread.
+ * Three slots rotate between the writer (filling the back slot), the reader (reading the front slot) and
+ * a middle slot holding the latest published frame. Publishing and reading each swap a slot with the middle
+ * one in a single atomic operation, so neither side ever waits for the other, the reader always gets the most
+ * recent complete frame, and a slot is never written while it is being read.
+ *
+ * @param <T> the type of the frames; slots are reused, so frames are filled in place
+ */
+public final class TripleBuffer<T> {
+
+    /** Set on the middle index while it holds a frame the reader has not taken yet */
+    private static final int FRESH = 1 << 2;
+    private static final int INDEX = FRESH - 1;
+
+    private final Object[] slots = new Object[3];
+
+    private int back = 0;   // owned by the writer
+    private int front = 1;  // owned by the reader
+    private final AtomicInteger middle = new AtomicInteger(2);
+
+    /**
+     * Constructs a buffer.
+     *
+     * @param factory creates the three slots
+     */
+    public TripleBuffer(Supplier<T> factory) {
+        for (int i = 0; i < slots.length; i++) {
+            slots[i] = factory.get();
+        }
+    }
+
+    /**
+     * Writer side: returns the slot to fill before the next {@link #publish()}.
+     *
+     * @return the back slot
+     */
+    @SuppressWarnings("unchecked")
+    public T getBack() {
+        return (T) slots[back];
+    }
+
+    /**
+     * Writer side: makes the back slot the latest frame, and takes the previous middle slot as the new back one.
+     */
+    public void publish() {
+        back = middle.getAndSet(back | FRESH) & INDEX;
+    }
+
+    /**
+     * Reader side: returns the latest published frame, which stays untouched until the next call.
+     *
+     * @return the front slot
+     */
+    @SuppressWarnings("unchecked")
+    public T read() {
+        if ((middle.get() & FRESH) != 0) {
+            front = middle.getAndSet(front) & INDEX;
+        }
+        return (T) slots[front];
+    }
+}
@@ -1,10 +1,29 @@
 package com.group16.steps;
 
+import com.group16.controller.FixedTimestep;
+import com.group16.controller.FramePacer;
 import com.group16.controller.GameLogic;
+import com.group16.controller.HeadlessGame;
+import com.group16.controller.PlayerAction;
+import com.group16.controller.io.KeyBindings;
+import com.group16.controller.config.GameConfig;
+import com.group16.model.area.ChangeJournal;
 import com.group16.model.area.Island;
 import com.group16.model.area.IslandMapGenerator;
+import com.group16.model.area.MapFile;
+import com.group16.model.area.MapTextParser;
 import com.group16.model.area.Orientation;
+import com.group16.model.area.navigation.CooperativePlanner;
+import com.group16.model.area.navigation.GridPathfinder;
+import com.group16.model.area.navigation.HierarchicalPathfinder;
+import com.group16.model.area.navigation.IncrementalFlowField;
+import com.group16.model.area.navigation.NavigationMode;
+import com.group16.model.area.navigation.PathCache;
+import com.group16.model.area.navigation.PathRequest;
+import com.group16.model.area.navigation.PathScheduler;
+import com.group16.model.area.tiles.TileGrid;
 import com.group16.model.area.tiles.TileType;
+import com.group16.model.ecs.Archetype;
 import com.group16.model.entity.GameEntity;
 import com.group16.model.entity.actors.Actors;
 import com.group16.model.entity.actors.Mobs;
@@ -17,10 +36,18 @@ import com.group16.model.items.resources.ResourceType;
 import com.group16.model.items.resources.Resources;
 import com.group16.model.items.weapons.Bullet;
 import com.group16.model.utils.maths.Vector;
+import com.group16.view.utils.TripleBuffer;
 import io.cucumber.java.en.*;
 
 import java.awt.event.KeyEvent;
+import java.io.IOException;
 import java.lang.reflect.Field;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
 
 import static org.junit.jupiter.api.Assertions.*;
 
@@ -31,10 +58,37 @@ public class PlayerSteps {
     private int initialStone;
     private Island island;
     private Mobs mob;
+    private Mobs otherMob;
     private int initialAmmo;
     private int initialMobHealth;
     private int initialPlayerHP;
     private Vector initialMobPos;
+    private Path binaryMap;
+    private Path mapDesign;
+    private int terrainBatches;
+    private int terrainTiles;
+    private ChangeJournal.Cursor journalCursor;
+    private ChangeJournal journal;
+    private FixedTimestep timestep;
+    private int steps;
+    private TripleBuffer<int[]> frames;
+    private FramePacer pacer;
+    private long pacerClock;
+    private long pacingNanos;
+    private HeadlessGame headlessGame;
+    private long headlessTicks;
+    private PathScheduler scheduler;
+    private PathRequest[] pathRequests;
+    private PathRequest farRequest;
+    private int farRequestTicks;
+    private long schedulerClock;
+    private List<Mobs> crowd;
+    private Orientation[] firstSteps;
+    private List<Vector> crowdStarts;
+    private int[][] requestOrigins;
+    private boolean[] cancelledRequests;
+    private Orientation navigatorStep;
+    private long navigatorRepairs;
 
     @Given("a new game")
     public void a_new_game() throws Exception {
@@ -53,31 +107,18 @@ public class PlayerSteps {
         resetMoveTimers();
     }
 
-    // we use reflection to set the player's position
+    // Actors on an island keep their state in its entity store, which the fixtures write to directly
     @Given("the player starts at {int},{int}")
     public void the_player_starts_at(Integer x, Integer y) {
-        Vector newPos = new Vector(x, y);
-        try {
-            // 1) Get the Field object for "position" on GameEntity
-            Field posField = GameEntity.class.getDeclaredField("position");
-            // 2) Override Java access checks
-            posField.setAccessible(true);
-            // 3) Set the new Vector on our player instance
-            posField.set(player, newPos);
-        } catch (NoSuchFieldException | IllegalAccessException e) {
-            throw new RuntimeException("Could not set player position via reflection", e);
-        }
+        island.getEntityStore().setPosition(player.getStoreId(), x, y);
         // sanity check
         assertEquals(x.intValue(), (int)player.getPosition().x());
         assertEquals(y.intValue(), (int)player.getPosition().y());
     }
 
     private void resetMoveTimers() {
+        island.getEntityStore().setMoveTimer(player.getStoreId(), -1f);
         try {
-            Field lastMoveField = Actors.class.getDeclaredField("lastMoveTime");
-            lastMoveField.setAccessible(true);
-            lastMoveField.setFloat(player, -1f);
-
             Field movePressField = Player.class.getDeclaredField("movePressTime");
             movePressField.setAccessible(true);
             movePressField.setFloat(player, Float.MAX_VALUE);
@@ -103,8 +144,7 @@ public class PlayerSteps {
             default-> throw new IllegalArgumentException("Unknown key");
         }
         // Simulate key press
-        model.onKeyPressed(new java.awt.event.KeyEvent(
-                new java.awt.Button(), KeyEvent.KEY_PRESSED, 0, 0, code, KeyEvent.CHAR_UNDEFINED));
+        model.perform(KeyBindings.actionFor(code));
     }
 
     @When("the player presses {string} {int} times")
@@ -123,13 +163,7 @@ public class PlayerSteps {
     }
 
     private void setOrientation(Actors actor, Orientation orientation) {
-        try {
-            Field orientationField = Actors.class.getDeclaredField("orientation");
-            orientationField.setAccessible(true);
-            orientationField.set(actor, orientation);
-        } catch (NoSuchFieldException | IllegalAccessException e) {
-            throw new RuntimeException("Could not set player orientation via reflection", e);
-        }
+        island.getEntityStore().setOrientation(actor.getStoreId(), orientation);
     }
 
     @And("the player is facing {string}")
@@ -183,6 +217,13 @@ public class PlayerSteps {
         assertFalse(hasTree);
     }
 
+    @Then("the Tree at {int},{int} should be asleep")
+    public void theTreeShouldBeAsleep(int x, int y) {
+        GameEntity tree = island.getTile(new Vector(x, y)).getEntity();
+        assertInstanceOf(Tree.class, tree);
+        assertTrue(island.isSleeping(tree));
+    }
+
     @Then("the Rock at {int},{int} should no longer exist")
     public void rock_should_be_removed(int x, int y) {
         boolean hasRock = island.getTile(new Vector(x, y)).getEntity() instanceof Rock;
@@ -247,6 +288,55 @@ public class PlayerSteps {
         resetMoveTimers();
     }
 
+    @When("the island is updated")
+    public void theIslandIsUpdated() {
+        // Unlike advancing the game, spawns no random resources
+        island.update(GameConfig.SIMULATION_STEP_NS);
+    }
+
+    @When("the island is updated {int} times")
+    public void theIslandIsUpdatedTimes(int times) {
+        for (int i = 0; i < times; i++) {
+            island.update(GameConfig.SIMULATION_STEP_NS);
+        }
+    }
+
+    @Given("an island of {int} by {int} sand tiles crossed by a river at column {int} with a ford at row {int}")
+    public void anIslandCrossedByARiver(int width, int height, int riverX, int fordY) throws IOException {
+        TileGrid grid = new TileGrid(width, height);
+        for (int chunkY = 0; chunkY < grid.getChunkRows(); chunkY++) {
+            for (int chunkX = 0; chunkX < grid.getChunkColumns(); chunkX++) {
+                int maxY = Math.min(height, (chunkY + 1) * TileGrid.CHUNK_SIZE);
+                int maxX = Math.min(width, (chunkX + 1) * TileGrid.CHUNK_SIZE);
+                for (int y = chunkY * TileGrid.CHUNK_SIZE; y < maxY; y++) {
+                    for (int x = chunkX * TileGrid.CHUNK_SIZE; x < maxX; x++) {
+                        if (x != riverX || y == fordY) grid.setType(grid.index(x, y), TileType.SAND);
+                    }
+                }
+                // Keep only the chunks of the river in arrays, as a loaded map would
+                grid.compactChunk(chunkY * grid.getChunkColumns() + chunkX);
+            }
+        }
+        island = new Island(grid);
+    }
+
+    @Given("an island of {int} by {int} sand tiles")
+    public void anIslandOfSandTiles(int width, int height) throws IOException {
+        // A river outside the island leaves nothing but sand
+        anIslandCrossedByARiver(width, height, width, 0);
+    }
+
+    @Given("the player stands at {int},{int}")
+    public void thePlayerStandsAt(int x, int y) {
+        player = new Player(island, new Vector(x, y));
+        island.addPlayer(player);
+    }
+
+    @Then("the connectivity index should keep one label per tile in {int} chunks")
+    public void theConnectivityIndexShouldKeepOneLabelPerTileIn(int chunks) {
+        assertEquals(chunks, island.getConnectivity().getExpandedChunkCount());
+    }
+
     @Given("a WoodBlock exists at {int},{int}")
     public void woodblock_exists(int x, int y) {
         // create and inject a WoodBlock into the island
@@ -293,6 +383,39 @@ public class PlayerSteps {
         initialAmmo += amt;
     }
 
+    @Given("the obstacle map {string}")
+    public void theObstacleMap(String rows) throws IOException {
+        // Rows are separated by slashes: '.' is sand, '#' is water
+        String[] lines = rows.split("/");
+        TileGrid grid = new TileGrid(lines[0].length(), lines.length);
+        for (int y = 0; y < lines.length; y++) {
+            for (int x = 0; x < lines[y].length(); x++) {
+                if (lines[y].charAt(x) == '.') grid.setType(grid.index(x, y), TileType.SAND);
+            }
+        }
+        island = new Island(grid);
+    }
+
+    @When("the first step from {int},{int} to {int},{int} is searched in {string} and {string} mode")
+    public void theFirstStepIsSearchedIn(int fromX, int fromY, int toX, int toY, String first, String second) {
+        firstSteps = new Orientation[] {
+                new GridPathfinder(island, GridPathfinder.Mode.valueOf(first)).nextStep(fromX, fromY, toX, toY),
+                new GridPathfinder(island, GridPathfinder.Mode.valueOf(second)).nextStep(fromX, fromY, toX, toY)
+        };
+    }
+
+    @Then("both searches should take the first step {string}")
+    public void bothSearchesShouldTakeTheFirstStep(String step) {
+        Orientation expected = step.equals("NONE") ? null : Orientation.valueOf(step);
+        assertEquals(expected, firstSteps[0]);
+        assertEquals(expected, firstSteps[1]);
+    }
+
+    @Given("the island uses {string} navigation")
+    public void the_island_uses_navigation(String mode) {
+        island.setNavigationMode(NavigationMode.valueOf(mode));
+    }
+
     @Given("a Mob exists at {int},{int}")
     public void a_mob_exists_at(int x, int y) {
         mob = new Mobs(island, new Vector(x, y), player);
@@ -302,6 +425,58 @@ public class PlayerSteps {
         i_advance_the_game_by_seconds(0.1f);
     }
 
+    @Given("a Mob stands at {int},{int}")
+    public void a_mob_stands_at(int x, int y) {
+        // Placed right away, without advancing the game and its random spawns
+        mob = new Mobs(island, new Vector(x, y), player);
+        island.addEntity(mob);
+        island.flushEntityCommands();
+        island.getTile(x, y).addEntity(mob);
+        initialMobPos = mob.getPosition();
+    }
+
+    @When("the mob steps {string}")
+    public void theMobSteps(String orientation) {
+        mob.move(Orientation.valueOf(orientation));
+    }
+
+    @Then("the mob should stand at {int},{int}")
+    public void theMobShouldStandAt(int x, int y) {
+        assertEquals(x, (int) mob.getPosition().x());
+        assertEquals(y, (int) mob.getPosition().y());
+    }
+
+    @Then("the tiles {int},{int} and {int},{int} should be connected")
+    public void theTilesShouldBeConnected(int fromX, int fromY, int toX, int toY) {
+        assertTrue(island.getConnectivity().areConnected(fromX, fromY, toX, toY));
+    }
+
+    @Then("the tiles {int},{int} and {int},{int} should not be connected")
+    public void theTilesShouldNotBeConnected(int fromX, int fromY, int toX, int toY) {
+        assertFalse(island.getConnectivity().areConnected(fromX, fromY, toX, toY));
+    }
+
+    @Given("Mobs exist at {int},{int} and {int},{int}")
+    public void mobs_exist_at(int x1, int y1, int x2, int y2) {
+        mob = new Mobs(island, new Vector(x1, y1), player);
+        otherMob = new Mobs(island, new Vector(x2, y2), player);
+        island.addEntity(mob);
+        island.addEntity(otherMob);
+        initialMobPos = mob.getPosition();
+        i_advance_the_game_by_seconds(0.1f);
+    }
+
+    @Given("mob decisions run in parallel")
+    public void mob_decisions_run_in_parallel() {
+        island.setParallelMobThreshold(0);
+    }
+
+    @Then("the mobs should stand on different tiles")
+    public void theMobsShouldStandOnDifferentTiles() {
+        assertNotEquals(mob.getPosition(), otherMob.getPosition());
+        assertSame(mob, island.getTile(mob.getPosition()).getEntity());
+        assertSame(otherMob, island.getTile(otherMob.getPosition()).getEntity());
+    }
 
     @Then("there should be a Bullet at {int},{int}")
     public void bullet_exists(int x, int y) {
@@ -336,6 +511,239 @@ public class PlayerSteps {
         assertEquals(initialPlayerHP - arg0, current);
     }
 
+    @Given("the player is walled in by StoneBlocks")
+    public void thePlayerIsWalledInByStoneBlocks() {
+        int x = (int) player.getPosition().x();
+        int y = (int) player.getPosition().y();
+        for (Orientation orientation : Orientation.values()) {
+            var pos = new Vector(x + orientation.toVector().x() / GameConfig.TILE_SIZE,
+                    y + orientation.toVector().y() / GameConfig.TILE_SIZE);
+            var block = new StoneBlock(pos);
+            island.addEntity(block);
+            island.getTile(pos).addEntity(block);
+            assertInstanceOf(StoneBlock.class, island.getTile(pos).getEntity());
+        }
+    }
+
+    @Then("the player should not be reachable by the mob")
+    public void thePlayerShouldNotBeReachableByTheMob() {
+        int mobX = (int) mob.getPosition().x();
+        int mobY = (int) mob.getPosition().y();
+        int playerX = (int) player.getPosition().x();
+        int playerY = (int) player.getPosition().y();
+        assertFalse(island.isReachable(mobX, mobY, playerX, playerY), "Player should be walled off from the mob");
+        assertNotEquals(island.getComponentId(mobX, mobY), island.getComponentId(playerX, playerY));
+    }
+
+    @Then("the mob's path request should be answered")
+    public void theMobSPathRequestShouldBeAnswered() {
+        int mobX = (int) mob.getPosition().x();
+        int mobY = (int) mob.getPosition().y();
+        assertEquals(0, island.getPathScheduler().getPendingCount());
+        assertTrue(mob.getPathRequest().isReadyFor(mobX, mobY), "Path request should be answered for the mob's tile");
+    }
+
+    @Then("the mob's tile should be reserved")
+    public void theMobSTileShouldBeReserved() {
+        CooperativePlanner planner = assertInstanceOf(CooperativePlanner.class, island.getNavigator());
+        int mobX = (int) mob.getPosition().x();
+        int mobY = (int) mob.getPosition().y();
+        assertTrue(mob.getPathRequest().isOnPlan(mobX, mobY), "Mob should be following a plan");
+        assertTrue(planner.isReserved(mobX, mobY, planner.currentSlot()), "Mob's tile should be reserved");
+    }
+
+    @When("the route from {int},{int} to the player is asked for {int} times")
+    public void theRouteIsAskedFor(int x, int y, int times) {
+        PathCache cache = island.getPathScheduler().getCache();
+        for (int i = 0; i < times; i++) {
+            cache.nextStep(island.getNavigator(), x, y, (int) player.getPosition().x(), (int) player.getPosition().y());
+        }
+    }
+
+    @Then("the navigator should find a first step from {int},{int} to the player")
+    public void theNavigatorShouldFindAFirstStep(int x, int y) {
+        assertNotNull(island.getNavigator().nextStep(x, y, (int) player.getPosition().x(), (int) player.getPosition().y()));
+    }
+
+    @Then("the navigator should find no first step from {int},{int} to the player")
+    public void theNavigatorShouldFindNoFirstStep(int x, int y) {
+        assertNull(island.getNavigator().nextStep(x, y, (int) player.getPosition().x(), (int) player.getPosition().y()));
+    }
+
+    @When("the navigator searches from {int},{int} to {int},{int}")
+    public void theNavigatorSearchesFrom(int fromX, int fromY, int toX, int toY) {
+        long repairedBefore = island.getNavigator() instanceof IncrementalFlowField field ? field.getRepairedTiles() : 0;
+        navigatorStep = island.getNavigator().nextStep(fromX, fromY, toX, toY);
+        if (island.getNavigator() instanceof IncrementalFlowField field) {
+            navigatorRepairs = field.getRepairedTiles() - repairedBefore;
+        }
+    }
+
+    @Then("the first step from {int},{int} to {int},{int} should match a fresh {string} search")
+    public void theFirstStepShouldMatchAFreshSearch(int fromX, int fromY, int toX, int toY, String mode) {
+        Orientation fresh = NavigationMode.valueOf(mode).create(island).nextStep(fromX, fromY, toX, toY);
+        assertNotNull(fresh);
+        assertEquals(fresh, navigatorStep);
+    }
+
+    @Then("the hierarchical pathfinder should have rebuilt the distances of {int} cluster(s)")
+    public void theHierarchicalPathfinderShouldHaveRebuilt(int clusters) {
+        HierarchicalPathfinder pathfinder = (HierarchicalPathfinder) island.getNavigator();
+        assertEquals(clusters, pathfinder.getRebuiltClusterCount());
+    }
+
+    @Then("the incremental flow field should have repaired at most {int} tiles during the last search")
+    public void theIncrementalFlowFieldShouldHaveRepairedAtMost(int tiles) {
+        assertTrue(navigatorRepairs <= tiles, "Repaired " + navigatorRepairs + " tiles");
+    }
+
+    @Then("the path cache should count {int} hit(s) and {int} miss(es)")
+    public void thePathCacheShouldCount(int hits, int misses) {
+        PathCache cache = island.getPathScheduler().getCache();
+        assertEquals(hits, cache.getHitCount());
+        assertEquals(misses, cache.getMissCount());
+    }
+
+    @Given("a path scheduler with a budget of {int} microseconds whose searches take {int} microseconds each")
+    public void aPathSchedulerWhoseSearchesTake(int budgetMicros, int searchMicros) {
+        // The clock advances by a search each time it is read, so the number served per tick is exact
+        schedulerClock = 0;
+        scheduler = new PathScheduler(island, budgetMicros, () -> schedulerClock += searchMicros * 1_000L);
+    }
+
+    @Given("a path request from {int},{int} toward the player is queued")
+    public void aFarPathRequestIsQueued(int x, int y) {
+        farRequest = new PathRequest();
+        scheduler.submit(farRequest, x, y, (int) player.getPosition().x(), (int) player.getPosition().y());
+    }
+
+    @When("{int} path requests from next to the player are queued and served on each of {int} ticks")
+    public void nearPathRequestsAreQueuedAndServed(int perTick, int ticks) {
+        int playerX = (int) player.getPosition().x();
+        int playerY = (int) player.getPosition().y();
+        farRequestTicks = -1;
+        for (int tick = 1; tick <= ticks; tick++) {
+            for (int i = 0; i < perTick; i++) {
+                scheduler.submit(new PathRequest(), playerX + 1 + i % 3, playerY, playerX, playerY);
+            }
+            scheduler.serve();
+            if (farRequestTicks < 0 && farRequest.getStatus() == PathRequest.Status.READY) {
+                farRequestTicks = tick;
+            }
+        }
+    }
+
+    @Then("the far path request should be answered within {int} ticks")
+    public void theFarPathRequestShouldBeAnsweredWithin(int ticks) {
+        assertTrue(farRequestTicks > 0, "the far path request was never answered");
+        assertTrue(farRequestTicks <= ticks, "the far path request was answered after " + farRequestTicks + " ticks");
+    }
+
+    @Given("{int} path requests toward the player are queued")
+    public void pathRequestsAreQueued(int count) {
+        scheduler = new PathScheduler(island, 1_000_000);
+        pathRequests = new PathRequest[count];
+        requestOrigins = new int[count][];
+        cancelledRequests = new boolean[count];
+        for (int i = 0; i < count; i++) {
+            pathRequests[i] = new PathRequest();
+            submitPathRequest(i, 11 + i % 8, 11 + i / 8);
+        }
+    }
+
+    @When("one path request in {int} is cancelled")
+    public void onePathRequestInIsCancelled(int period) {
+        for (int i = 0; i < pathRequests.length; i += period) {
+            scheduler.cancel(pathRequests[i]);
+            cancelledRequests[i] = true;
+        }
+    }
+
+    @When("one path request in {int} is resubmitted from {int},{int}")
+    public void onePathRequestInIsResubmitted(int period, int x, int y) {
+        for (int i = 1; i < pathRequests.length; i += period) {
+            submitPathRequest(i, x, y);
+        }
+    }
+
+    private void submitPathRequest(int i, int x, int y) {
+        scheduler.submit(pathRequests[i], x, y, (int) player.getPosition().x(), (int) player.getPosition().y());
+        requestOrigins[i] = new int[]{x, y};
+        cancelledRequests[i] = false;
+    }
+
+    @Then("the scheduler should answer every path request that was not cancelled")
+    public void theSchedulerShouldAnswerEveryPathRequestThatWasNotCancelled() {
+        int queued = 0;
+        for (boolean cancelled : cancelledRequests) {
+            if (!cancelled) queued++;
+        }
+        assertEquals(queued, scheduler.getPendingCount());
+
+        scheduler.serve();
+        assertEquals(0, scheduler.getPendingCount());
+        for (int i = 0; i < pathRequests.length; i++) {
+            if (cancelledRequests[i]) {
+                assertEquals(PathRequest.Status.IDLE, pathRequests[i].getStatus());
+            } else {
+                assertTrue(pathRequests[i].isReadyFor(requestOrigins[i][0], requestOrigins[i][1]),
+                        "Request " + i + " should be answered from its last tile");
+            }
+        }
+    }
+
+    @Then("the spatial index should find the player at {int},{int}")
+    public void theSpatialIndexShouldFindThePlayerAt(int x, int y) {
+        assertTrue(island.getSpatialIndex().queryRectangle(x, y, x, y).contains(player));
+        assertTrue(island.getSpatialIndex().queryRadius(new Vector(x, y), 0.5f, Player.class).contains(player));
+    }
+
+    @Then("the nearest Mob within {int} tiles of {int},{int} should be the mob")
+    public void theNearestMobShouldBeTheMob(int radius, int x, int y) {
+        assertSame(mob, island.getSpatialIndex().findNearest(new Vector(x, y), Mobs.class, radius));
+    }
+
+    @Given("{int} mobs stand every {int} tiles around the player")
+    public void mobsStandAroundThePlayer(int count, int spacing) {
+        int side = (int) Math.ceil(Math.sqrt(count));
+        int originX = (int) player.getPosition().x() - side * spacing / 2;
+        int originY = (int) player.getPosition().y() - side * spacing / 2;
+        crowd = new ArrayList<>(count);
+        crowdStarts = new ArrayList<>(count);
+        for (int i = 0; crowd.size() < count; i++) {
+            int x = originX + i % side * spacing;
+            int y = originY + i / side * spacing;
+            if (!island.isWalkable(x, y)) continue;
+            Mobs crowdMob = new Mobs(island, new Vector(x, y), player);
+            island.placeEntity(x, y, crowdMob);
+            island.addEntity(crowdMob);
+            crowd.add(crowdMob);
+            crowdStarts.add(crowdMob.getPosition());
+        }
+        island.flushEntityCommands();
+    }
+
+    @Then("the island should store {int} mobs")
+    public void theIslandShouldStoreMobs(int count) {
+        assertEquals(count, island.getEntityStore().size(Archetype.MOB));
+    }
+
+    @Then("at least {int} of the mobs should have moved")
+    public void atLeastOfTheMobsShouldHaveMoved(int count) {
+        int moved = 0;
+        for (int i = 0; i < crowd.size(); i++) {
+            if (!crowd.get(i).getPosition().equals(crowdStarts.get(i))) moved++;
+        }
+        assertTrue(moved >= count, moved + " mobs moved");
+    }
+
+    @Then("the island should store {int} projectile(s)")
+    public void theIslandShouldStoreProjectiles(int count) {
+        // Shots fired between updates join the island at the next flush
+        island.flushEntityCommands();
+        assertEquals(count, island.getEntityStore().size(Archetype.PROJECTILE));
+    }
+
     @Then("the mob's position should be closer to the player")
     public void theMobSPositionShouldBeCloserToThePlayer() {
         // Check if the mob's position is closer to the player
@@ -350,14 +758,8 @@ public class PlayerSteps {
 
     @Given("the player's health is {int}")
     public void thePlayerSHealthIs(int arg0) {
-        try {
-            Field health = GameEntity.class.getDeclaredField("health");
-            health.setAccessible(true);
-            health.set(player, arg0);
-            initialPlayerHP = arg0;
-        } catch (NoSuchFieldException | IllegalAccessException e) {
-            throw new RuntimeException(e);
-        }
+        island.getEntityStore().setHealth(player.getStoreId(), arg0);
+        initialPlayerHP = arg0;
     }
 
     @Then("the mob should not move")
@@ -385,4 +787,361 @@ public class PlayerSteps {
         }
 
     }
-}
\ No newline at end of file
+
+    @Given("the map is converted to the binary format")
+    public void theMapIsConvertedToTheBinaryFormat() throws Exception {
+        binaryMap = Files.createTempFile("map", MapFile.EXTENSION);
+        binaryMap.toFile().deleteOnExit();
+        new IslandMapGenerator("src/main/resources/MapDesign.txt").save(binaryMap);
+    }
+
+    @When("a byte of the binary map is changed")
+    public void aByteOfTheBinaryMapIsChanged() throws Exception {
+        byte[] bytes = Files.readAllBytes(binaryMap);
+        bytes[bytes.length - 1] ^= 1;
+        Files.write(binaryMap, bytes);
+    }
+
+    @Then("the binary map should hold the same tiles as the text map")
+    public void theBinaryMapShouldHoldTheSameTilesAsTheTextMap() throws Exception {
+        TileGrid text = new IslandMapGenerator("src/main/resources/MapDesign.txt").getGrid();
+        TileGrid binary = IslandMapGenerator.load(binaryMap.toString()).getGrid();
+
+        assertEquals(text.getWidth(), binary.getWidth());
+        assertEquals(text.getHeight(), binary.getHeight());
+        for (int y = 0; y < text.getHeight(); y++) {
+            for (int x = 0; x < text.getWidth(); x++) {
+                assertSame(text.getType(x, y), binary.getType(x, y), "Tile " + x + "," + y);
+            }
+        }
+    }
+
+    @Then("loading the binary map should fail")
+    public void loadingTheBinaryMapShouldFail() {
+        assertThrows(IOException.class, () -> IslandMapGenerator.load(binaryMap.toString()));
+    }
+
+    @Given("a copy of the map design is converted to the binary format next to it")
+    public void aCopyOfTheMapDesignIsConverted() throws Exception {
+        Path directory = Files.createTempDirectory("maps");
+        mapDesign = directory.resolve("MapDesign.txt");
+        binaryMap = directory.resolve("MapDesign" + MapFile.EXTENSION);
+        Files.copy(Path.of("src/main/resources/MapDesign.txt"), mapDesign);
+        new IslandMapGenerator(mapDesign.toString()).save(binaryMap);
+        mapDesign.toFile().deleteOnExit();
+        binaryMap.toFile().deleteOnExit();
+        directory.toFile().deleteOnExit();
+    }
+
+    @When("a tile of the map design is edited")
+    public void aTileOfTheMapDesignIsEdited() throws Exception {
+        byte[] bytes = Files.readAllBytes(mapDesign);
+        bytes[0] = (byte) (bytes[0] == '0' ? '1' : '0');
+        Files.write(mapDesign, bytes);
+    }
+
+    @Then("the binary map should be selected to load the map design")
+    public void theBinaryMapShouldBeSelected() {
+        assertEquals(binaryMap, MapFile.select(mapDesign));
+    }
+
+    @Then("the map design should be selected to load itself")
+    public void theMapDesignShouldBeSelected() {
+        assertEquals(mapDesign, MapFile.select(mapDesign));
+    }
+
+    @Then("parsing the text map {string} should fail with {string}")
+    public void parsingTheTextMapShouldFailWith(String rows, String message) {
+        // Rows are separated by '|' in the scenario and by CRLF in the parsed text
+        ByteBuffer text = ByteBuffer.wrap(rows.replace("|", "\r\n").getBytes(StandardCharsets.US_ASCII));
+        IOException error = assertThrows(IOException.class, () -> MapTextParser.parse(text));
+        assertEquals(message, error.getMessage());
+    }
+
+    @Then("the text map {string} should parse to its tile codes with {string} line endings")
+    public void theTextMapShouldParseToItsTileCodes(String rows, String endings) throws IOException {
+        String lineBreak = endings.equals("CRLF") ? "\r\n" : "\n";
+        ByteBuffer text = ByteBuffer.wrap((rows.replace("|", lineBreak) + lineBreak).getBytes(StandardCharsets.US_ASCII));
+        MapTextParser.ParsedMap map = MapTextParser.parse(text);
+
+        String[] lines = rows.split("\\|");
+        assertEquals(lines.length, map.height());
+        for (int y = 0; y < lines.length; y++) {
+            String[] tokens = lines[y].split(" ");
+            assertEquals(tokens.length, map.width());
+            for (int x = 0; x < tokens.length; x++) {
+                assertEquals(Integer.parseInt(tokens[x]), map.codeAt(x, y), "Tile " + x + "," + y);
+            }
+        }
+    }
+
+    @Then("a generated text map of {int} by {int} tiles should parse to its tile codes")
+    public void aGeneratedTextMapShouldParse(int width, int height) throws IOException {
+        // Enough tiles to take the parallel path; CRLF endings and irregular spacing on some rows
+        StringBuilder text = new StringBuilder(width * height * 2);
+        for (int y = 0; y < height; y++) {
+            for (int x = 0; x < width; x++) {
+                if (x > 0) text.append(y % 3 == 0 ? "  " : " ");
+                text.append(generatedCode(x, y));
+            }
+            text.append(y % 2 == 0 ? "\r\n" : "\n");
+        }
+        MapTextParser.ParsedMap map = MapTextParser.parse(
+                ByteBuffer.wrap(text.toString().getBytes(StandardCharsets.US_ASCII)));
+
+        assertEquals(width, map.width());
+        assertEquals(height, map.height());
+        for (int y = 0; y < height; y++) {
+            for (int x = 0; x < width; x++) {
+                if (map.codeAt(x, y) != generatedCode(x, y)) {
+                    fail("Tile " + x + "," + y + " is " + map.codeAt(x, y) + " instead of " + generatedCode(x, y));
+                }
+            }
+        }
+    }
+
+    private static int generatedCode(int x, int y) {
+        return (x * 7 + y * 3) % TileType.values().length;
+    }
+
+    @Then("parsing {string} should give the same tiles as the legacy loader")
+    public void parsingShouldGiveTheSameTilesAsTheLegacyLoader(String fileName) throws IOException {
+        int[][] legacy = IslandMapGenerator.loadTableFromFile(fileName);
+        MapTextParser.ParsedMap map = MapTextParser.parse(Path.of(fileName));
+
+        assertEquals(legacy.length, map.height());
+        for (int y = 0; y < legacy.length; y++) {
+            assertEquals(legacy[y].length, map.width(), "Width of row " + y);
+            for (int x = 0; x < legacy[y].length; x++) {
+                assertEquals(legacy[y][x], map.codeAt(x, y), "Tile " + x + "," + y);
+            }
+        }
+    }
+
+    @Given("the island's changes are observed")
+    public void theIslandsChangesAreObserved() {
+        journalCursor = island.getJournal().newCursor();
+        island.registerObserver(s -> {
+            if (island.getLastChangeType() == Island.ChangeType.TERRAIN) {
+                terrainBatches++;
+                terrainTiles += island.getTerrainChanges().size();
+            }
+        });
+    }
+
+    @Then("the journal should record {int} {word} change(s)")
+    public void theJournalShouldRecordChanges(int count, String kind) {
+        int[] found = {0};
+        journalCursor.drain((k, tick, id, x, y, value) -> {
+            if (k == ChangeJournal.Kind.valueOf(kind)) found[0]++;
+        });
+        assertEquals(0, journalCursor.getLostCount());
+        assertEquals(count, found[0]);
+    }
+
+    @When("the tile at {int},{int} is turned into {string}")
+    public void theTileAtIsTurnedInto(int x, int y, String type) {
+        island.setTerrain(x, y, TileType.valueOf(type));
+    }
+
+    @When("the tiles from {int},{int} to {int},{int} are turned into {string}")
+    public void theTilesFromToAreTurnedInto(int minX, int minY, int maxX, int maxY, String type) {
+        for (int y = minY; y <= maxY; y++) {
+            for (int x = minX; x <= maxX; x++) {
+                island.setTerrain(x, y, TileType.valueOf(type));
+            }
+        }
+    }
+
+    @Then("the tile at {int},{int} should be {string}")
+    public void theTileAtShouldBe(int x, int y, String type) {
+        assertSame(TileType.valueOf(type), island.getTile(x, y).getType());
+        assertEquals(TileType.valueOf(type).isWalkable, island.isWalkable(x, y));
+    }
+
+    @Then("the tile at {int},{int} should not be walkable")
+    public void theTileAtShouldNotBeWalkable(int x, int y) {
+        assertFalse(island.isWalkable(x, y));
+    }
+
+    @Then("{int} terrain change(s) of {int} tiles should have been published")
+    public void terrainChangesShouldHaveBeenPublished(int batches, int tiles) {
+        assertEquals(batches, terrainBatches);
+        assertEquals(tiles, terrainTiles);
+    }
+
+    @Given("a fixed timestep of {int} ms with at most {int} catch-up steps")
+    public void aFixedTimestep(int stepMillis, int maxSteps) {
+        timestep = new FixedTimestep(stepMillis * 1_000_000L, maxSteps);
+    }
+
+    @When("{int} ms of real time elapse")
+    public void realTimeElapses(int millis) {
+        steps = timestep.advance(millis * 1_000_000L);
+    }
+
+    @Then("{int} simulation step(s) should run")
+    public void simulationStepsShouldRun(int expected) {
+        assertEquals(expected, steps);
+    }
+
+    @Then("the render interpolation should be {float}")
+    public void theRenderInterpolationShouldBe(float alpha) {
+        assertEquals(alpha, timestep.getAlpha(), 1e-6);
+    }
+
+    @Then("{int} ms of simulated time should have been dropped")
+    public void simulatedTimeShouldHaveBeenDropped(int millis) {
+        assertEquals(millis * 1_000_000L, timestep.getDroppedNanos());
+    }
+
+    @Given("a triple buffer of frames")
+    public void aTripleBufferOfFrames() {
+        frames = new TripleBuffer<>(() -> new int[1]);
+    }
+
+    @When("the simulation publishes frame {int}")
+    public void theSimulationPublishesFrame(int frame) {
+        frames.getBack()[0] = frame;
+        frames.publish();
+    }
+
+    @When("the simulation publishes frames {int}, {int} and {int}")
+    public void theSimulationPublishesFrames(int first, int second, int third) {
+        for (int frame : new int[]{first, second, third}) {
+            theSimulationPublishesFrame(frame);
+        }
+    }
+
+    @Then("the renderer should read frame {int}")
+    public void theRendererShouldReadFrame(int frame) {
+        assertEquals(frame, frames.read()[0]);
+    }
+
+    @Given("a frame pacer of {int} ms per frame that drops late frames")
+    public void aFramePacerThatDrops(int millis) {
+        pacer = new FramePacer(millis * 1_000_000L, 0, FramePacer.OverrunPolicy.DROP,
+                GameConfig.MAX_CATCH_UP_STEPS, () -> pacerClock);
+    }
+
+    @Given("a frame pacer of {int} ms per frame that catches up late frames")
+    public void aFramePacerThatCatchesUp(int millis) {
+        pacer = new FramePacer(millis * 1_000_000L, 0, FramePacer.OverrunPolicy.CATCH_UP,
+                GameConfig.MAX_CATCH_UP_STEPS, () -> pacerClock);
+    }
+
+    @Given("a frame pacer of {int} ms per frame on the system clock")
+    public void aFramePacerOnTheSystemClock(int millis) {
+        pacer = new FramePacer(millis * 1_000_000L, FramePacer.OverrunPolicy.DROP);
+    }
+
+    @When("a frame takes {int} ms")
+    public void aFrameTakes(int millis) {
+        // Only used for frames ending at or after their deadline: the fake clock never moves while waiting
+        pacerClock += millis * 1_000_000L;
+        pacer.awaitFrameEnd();
+    }
+
+    @When("{int} frames are paced")
+    public void framesArePaced(int count) {
+        long start = System.nanoTime();
+        for (int i = 0; i < count; i++) {
+            pacer.awaitFrameEnd();
+        }
+        pacingNanos = System.nanoTime() - start;
+    }
+
+    @Then("at least {int} ms should have elapsed")
+    public void atLeastShouldHaveElapsed(int millis) {
+        assertTrue(pacingNanos >= millis * 1_000_000L - pacer.getFrameNanos());
+    }
+
+    @Then("the pacer should have paced {int} frames")
+    public void thePacerShouldHavePaced(int count) {
+        assertEquals(count, pacer.getStats().frames());
+    }
+
+    @Then("the pacer should count {int} overrun(s) and {int} dropped frames")
+    public void thePacerShouldCount(int overruns, int dropped) {
+        assertEquals(overruns, pacer.getStats().overruns());
+        assertEquals(dropped, pacer.getStats().droppedFrames());
+    }
+
+    @Then("the pacer should count {int} caught-up frame(s)")
+    public void thePacerShouldCountCaughtUpFrames(int caughtUp) {
+        assertEquals(caughtUp, pacer.getStats().caughtUpFrames());
+    }
+
+    @Then("the next frame should be due at {int} ms")
+    public void theNextFrameShouldBeDueAt(int millis) {
+        assertEquals(millis * 1_000_000L, pacer.getDeadline());
+    }
+
+    @Given("a headless game")
+    public void aHeadlessGame() throws IOException {
+        headlessGame = new HeadlessGame("src/main/resources/MapDesign.txt");
+    }
+
+    @When("the headless game runs {int} tick(s) as fast as possible")
+    public void theHeadlessGameRunsAsFastAsPossible(int ticks) {
+        headlessTicks = headlessGame.runAsFastAsPossible(ticks);
+    }
+
+    @When("the headless game runs {int} tick(s) at a fixed rate")
+    public void theHeadlessGameRunsAtAFixedRate(int ticks) {
+        long start = System.nanoTime();
+        headlessTicks = headlessGame.runAtFixedRate(ticks);
+        pacingNanos = System.nanoTime() - start;
+    }
+
+    @When("the headless player performs {string}")
+    public void theHeadlessPlayerPerforms(String action) {
+        headlessGame.perform(PlayerAction.valueOf(action));
+    }
+
+    @Then("{int} ticks should have run")
+    public void ticksShouldHaveRun(int ticks) {
+        assertEquals(ticks, headlessTicks);
+        assertEquals(ticks, headlessGame.getTickCount());
+    }
+
+    @Then("the headless game should be preparing a wave")
+    public void theHeadlessGameShouldBePreparingAWave() {
+        assertTrue(headlessGame.getGameLogic().getIsPreparing());
+    }
+
+    @Then("the inventory of the headless player should be {word}")
+    public void theInventoryOfTheHeadlessPlayerShouldBe(String state) {
+        assertEquals(state.equals("open"), headlessGame.getPlayer().getInventory().isOpen());
+    }
+
+    @Then("the run should have lasted at least {int} simulation steps")
+    public void theRunShouldHaveLastedAtLeast(int steps) {
+        assertTrue(pacingNanos >= steps * GameConfig.SIMULATION_STEP_NS);
+    }
+
+    @Given("a change journal of capacity {int} and a cursor on it")
+    public void aChangeJournalAndACursor(int capacity) {
+        journal = new ChangeJournal(capacity);
+        journalCursor = journal.newCursor();
+    }
+
+    @When("{int} moves are appended to the journal")
+    public void movesAreAppendedToTheJournal(int count) {
+        for (int i = 0; i < count; i++) {
+            journal.append(ChangeJournal.Kind.MOVE, 1, i, 0, 0);
+        }
+    }
+
+    @Then("the cursor should drain {int} records and lose {int}")
+    public void theCursorShouldDrain(int drained, int lost) {
+        int[] lastX = {-1};
+        assertEquals(drained, journalCursor.drain((kind, tick, id, x, y, value) -> {
+            // Records come out in order, the newest last
+            assertTrue(x > lastX[0]);
+            lastX[0] = x;
+        }));
+        assertEquals(lost, journalCursor.getLostCount());
+        assertEquals(0, journalCursor.getPending());
+    }
+}
@@ -10,6 +10,7 @@ Feature: Bullet mechanics
     When the player presses "G"
     Then there should be a Bullet at 11,10
     And the player's Ammo inventory should decrease by 1
+    And the island should store 1 projectile
 
   Scenario: Bullet disappears on water
     And the player starts at 12,5
@@ -30,3 +31,4 @@ Feature: Bullet mechanics
     And I advance the game by 1 seconds
     Then the mob's health should decrease by 50
     And the Bullet at 11,10 should no longer exist
+    And the island should store 0 projectiles
@@ -0,0 +1,16 @@
+Feature: Change journal
+
+  Scenario: A cursor drains the records of a journal
+    Given a change journal of capacity 16 and a cursor on it
+    When 10 moves are appended to the journal
+    Then the cursor should drain 10 records and lose 0
+
+  Scenario: The oldest record is lost exactly one capacity behind the head
+    Given a change journal of capacity 16 and a cursor on it
+    When 16 moves are appended to the journal
+    Then the cursor should drain 15 records and lose 1
+
+  Scenario: Records overwritten by a lapping writer are lost
+    Given a change journal of capacity 16 and a cursor on it
+    When 100 moves are appended to the journal
+    Then the cursor should drain 15 records and lose 85
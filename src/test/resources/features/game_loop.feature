@@ -0,0 +1,56 @@
+Feature: Fixed-timestep game loop
+
+  Scenario: Real time is simulated in whole steps and the rest interpolated
+    Given a fixed timestep of 50 ms with at most 5 catch-up steps
+    When 120 ms of real time elapse
+    Then 2 simulation steps should run
+    And the render interpolation should be 0.4
+    When 40 ms of real time elapse
+    Then 1 simulation step should run
+    And the render interpolation should be 0.2
+
+  Scenario: A stall is caught up with a limited number of steps
+    Given a fixed timestep of 50 ms with at most 5 catch-up steps
+    When 1010 ms of real time elapse
+    Then 5 simulation steps should run
+    And 750 ms of simulated time should have been dropped
+    And the render interpolation should be 0.2
+
+  Scenario: The renderer always draws the latest complete frame
+    Given a triple buffer of frames
+    When the simulation publishes frames 1, 2 and 3
+    Then the renderer should read frame 3
+    And the renderer should read frame 3
+    When the simulation publishes frame 4
+    Then the renderer should read frame 4
+
+  Scenario: Frames a slow frame ran into are dropped
+    Given a frame pacer of 10 ms per frame that drops late frames
+    When a frame takes 35 ms
+    Then the pacer should count 1 overrun and 2 dropped frames
+    And the next frame should be due at 40 ms
+
+  Scenario: Frames a slow frame ran into are caught up
+    Given a frame pacer of 10 ms per frame that catches up late frames
+    When a frame takes 35 ms
+    Then the pacer should count 1 overrun and 0 dropped frames
+    And the next frame should be due at 20 ms
+    When a frame takes 0 ms
+    And a frame takes 0 ms
+    Then the pacer should count 1 overrun and 0 dropped frames
+    And the pacer should count 2 caught-up frames
+    And the next frame should be due at 40 ms
+    When a frame takes 15 ms
+    Then the pacer should count 2 overruns and 0 dropped frames
+
+  Scenario: Catching up is limited
+    Given a frame pacer of 10 ms per frame that catches up late frames
+    When a frame takes 100 ms
+    Then the pacer should count 1 overrun and 4 dropped frames
+    And the next frame should be due at 60 ms
+
+  Scenario: Frames on time wait for their deadline
+    Given a frame pacer of 2 ms per frame on the system clock
+    When 5 frames are paced
+    Then at least 10 ms should have elapsed
+    And the pacer should have paced 5 frames
@@ -0,0 +1,20 @@
+Feature: Headless game
+
+  Scenario: A headless game runs ticks as fast as possible
+    Given a headless game
+    When the headless game runs 40 ticks as fast as possible
+    Then 40 ticks should have run
+    And the headless game should be preparing a wave
+
+  Scenario: Actions are applied at the next tick
+    Given a headless game
+    When the headless player performs "TOGGLE_INVENTORY"
+    Then the inventory of the headless player should be closed
+    When the headless game runs 1 tick as fast as possible
+    Then the inventory of the headless player should be open
+
+  Scenario: A headless game can run at the simulation rate
+    Given a headless game
+    When the headless game runs 4 ticks at a fixed rate
+    Then 4 ticks should have run
+    And the run should have lasted at least 3 simulation steps
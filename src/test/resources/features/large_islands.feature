@@ -0,0 +1,40 @@
+Feature: Large islands
+  Navigation state is kept per chunk or around the player, so islands of 8192 by 8192 tiles fit in memory.
+
+  Scenario: Connectivity on an 8192 by 8192 island only stores labels where the terrain varies
+    Given an island of 8192 by 8192 sand tiles crossed by a river at column 4000 with a ford at row 8191
+    Then the tiles 0,0 and 8191,8191 should be connected
+    And the connectivity index should keep one label per tile in 256 chunks
+    When the tile at 4000,8191 is turned into "WATER"
+    Then the tiles 0,0 and 8191,8191 should not be connected
+    And the tiles 0,0 and 3999,8191 should be connected
+    And the connectivity index should keep one label per tile in 256 chunks
+
+  Scenario: A mob chases the player across an 8192 by 8192 island
+    Given an island of 8192 by 8192 sand tiles crossed by a river at column 4000 with a ford at row 8191
+    And the player stands at 6000,6000
+    And a Mob stands at 6012,6005
+    When the island is updated 40 times
+    Then the mob's position should be closer to the player
+
+  Scenario: Flow field navigation only routes from within the navigation radius of the player
+    Given an island of 8192 by 8192 sand tiles crossed by a river at column 4000 with a ford at row 8191
+    And the player stands at 6000,6000
+    Then the navigator should find a first step from 6111,6111 to the player
+    And the tiles 6300,6000 and 6000,6000 should be connected
+    But the navigator should find no first step from 6300,6000 to the player
+
+  Scenario: Mobs beyond the active chunks wait for the player to come closer
+    Given an island of 8192 by 8192 sand tiles crossed by a river at column 4000 with a ford at row 8191
+    And the player stands at 6000,6000
+    And a Mob stands at 6300,6000
+    When the island is updated 40 times
+    Then the mob should stand at 6300,6000
+
+  Scenario: Ten thousand mobs are moved straight from the entity store
+    Given an island of 512 by 512 sand tiles
+    And the player stands at 256,256
+    And 10000 mobs stand every 2 tiles around the player
+    Then the island should store 10000 mobs
+    When the island is updated 40 times
+    Then at least 5000 of the mobs should have moved
@@ -0,0 +1,37 @@
+Feature: Binary map files
+
+  Scenario: A converted map loads the same tiles as its text design
+    Given the map is converted to the binary format
+    Then the binary map should hold the same tiles as the text map
+
+  Scenario: A corrupted binary map is rejected
+    Given the map is converted to the binary format
+    When a byte of the binary map is changed
+    Then loading the binary map should fail
+
+  Scenario: A binary map converted from the current design is loaded instead of it
+    Given a copy of the map design is converted to the binary format next to it
+    Then the binary map should be selected to load the map design
+
+  Scenario: A binary map converted before its design was edited is ignored
+    Given a copy of the map design is converted to the binary format next to it
+    When a tile of the map design is edited
+    Then the map design should be selected to load itself
+
+  Scenario: A ragged text map is rejected with the faulty line
+    Then parsing the text map "0 1 2|1 1" should fail with "Line 2 has 2 tiles instead of 3"
+
+  Scenario: A CRLF-terminated text map parses like an LF one
+    Then the text map "0 1 2|1 3 1|2 2 0" should parse to its tile codes with "CRLF" line endings
+    And the text map "0 1 2|1 3 1|2 2 0" should parse to its tile codes with "LF" line endings
+
+  Scenario: A large text map is parsed in parallel row ranges
+    Then a generated text map of 1200 by 1000 tiles should parse to its tile codes
+
+  Scenario Outline: The shipped maps parse to the same tiles as the legacy loader
+    Then parsing "<map>" should give the same tiles as the legacy loader
+
+    Examples:
+      | map                                |
+      | src/main/resources/MapDesign1.txt  |
+      | src/main/resources/MapDesign2.txt  |
@@ -14,8 +14,152 @@ Feature: Mob behavior
     When I advance the game by 1 seconds
     Then the mob's position should be closer to the player
 
+  Scenario Outline: Mob chases player with <mode> navigation
+    Given the island uses "<mode>" navigation
+    And a Mob exists at 10,8
+    When I advance the game by 1 seconds
+    Then the mob's position should be closer to the player
+
+    Examples:
+      | mode                   |
+      | BREADTH_FIRST          |
+      | A_STAR                 |
+      | JUMP_POINT             |
+      | HIERARCHICAL           |
+      | INCREMENTAL_FLOW_FIELD |
+      | COOPERATIVE            |
+
+  Scenario: Mob path request is answered on the next tick
+    Given a Mob exists at 13,10
+    When I advance the game by 0.1 seconds
+    Then the mob's path request should be answered
+
+  Scenario: Mob reserves the tiles of its cooperative plan
+    Given the island uses "COOPERATIVE" navigation
+    And a Mob exists at 13,10
+    When I advance the game by 0.1 seconds
+    Then the mob's tile should be reserved
+
+  Scenario: Mobs deciding in the same tick never share a tile
+    Given Mobs exist at 12,10 and 13,10
+    When I advance the game by 1 seconds
+    And I advance the game by 1 seconds
+    Then the mobs should stand on different tiles
+
+  Scenario: Mobs deciding in parallel never share a tile
+    Given mob decisions run in parallel
+    And Mobs exist at 12,10 and 13,10
+    When I advance the game by 1 seconds
+    And I advance the game by 1 seconds
+    Then the mobs should stand on different tiles
+    And the mob's position should be closer to the player
+
+  Scenario: Identical route queries are answered from the path cache
+    When the route from 13,10 to the player is asked for 3 times
+    Then the path cache should count 2 hits and 1 miss
+
+  Scenario: The path cache is invalidated when a tile changes
+    When the route from 13,10 to the player is asked for 1 times
+    And a WoodBlock exists at 12,12
+    And the route from 13,10 to the player is asked for 1 times
+    Then the path cache should count 0 hits and 2 misses
+
+  Scenario: The path cache keeps its answers while actors move
+    When the route from 13,10 to the player is asked for 1 times
+    And a Mob stands at 14,19
+    And the mob steps "EAST"
+    And the route from 13,10 to the player is asked for 1 times
+    Then the mob should stand at 15,19
+    And the path cache should count 1 hit and 1 miss
+
+  Scenario: Queued path requests can be cancelled and resubmitted
+    Given 40 path requests toward the player are queued
+    When one path request in 3 is cancelled
+    And one path request in 4 is resubmitted from 13,10
+    Then the scheduler should answer every path request that was not cancelled
+
+  # Near requests arrive faster than they are served, so without aging the far one would wait forever.
+  # Aged by 4 tiles a tick, it overtakes those queued from tick 13 on: 39 requests go first, 2 per tick.
+  Scenario: A far path request is answered in bounded time while near requests keep coming
+    Given a path scheduler with a budget of 2000 microseconds whose searches take 1000 microseconds each
+    And a path request from 40,30 toward the player is queued
+    When 3 path requests from next to the player are queued and served on each of 60 ticks
+    Then the far path request should be answered within 20 ticks
+
+  Scenario: Nearest-mob query finds a mob that moved
+    Given a Mob exists at 13,10
+    When I advance the game by 1 seconds
+    Then the nearest Mob within 5 tiles of 10,10 should be the mob
+
+  Scenario: Mob knows a walled-in player is out of reach
+    Given a Mob exists at 10,7
+    And the player is walled in by StoneBlocks
+    Then the player should not be reachable by the mob
+
   Scenario: Mob stops chasing if player is dead
     Given the player's health is 0
     And a Mob exists at 11,10
     When I advance the game by 0.5 seconds
     Then the mob should not move
+
+
+  Scenario Outline: Jump point search takes the breadth-first first step on <map>
+    Given the obstacle map "<rows>"
+    When the first step from <from> to <to> is searched in "JUMP_POINT" and "BREADTH_FIRST" mode
+    Then both searches should take the first step "<step>"
+
+    Examples:
+      | map         | rows                                                                  | from | to  | step  |
+      | open ground | ........./........./........./........./........./........./......... | 0,0  | 8,6 | EAST  |
+      | open ground | ........./........./........./........./........./........./......... | 8,6  | 0,0 | NORTH |
+      | open ground | ........./........./........./........./........./........./......... | 4,3  | 4,0 | NORTH |
+      | pillars     | ........./.#.#.#.#./........./.#.#.#.#./........./.#.#.#.#./......... | 0,0  | 8,6 | EAST  |
+      | pillars     | ........./.#.#.#.#./........./.#.#.#.#./........./.#.#.#.#./......... | 2,2  | 6,4 | EAST  |
+      | pillars     | ........./.#.#.#.#./........./.#.#.#.#./........./.#.#.#.#./......... | 8,0  | 0,6 | SOUTH |
+      | gapped wall | ....#..../....#..../....#..../........./....#..../....#..../....#.... | 0,0  | 8,0 | EAST  |
+      | gapped wall | ....#..../....#..../....#..../........./....#..../....#..../....#.... | 2,3  | 6,3 | EAST  |
+      | gapped wall | ....#..../....#..../....#..../........./....#..../....#..../....#.... | 8,6  | 0,6 | NORTH |
+      | u trap      | ........./..#####../..#...#../..#...#../......#../........./......... | 4,2  | 4,0 | SOUTH |
+      | u trap      | ........./..#####../..#...#../..#...#../......#../........./......... | 4,0  | 4,3 | WEST  |
+      | u trap      | ........./..#####../..#...#../..#...#../......#../........./......... | 0,6  | 8,0 | NORTH |
+      | closed box  | ........./..#####../..#...#../..#...#../..#####../........./......... | 4,2  | 8,6 | NONE  |
+
+  Scenario Outline: Hierarchical navigation rebuilds only the clusters around a tile turned into <terrain>
+    # Clusters are 16 tiles wide: a tile inside a cluster only changes its own distances,
+    # a tile on its edge can also move the entrances shared with its neighbors
+    Given an island of 64 by 64 sand tiles
+    And the island uses "HIERARCHICAL" navigation
+    And the tiles from 20,0 to 20,62 are turned into "WATER"
+    And the navigator searches from 5,40 to 40,5
+    When the tile at <x>,<y> is turned into "<terrain>"
+    And the navigator searches from 5,40 to 40,5
+    Then the hierarchical pathfinder should have rebuilt the distances of <clusters> clusters
+    And the first step from 5,40 to 40,5 should match a fresh "HIERARCHICAL" search
+
+    Examples:
+      | x  | y  | terrain | clusters |
+      | 20 | 40 | SAND    | 1        |
+      | 6  | 40 | WATER   | 1        |
+      | 5  | 41 | WATER   | 1        |
+      | 31 | 40 | WATER   | 5        |
+      | 30 | 63 | WATER   | 4        |
+
+  Scenario Outline: Incremental flow field repairs only the tiles around a tile turned into <terrain>
+    # Opening the wall at 20,40 brings a few hundred of the 4096 tiles closer to the target;
+    # the other changes leave every distance the mob needs as it was
+    Given an island of 64 by 64 sand tiles
+    And the island uses "INCREMENTAL_FLOW_FIELD" navigation
+    And the tiles from 20,0 to 20,62 are turned into "WATER"
+    And the navigator searches from 5,40 to 40,5
+    When the tile at <x>,<y> is turned into "<terrain>"
+    And the navigator searches from 5,40 to 40,5
+    Then the incremental flow field should have repaired at most <tiles> tiles during the last search
+    And the first step from 5,40 to 40,5 should match a fresh "INCREMENTAL_FLOW_FIELD" search
+
+    Examples:
+      | x  | y  | terrain | tiles |
+      | 60 | 60 | WATER   | 4     |
+      | 6  | 40 | WATER   | 4     |
+      | 5  | 41 | WATER   | 4     |
+      | 30 | 50 | WATER   | 4     |
+      | 20 | 40 | SAND    | 256   |
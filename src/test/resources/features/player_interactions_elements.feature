@@ -19,6 +19,13 @@ Feature: Player interaction with elements
     Then the Tree at 11,10 should no longer exist
     And the player's inventory should contain 9 Wood
 
+  Scenario: A tree sleeps until it is chopped down
+    And a Tree exists at 11,10
+    And the player is facing "EAST"
+    Then the Tree at 11,10 should be asleep
+    When the player presses "S" 2 times
+    Then the Tree at 11,10 should no longer exist
+
   Scenario: Mine a rock and farm stone
     And a Rock exists at 10,11
     And the player is facing "SOUTH"
@@ -71,4 +78,11 @@ Feature: Player interaction with elements
     When the player presses "E"
     Then the inventory is open
     When the player presses "E"
-    Then the inventory is closed
\ No newline at end of file
+    Then the inventory is closed
+
+  Scenario: Hitting a tree is recorded in the island's journal
+    And a Tree exists at 11,10
+    And the island's changes are observed
+    And the player is facing "EAST"
+    When the player presses "S" 1 times
+    Then the journal should record 1 DAMAGE change
@@ -15,6 +15,22 @@ Feature: Player movement on the island
     When the player presses "RIGHT"
     Then the player's position should be 11,10
 
+  Scenario: Spatial index follows the player
+    Given a new game
+    And the player starts at 10,10
+    And the player is facing "EAST"
+    When the player presses "RIGHT"
+    Then the player's position should be 11,10
+    And the spatial index should find the player at 11,10
+
+  Scenario: Moves are recorded in the island's journal
+    Given a new game
+    And the player starts at 10,10
+    And the island's changes are observed
+    And the player is facing "EAST"
+    When the player presses "RIGHT"
+    Then the journal should record 1 MOVE change
+
   Scenario: Look East
     Given a new game
     And the player starts at 10,10
@@ -0,0 +1,35 @@
+Feature: Terrain editing
+
+  Scenario: Flooding a tile turns the grass around it into hills
+    Given a new game
+    And the island's changes are observed
+    When the tile at 14,19 is turned into "WATER"
+    And the island is updated
+    Then the tile at 14,19 should be "WATER"
+    And the tile at 14,19 should not be walkable
+    And the tile at 13,19 should be "HILL"
+    And the tile at 15,20 should be "HILL"
+    And the tile at 16,19 should be "GRASS"
+    And 1 terrain change of 9 tiles should have been published
+
+  Scenario: Bridging the water with sand restores the grass
+    Given a new game
+    And the island's changes are observed
+    When the tile at 14,19 is turned into "WATER"
+    And the tile at 14,19 is turned into "SAND"
+    And the island is updated
+    Then the tile at 14,19 should be "SAND"
+    And the tile at 13,19 should be "GRASS"
+    And the tile at 13,18 should be "GRASS"
+    And 1 terrain change of 9 tiles should have been published
+
+  Scenario: Flooding the tile under an actor closes it for navigation
+    Given a new game
+    And the tile at 15,19 is turned into "SAND"
+    And a Mob stands at 14,19
+    When the tile at 14,19 is turned into "WATER"
+    And the mob steps "EAST"
+    Then the mob should stand at 15,19
+    And the tiles 15,19 and 14,19 should not be connected
+    When the tile at 14,19 is turned into "SAND"
+    Then the tiles 15,19 and 14,19 should be connected